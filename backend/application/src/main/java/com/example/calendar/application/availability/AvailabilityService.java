@@ -1,18 +1,37 @@
 package com.example.calendar.application.availability;
 
+import com.example.calendar.application.dto.AvailabilityBitmaskResponse;
+import com.example.calendar.application.dto.AvailabilityRangesResponse;
+import com.example.calendar.application.dto.AvailabilityRuleRequest;
+import com.example.calendar.application.dto.AvailabilityRuleResponse;
 import com.example.calendar.application.dto.AvailabilitySlotDto;
 import com.example.calendar.application.dto.BulkAvailabilityRequest;
+import com.example.calendar.application.dto.Page;
 import com.example.calendar.application.dto.SingleAvailabilityRequest;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface AvailabilityService {
-    List<AvailabilitySlotDto> list(UUID developerId, OffsetDateTime from, OffsetDateTime to);
+    Page<AvailabilitySlotDto> list(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, String pageToken, Integer pageSize);
+
+    void export(UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<AvailabilitySlotDto> sink);
+
+    AvailabilityRangesResponse listRanges(UUID developerId, OffsetDateTime from, OffsetDateTime to);
+
+    AvailabilityBitmaskResponse listBitmask(UUID developerId, OffsetDateTime from, OffsetDateTime to);
 
     AvailabilitySlotDto add(UUID developerId, SingleAvailabilityRequest request);
 
     void remove(UUID developerId, SingleAvailabilityRequest request);
 
     List<AvailabilitySlotDto> bulkAdd(UUID developerId, BulkAvailabilityRequest request);
+
+    List<AvailabilityRuleResponse> listRules(UUID developerId);
+
+    AvailabilityRuleResponse addRule(UUID developerId, AvailabilityRuleRequest request);
+
+    void removeRule(UUID developerId, UUID ruleId);
 }
@@ -1,38 +1,142 @@
 package com.example.calendar.application.availability;
 
+import com.example.calendar.application.dto.AvailabilityBitmaskResponse;
+import com.example.calendar.application.dto.AvailabilityRangeDto;
+import com.example.calendar.application.dto.AvailabilityRangesResponse;
+import com.example.calendar.application.dto.AvailabilityRuleRequest;
+import com.example.calendar.application.dto.AvailabilityRuleResponse;
 import com.example.calendar.application.dto.AvailabilitySlotDto;
 import com.example.calendar.application.dto.BulkAvailabilityRequest;
+import com.example.calendar.application.dto.Page;
 import com.example.calendar.application.dto.SingleAvailabilityRequest;
+import com.example.calendar.application.paging.KeysetPaging;
+import com.example.calendar.application.port.out.AvailabilityReadPort;
+import com.example.calendar.application.port.out.CalendarEventPort;
+import com.example.calendar.domain.model.AvailabilityIndex;
+import com.example.calendar.domain.model.AvailabilityRule;
 import com.example.calendar.domain.model.AvailabilitySlot;
+import com.example.calendar.domain.model.KeysetCursor;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
 import com.example.calendar.domain.repository.AvailabilitySlotRepository;
+import com.example.calendar.domain.repository.BookingRepository;
+import com.example.calendar.domain.repository.CalendarVersionRepository;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class DefaultAvailabilityService implements AvailabilityService {
+    /** Longest window a read, bulk add or rule may span; each builds an index with one word per day of it. */
+    static final Duration MAX_WINDOW = Duration.ofDays(366);
     private static final int SLOT_MINUTES = 30;
 
     private final AvailabilitySlotRepository availabilitySlotRepository;
+    private final AvailabilityRuleRepository availabilityRuleRepository;
+    private final RuleAvailability ruleAvailability;
+    private final AvailabilityReadPort availabilityReadPort;
+    private final CalendarVersionRepository calendarVersionRepository;
+    private final CalendarEventPort calendarEventPort;
     private final Clock clock;
 
-    public DefaultAvailabilityService(AvailabilitySlotRepository availabilitySlotRepository, Clock clock) {
+    public DefaultAvailabilityService(
+            AvailabilitySlotRepository availabilitySlotRepository,
+            AvailabilityRuleRepository availabilityRuleRepository,
+            BookingRepository bookingRepository,
+            AvailabilityReadPort availabilityReadPort,
+            CalendarVersionRepository calendarVersionRepository,
+            CalendarEventPort calendarEventPort,
+            Clock clock) {
         this.availabilitySlotRepository = availabilitySlotRepository;
+        this.availabilityRuleRepository = availabilityRuleRepository;
+        this.ruleAvailability = new RuleAvailability(availabilityRuleRepository, bookingRepository);
+        this.availabilityReadPort = availabilityReadPort;
+        this.calendarVersionRepository = calendarVersionRepository;
+        this.calendarEventPort = calendarEventPort;
         this.clock = clock;
     }
 
     @Override
-    public List<AvailabilitySlotDto> list(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
-        return availabilitySlotRepository
-                .findAllByDeveloperIdAndStartAtBetweenOrderByStartAt(developerId, from, to)
-                .stream()
-                .map(slot -> new AvailabilitySlotDto(slot.getId(), slot.getStartAt(), slot.getDurationMinutes()))
-                .toList();
+    public Page<AvailabilitySlotDto> list(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, String pageToken, Integer pageSize) {
+        requireWindow(from, to);
+        int size = KeysetPaging.pageSize(pageSize);
+        KeysetCursor after = KeysetPaging.decode(pageToken);
+        List<AvailabilitySlotDto> rows = availabilityReadPort.findPage(developerId, from, to, after, size + 1);
+        OffsetDateTime windowStart = after != null && after.startAt().isAfter(from) ? after.startAt() : from;
+        OffsetDateTime windowEnd = to.plusMinutes(SLOT_MINUTES);
+        List<AvailabilityRule> rules = windowStart.isBefore(windowEnd)
+                ? ruleAvailability.rules(developerId, windowStart, windowEnd)
+                : List.of();
+        if (rules.isEmpty()) {
+            return KeysetPaging.page(rows, size, AvailabilitySlotDto::startAt, AvailabilitySlotDto::id);
+        }
+        // start times are unique per developer, so the cursor's start alone decides what comes after it
+        List<AvailabilitySlotDto> merged = new ArrayList<>(rows);
+        int taken = 0;
+        for (OffsetDateTime startAt :
+                ruleAvailability.freeSlots(developerId, rules, windowStart, windowEnd).slotStarts()) {
+            if (taken > size) {
+                break;
+            }
+            if ((after == null || startAt.isAfter(after.startAt())) && !startAt.isAfter(to)) {
+                merged.add(ruleSlot(developerId, startAt));
+                taken++;
+            }
+        }
+        merged.sort(Comparator.comparing(AvailabilitySlotDto::startAt));
+        return KeysetPaging.page(
+                merged.subList(0, Math.min(merged.size(), size + 1)),
+                size,
+                AvailabilitySlotDto::startAt,
+                AvailabilitySlotDto::id);
+    }
+
+    @Override
+    public void export(UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<AvailabilitySlotDto> sink) {
+        requireWindow(from, to);
+        OffsetDateTime windowEnd = to.plusMinutes(SLOT_MINUTES);
+        List<AvailabilityRule> rules = ruleAvailability.rules(developerId, from, windowEnd);
+        List<OffsetDateTime> ruleSlots = rules.isEmpty()
+                ? List.of()
+                : ruleAvailability.freeSlots(developerId, rules, from, windowEnd).slotStarts().stream()
+                        .filter(startAt -> !startAt.isAfter(to))
+                        .toList();
+        // stored slots arrive in start order, so rule slots are interleaved as they are passed
+        int[] next = {0};
+        availabilitySlotRepository.forEachByDeveloperIdAndStartAtBetweenOrderByStartAt(developerId, from, to, slot -> {
+            while (next[0] < ruleSlots.size() && ruleSlots.get(next[0]).isBefore(slot.getStartAt())) {
+                sink.accept(ruleSlot(developerId, ruleSlots.get(next[0]++)));
+            }
+            sink.accept(new AvailabilitySlotDto(slot.getId(), slot.getStartAt(), slot.getDurationMinutes()));
+        });
+        while (next[0] < ruleSlots.size()) {
+            sink.accept(ruleSlot(developerId, ruleSlots.get(next[0]++)));
+        }
+    }
+
+    @Override
+    public AvailabilityRangesResponse listRanges(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        requireWindow(from, to);
+        return new AvailabilityRangesResponse(effectiveIndex(developerId, from, to).ranges().stream()
+                .map(range -> new AvailabilityRangeDto(range.start(), range.end()))
+                .toList());
+    }
+
+    @Override
+    public AvailabilityBitmaskResponse listBitmask(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        requireWindow(from, to);
+        AvailabilityIndex index = effectiveIndex(developerId, from, to);
+        long[] days = new long[index.dayCount()];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = index.dayMask(index.firstDay().plusDays(i));
+        }
+        return new AvailabilityBitmaskResponse(index.firstDay(), SLOT_MINUTES, days);
     }
 
     @Override
@@ -40,6 +144,20 @@ public class DefaultAvailabilityService implements AvailabilityService {
         OffsetDateTime startAt = requireNonNull(request.startAt(), "startAt");
         validateStart(startAt);
         ensureFuture(startAt);
+        OffsetDateTime endAt = startAt.plusMinutes(SLOT_MINUTES);
+        List<AvailabilityRule> rules = ruleAvailability.rules(developerId, startAt, endAt);
+        if (RuleAvailability.covers(rules, startAt)) {
+            // the exception of a booked rule slot is what keeps the booking's time taken
+            if (ruleAvailability.bookedSlots(developerId, startAt, endAt).contains(startAt)) {
+                throw new IllegalStateException("Slot is booked");
+            }
+            if (availabilityRuleRepository.removeExceptions(developerId, List.of(startAt)).isEmpty()) {
+                throw new IllegalStateException("Availability already exists");
+            }
+            calendarVersionRepository.bump(developerId);
+            calendarEventPort.slotsAdded(developerId, List.of(startAt));
+            return ruleSlot(developerId, startAt);
+        }
         if (availabilitySlotRepository.existsByDeveloperIdAndStartAt(developerId, startAt)) {
             throw new IllegalStateException("Availability already exists");
         }
@@ -48,6 +166,8 @@ public class DefaultAvailabilityService implements AvailabilityService {
         slot.setStartAt(startAt);
         slot.setDurationMinutes(SLOT_MINUTES);
         AvailabilitySlot saved = availabilitySlotRepository.save(slot);
+        calendarVersionRepository.bump(developerId);
+        calendarEventPort.slotsAdded(developerId, List.of(saved.getStartAt()));
         return new AvailabilitySlotDto(saved.getId(), saved.getStartAt(), saved.getDurationMinutes());
     }
 
@@ -55,9 +175,21 @@ public class DefaultAvailabilityService implements AvailabilityService {
     public void remove(UUID developerId, SingleAvailabilityRequest request) {
         OffsetDateTime startAt = requireNonNull(request.startAt(), "startAt");
         ensureFuture(startAt);
+        List<AvailabilityRule> rules = ruleAvailability.rules(developerId, startAt, startAt.plusMinutes(SLOT_MINUTES));
+        if (RuleAvailability.covers(rules, startAt)) {
+            if (!availabilityRuleRepository.addExceptions(developerId, List.of(startAt)).isEmpty()) {
+                calendarVersionRepository.bump(developerId);
+                calendarEventPort.slotsRemoved(developerId, List.of(startAt));
+            }
+            return;
+        }
         availabilitySlotRepository
                 .findByDeveloperIdAndStartAt(developerId, startAt)
-                .ifPresent(availabilitySlotRepository::delete);
+                .ifPresent(slot -> {
+                    availabilitySlotRepository.delete(slot);
+                    calendarVersionRepository.bump(developerId);
+                    calendarEventPort.slotsRemoved(developerId, List.of(slot.getStartAt()));
+                });
     }
 
     @Override
@@ -72,8 +204,17 @@ public class DefaultAvailabilityService implements AvailabilityService {
         if (!request.dailyEnd().isAfter(request.dailyStart())) {
             throw new IllegalArgumentException("Daily end time must be after start time");
         }
-        List<AvailabilitySlotDto> created = new ArrayList<>();
-        Set<OffsetDateTime> toCreate = new HashSet<>();
+        OffsetDateTime rangeStart = request.startDate().atTime(request.dailyStart()).atOffset(ZoneOffset.UTC);
+        OffsetDateTime rangeEnd = request.endDate().atTime(request.dailyEnd()).atOffset(ZoneOffset.UTC);
+        requireWindow(rangeStart, rangeEnd);
+        validateStart(rangeStart);
+        List<AvailabilityRule> rules = ruleAvailability.rules(developerId, rangeStart, rangeEnd);
+        AvailabilityIndex existing = effectiveIndex(developerId, rules, rangeStart, rangeEnd);
+        AvailabilityIndex booked = rules.isEmpty()
+                ? new AvailabilityIndex(rangeStart, rangeEnd)
+                : ruleAvailability.bookedSlots(developerId, rangeStart, rangeEnd);
+        List<OffsetDateTime> toCreate = new ArrayList<>();
+        List<OffsetDateTime> toRestore = new ArrayList<>();
         LocalDate day = request.startDate();
         while (!day.isAfter(request.endDate())) {
             OffsetDateTime dayStart = day.atTime(request.dailyStart()).atOffset(ZoneOffset.UTC);
@@ -84,26 +225,185 @@ public class DefaultAvailabilityService implements AvailabilityService {
                 if (cursor.isBefore(now())) {
                     continue;
                 }
-                if (!availabilitySlotRepository.existsByDeveloperIdAndStartAt(developerId, cursor)) {
+                if (existing.contains(cursor)) {
+                    continue;
+                }
+                if (RuleAvailability.covers(rules, cursor)) {
+                    // booked rule slots stay excepted until their booking is declined
+                    if (!booked.contains(cursor)) {
+                        toRestore.add(cursor);
+                    }
+                } else {
                     toCreate.add(cursor);
                 }
             }
             day = day.plusDays(1);
         }
-        toCreate.stream().sorted().forEach(start -> {
-            validateStart(start);
-            AvailabilitySlot slot = new AvailabilitySlot();
-            slot.setDeveloperId(developerId);
-            slot.setStartAt(start);
-            slot.setDurationMinutes(SLOT_MINUTES);
-            try {
-                AvailabilitySlot saved = availabilitySlotRepository.save(slot);
-                created.add(new AvailabilitySlotDto(saved.getId(), saved.getStartAt(), saved.getDurationMinutes()));
-            } catch (RuntimeException ex) {
-                // another request may have created the slot, ignore
+        if (toCreate.isEmpty() && toRestore.isEmpty()) {
+            return List.of();
+        }
+        List<AvailabilitySlotDto> added = new ArrayList<>();
+        if (!toCreate.isEmpty()) {
+            for (AvailabilitySlot slot : availabilitySlotRepository.insertMissing(developerId, toCreate)) {
+                added.add(new AvailabilitySlotDto(slot.getId(), slot.getStartAt(), slot.getDurationMinutes()));
+            }
+        }
+        if (!toRestore.isEmpty()) {
+            for (OffsetDateTime startAt : availabilityRuleRepository.removeExceptions(developerId, toRestore)) {
+                added.add(ruleSlot(developerId, startAt));
+            }
+        }
+        if (!added.isEmpty()) {
+            added.sort(Comparator.comparing(AvailabilitySlotDto::startAt));
+            calendarVersionRepository.bump(developerId);
+            calendarEventPort.slotsAdded(developerId, added.stream().map(AvailabilitySlotDto::startAt).toList());
+        }
+        return added;
+    }
+
+    @Override
+    public List<AvailabilityRuleResponse> listRules(UUID developerId) {
+        return availabilityRuleRepository.findAllByDeveloperId(developerId).stream()
+                .map(this::toRuleResponse)
+                .toList();
+    }
+
+    @Override
+    public AvailabilityRuleResponse addRule(UUID developerId, AvailabilityRuleRequest request) {
+        if (request.weekdays() == null || request.weekdays().isEmpty()) {
+            throw new IllegalArgumentException("weekdays must not be empty");
+        }
+        requireNonNull(request.startDate(), "startDate");
+        requireNonNull(request.endDate(), "endDate");
+        requireNonNull(request.dailyStart(), "dailyStart");
+        requireNonNull(request.dailyEnd(), "dailyEnd");
+        if (request.endDate().isBefore(request.startDate())) {
+            throw new IllegalArgumentException("End date must be on or after start date");
+        }
+        if (request.startDate().plusDays(MAX_WINDOW.toDays()).isBefore(request.endDate())) {
+            throw new IllegalArgumentException("A rule must not span more than " + MAX_WINDOW.toDays() + " days");
+        }
+        if (!request.dailyEnd().isAfter(request.dailyStart())) {
+            throw new IllegalArgumentException("Daily end time must be after start time");
+        }
+        validateStart(request.startDate().atTime(request.dailyStart()).atOffset(ZoneOffset.UTC));
+        validateStart(request.startDate().atTime(request.dailyEnd()).atOffset(ZoneOffset.UTC));
+        OffsetDateTime spanEnd = request.endDate().plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        if (!spanEnd.isAfter(now())) {
+            throw new IllegalArgumentException("Cannot modify past availability");
+        }
+        OffsetDateTime spanStart = latest(request.startDate().atStartOfDay().atOffset(ZoneOffset.UTC), now());
+        AvailabilityIndex before = effectiveIndex(developerId, spanStart, spanEnd);
+
+        AvailabilityRule rule = availabilityRuleRepository.save(new AvailabilityRule(
+                null,
+                developerId,
+                request.weekdays(),
+                request.dailyStart(),
+                request.dailyEnd(),
+                request.startDate(),
+                request.endDate()));
+        // the rule now stands for the stored slots it covers, and booked time under it stays taken
+        AvailabilityIndex stored = availabilitySlotRepository.loadIndex(developerId, spanStart, spanEnd);
+        List<OffsetDateTime> absorbed =
+                stored.slotStarts().stream().filter(rule::covers).toList();
+        if (!absorbed.isEmpty()) {
+            availabilitySlotRepository.deleteStartTimes(developerId, absorbed);
+        }
+        AvailabilityIndex ruleSlots = new AvailabilityIndex(spanStart, spanEnd);
+        rule.addTo(ruleSlots, spanStart, spanEnd);
+        AvailabilityIndex free = ruleAvailability.freeSlots(developerId, List.of(rule), spanStart, spanEnd);
+        List<OffsetDateTime> booked = ruleSlots.slotStarts().stream()
+                .filter(startAt -> !free.contains(startAt))
+                .toList();
+        if (!booked.isEmpty()) {
+            availabilityRuleRepository.addExceptions(developerId, booked);
+        }
+
+        List<OffsetDateTime> added = effectiveIndex(developerId, spanStart, spanEnd).slotStarts().stream()
+                .filter(startAt -> !before.contains(startAt))
+                .toList();
+        calendarVersionRepository.bump(developerId);
+        if (!added.isEmpty()) {
+            calendarEventPort.slotsAdded(developerId, added);
+        }
+        return toRuleResponse(rule);
+    }
+
+    @Override
+    public void removeRule(UUID developerId, UUID ruleId) {
+        AvailabilityRule rule = availabilityRuleRepository
+                .findByIdAndDeveloperId(ruleId, developerId)
+                .orElseThrow(() -> new IllegalArgumentException("Availability rule not found"));
+        OffsetDateTime spanEnd = rule.getEndDate().plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime spanStart = latest(rule.getStartDate().atStartOfDay().atOffset(ZoneOffset.UTC), now());
+        if (!spanEnd.isAfter(spanStart)) {
+            availabilityRuleRepository.delete(rule);
+            calendarVersionRepository.bump(developerId);
+            return;
+        }
+        AvailabilityIndex before = effectiveIndex(developerId, spanStart, spanEnd);
+        availabilityRuleRepository.delete(rule);
+        // exceptions only matter while some rule covers their start
+        List<AvailabilityRule> remaining = ruleAvailability.rules(developerId, spanStart, spanEnd);
+        List<OffsetDateTime> orphaned = new ArrayList<>();
+        availabilityRuleRepository.forEachExceptionStart(List.of(developerId), spanStart, spanEnd, (ignored, startAt) -> {
+            if (!RuleAvailability.covers(remaining, startAt)) {
+                orphaned.add(startAt);
             }
         });
-        return created;
+        if (!orphaned.isEmpty()) {
+            availabilityRuleRepository.removeExceptions(developerId, orphaned);
+        }
+        AvailabilityIndex after = effectiveIndex(developerId, remaining, spanStart, spanEnd);
+        List<OffsetDateTime> removed =
+                before.slotStarts().stream().filter(startAt -> !after.contains(startAt)).toList();
+        calendarVersionRepository.bump(developerId);
+        if (!removed.isEmpty()) {
+            calendarEventPort.slotsRemoved(developerId, removed);
+        }
+    }
+
+    private AvailabilityIndex effectiveIndex(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        return effectiveIndex(developerId, ruleAvailability.rules(developerId, from, to), from, to);
+    }
+
+    /** Stored slots plus free rule slots; the two never share a start. */
+    private AvailabilityIndex effectiveIndex(
+            UUID developerId, List<AvailabilityRule> rules, OffsetDateTime from, OffsetDateTime to) {
+        AvailabilityIndex index = availabilitySlotRepository.loadIndex(developerId, from, to);
+        if (!rules.isEmpty()) {
+            for (OffsetDateTime startAt : ruleAvailability.freeSlots(developerId, rules, from, to).slotStarts()) {
+                index.set(startAt);
+            }
+        }
+        return index;
+    }
+
+    private AvailabilitySlotDto ruleSlot(UUID developerId, OffsetDateTime startAt) {
+        return new AvailabilitySlotDto(AvailabilityRule.slotId(developerId, startAt), startAt, SLOT_MINUTES);
+    }
+
+    private AvailabilityRuleResponse toRuleResponse(AvailabilityRule rule) {
+        return new AvailabilityRuleResponse(
+                rule.getId(),
+                rule.getWeekdays(),
+                rule.getDailyStart(),
+                rule.getDailyEnd(),
+                rule.getStartDate(),
+                rule.getEndDate());
+    }
+
+    private static OffsetDateTime latest(OffsetDateTime a, OffsetDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private void requireWindow(OffsetDateTime from, OffsetDateTime to) {
+        requireNonNull(from, "from");
+        requireNonNull(to, "to");
+        if (to.toEpochSecond() - from.toEpochSecond() > MAX_WINDOW.toSeconds()) {
+            throw new IllegalArgumentException("Window must not exceed " + MAX_WINDOW.toDays() + " days");
+        }
     }
 
     private void ensureFuture(OffsetDateTime startAt) {
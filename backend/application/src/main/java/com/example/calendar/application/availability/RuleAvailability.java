@@ -0,0 +1,86 @@
+package com.example.calendar.application.availability;
+
+import com.example.calendar.domain.model.AvailabilityIndex;
+import com.example.calendar.domain.model.AvailabilityRule;
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.BookingStatus;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
+import com.example.calendar.domain.repository.BookingRepository;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Evaluates availability rules as rule slots minus exceptions minus bookings. Shared by the availability and
+ * booking services so both see the same free time.
+ */
+public final class RuleAvailability {
+    private static final int MAX_BOOKING_MINUTES = 120;
+    private static final Set<BookingStatus> ACTIVE = EnumSet.of(BookingStatus.NOT_APPROVED, BookingStatus.APPROVED);
+
+    private final AvailabilityRuleRepository availabilityRuleRepository;
+    private final BookingRepository bookingRepository;
+
+    public RuleAvailability(AvailabilityRuleRepository availabilityRuleRepository, BookingRepository bookingRepository) {
+        this.availabilityRuleRepository = availabilityRuleRepository;
+        this.bookingRepository = bookingRepository;
+    }
+
+    public static boolean covers(List<AvailabilityRule> rules, OffsetDateTime slotStart) {
+        for (AvailabilityRule rule : rules) {
+            if (rule.covers(slotStart)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Rules of the developer that may produce slots starting within {@code [from, to)}. */
+    public List<AvailabilityRule> rules(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        return availabilityRuleRepository.findActiveBetween(
+                List.of(developerId),
+                from.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate(),
+                to.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate());
+    }
+
+    /** Free rule slots starting within {@code [from, to)}; stored slots are not included. */
+    public AvailabilityIndex freeSlots(
+            UUID developerId, List<AvailabilityRule> rules, OffsetDateTime from, OffsetDateTime to) {
+        AvailabilityIndex index = new AvailabilityIndex(from, to);
+        if (rules.isEmpty()) {
+            return index;
+        }
+        for (AvailabilityRule rule : rules) {
+            rule.addTo(index, from, to);
+        }
+        availabilityRuleRepository.forEachExceptionStart(
+                List.of(developerId), from, to, (ignored, startAt) -> index.clear(startAt));
+        forEachBookedStart(developerId, from, to, index::clear);
+        return index;
+    }
+
+    /** Slot starts within {@code [from, to)} held by an active booking of the developer. */
+    public AvailabilityIndex bookedSlots(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        AvailabilityIndex index = new AvailabilityIndex(from, to);
+        forEachBookedStart(developerId, from, to, index::set);
+        return index;
+    }
+
+    private void forEachBookedStart(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<OffsetDateTime> action) {
+        List<Booking> bookings = bookingRepository.findAllByDeveloperIdAndStatusInAndStartAtBetween(
+                developerId, ACTIVE, from.minusMinutes(MAX_BOOKING_MINUTES), to);
+        for (Booking booking : bookings) {
+            for (int minutes = 0; minutes < booking.getDurationMinutes(); minutes += AvailabilityIndex.SLOT_MINUTES) {
+                OffsetDateTime slotStart = booking.getStartAt().plusMinutes(minutes);
+                if (!slotStart.isBefore(from) && slotStart.isBefore(to)) {
+                    action.accept(slotStart);
+                }
+            }
+        }
+    }
+}
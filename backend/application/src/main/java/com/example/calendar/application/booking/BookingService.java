@@ -1,7 +1,10 @@
 package com.example.calendar.application.booking;
 
+import com.example.calendar.application.dto.BookingActionRequest;
 import com.example.calendar.application.dto.BookingResponse;
+import com.example.calendar.application.dto.BulkDeclineRequest;
 import com.example.calendar.application.dto.CreatePublicBookingRequest;
+import com.example.calendar.application.dto.Page;
 import com.example.calendar.application.dto.PublicBookingResponse;
 import com.example.calendar.domain.model.Booking;
 import com.example.calendar.domain.model.Role;
@@ -9,13 +12,18 @@ import com.example.calendar.domain.model.User;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface BookingService {
     BookingResponse createPublicBooking(User developer, CreatePublicBookingRequest request);
 
-    List<PublicBookingResponse> getPublicBookings(UUID developerId, OffsetDateTime from, OffsetDateTime to, Role viewer);
+    Page<PublicBookingResponse> getPublicBookings(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Role viewer, String pageToken, Integer pageSize);
 
-    List<BookingResponse> getDeveloperBookings(UUID developerId, OffsetDateTime from, OffsetDateTime to);
+    Page<BookingResponse> getDeveloperBookings(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, String pageToken, Integer pageSize);
+
+    void exportDeveloperBookings(UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<BookingResponse> sink);
 
     BookingResponse approve(UUID developerId, UUID bookingId);
 
@@ -23,5 +31,9 @@ public interface BookingService {
 
     BookingResponse decline(UUID developerId, UUID bookingId);
 
+    List<BookingResponse> declineAll(UUID developerId, BulkDeclineRequest request);
+
+    List<BookingResponse> applyAll(UUID developerId, List<BookingActionRequest> actions);
+
     List<Booking> findApprovedStartingWithin(UUID developerId, OffsetDateTime from, OffsetDateTime to);
 }
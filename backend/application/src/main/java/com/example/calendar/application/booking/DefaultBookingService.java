@@ -1,47 +1,80 @@
 package com.example.calendar.application.booking;
 
+import com.example.calendar.application.availability.RuleAvailability;
+import com.example.calendar.application.dto.BookingActionRequest;
 import com.example.calendar.application.dto.BookingResponse;
+import com.example.calendar.application.dto.BulkDeclineRequest;
 import com.example.calendar.application.dto.CreatePublicBookingRequest;
+import com.example.calendar.application.dto.Page;
 import com.example.calendar.application.dto.PublicBookingResponse;
+import com.example.calendar.application.paging.KeysetPaging;
+import com.example.calendar.application.port.out.BookingReadPort;
+import com.example.calendar.application.port.out.CalendarEventPort;
 import com.example.calendar.application.port.out.NotificationPort;
+import com.example.calendar.domain.model.AvailabilityRule;
 import com.example.calendar.domain.model.AvailabilitySlot;
 import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.BookingConflictException;
 import com.example.calendar.domain.model.BookingStatus;
 import com.example.calendar.domain.model.Role;
 import com.example.calendar.domain.model.User;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
 import com.example.calendar.domain.repository.AvailabilitySlotRepository;
 import com.example.calendar.domain.repository.BookingRepository;
+import com.example.calendar.domain.repository.CalendarVersionRepository;
 import com.example.calendar.domain.repository.EventTypeRepository;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.EnumSet;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class DefaultBookingService implements BookingService {
+    static final int MAX_BULK_BOOKINGS = 500;
+    /** Longest window a bulk decline may name; bookings never overlap, so it bounds the rows read. */
+    static final Duration MAX_DECLINE_WINDOW = Duration.ofDays(31);
     private static final Set<Integer> ALLOWED_DURATIONS = Set.of(30, 60, 90, 120);
 
     private final BookingRepository bookingRepository;
+    private final BookingReadPort bookingReadPort;
     private final AvailabilitySlotRepository availabilitySlotRepository;
+    private final AvailabilityRuleRepository availabilityRuleRepository;
+    private final RuleAvailability ruleAvailability;
     private final EventTypeRepository eventTypeRepository;
+    private final CalendarVersionRepository calendarVersionRepository;
     private final NotificationPort notificationPort;
+    private final CalendarEventPort calendarEventPort;
     private final Clock clock;
 
     public DefaultBookingService(
             BookingRepository bookingRepository,
+            BookingReadPort bookingReadPort,
             AvailabilitySlotRepository availabilitySlotRepository,
+            AvailabilityRuleRepository availabilityRuleRepository,
             EventTypeRepository eventTypeRepository,
+            CalendarVersionRepository calendarVersionRepository,
             NotificationPort notificationPort,
+            CalendarEventPort calendarEventPort,
             Clock clock) {
         this.bookingRepository = bookingRepository;
+        this.bookingReadPort = bookingReadPort;
         this.availabilitySlotRepository = availabilitySlotRepository;
+        this.availabilityRuleRepository = availabilityRuleRepository;
+        this.ruleAvailability = new RuleAvailability(availabilityRuleRepository, bookingRepository);
         this.eventTypeRepository = eventTypeRepository;
+        this.calendarVersionRepository = calendarVersionRepository;
         this.notificationPort = notificationPort;
+        this.calendarEventPort = calendarEventPort;
         this.clock = clock;
     }
 
@@ -55,24 +88,31 @@ public class DefaultBookingService implements BookingService {
         ensureFuture(startAt);
         ensureEventTypeExists(developer.getId(), request.eventTypeName());
         OffsetDateTime endAt = startAt.plusMinutes(duration);
-        List<AvailabilitySlot> slots = availabilitySlotRepository.lockRange(developer.getId(), startAt, endAt);
-        Map<OffsetDateTime, AvailabilitySlot> byStart = new HashMap<>();
-        for (AvailabilitySlot slot : slots) {
-            byStart.put(slot.getStartAt(), slot);
-        }
-        List<AvailabilitySlot> toConsume = new ArrayList<>();
-        for (OffsetDateTime cursor = startAt; cursor.isBefore(endAt); cursor = cursor.plusMinutes(30)) {
-            AvailabilitySlot slot = byStart.get(cursor);
-            if (slot == null) {
-                throw new IllegalStateException("Requested time is no longer available");
+        List<AvailabilityRule> rules = ruleAvailability.rules(developer.getId(), startAt, endAt);
+        List<OffsetDateTime> fromRules = new ArrayList<>();
+        List<OffsetDateTime> stored = new ArrayList<>();
+        for (OffsetDateTime slotStart : slotStarts(startAt, duration)) {
+            if (RuleAvailability.covers(rules, slotStart)) {
+                fromRules.add(slotStart);
+            } else {
+                stored.add(slotStart);
             }
-            toConsume.add(slot);
         }
+        int reserved;
         try {
-            availabilitySlotRepository.deleteAll(toConsume);
+            if (fromRules.isEmpty()) {
+                reserved = availabilitySlotRepository.reserveRange(developer.getId(), startAt, endAt);
+            } else {
+                // a rule slot is taken by excepting it; the primary key lets only one booking do that
+                reserved = availabilityRuleRepository.addExceptions(developer.getId(), fromRules).size()
+                        + (stored.isEmpty() ? 0 : availabilitySlotRepository.deleteStartTimes(developer.getId(), stored));
+            }
         } catch (RuntimeException ex) {
             throw new IllegalStateException("Failed to reserve availability", ex);
         }
+        if (reserved != duration / 30) {
+            throw new BookingConflictException("Requested time is no longer available");
+        }
         Booking booking = new Booking();
         booking.setDeveloperId(developer.getId());
         booking.setCreatedByRole(createdByRole);
@@ -84,27 +124,38 @@ public class DefaultBookingService implements BookingService {
         booking.setHrName(request.hrName());
         booking.setHrEmail(request.hrEmail());
         booking.setMeetingLink(request.meetingLink());
+        // the overlap constraint on booking has the final word, even if availability was out of sync
         Booking saved = bookingRepository.save(booking);
+        calendarVersionRepository.bump(developer.getId());
+        calendarEventPort.slotsRemoved(developer.getId(), slotStarts(saved));
+        calendarEventPort.bookingChanged(saved);
         notificationPort.notifyBookingCreated(developer, saved);
         return toBookingResponse(saved);
     }
 
     @Override
-    public List<PublicBookingResponse> getPublicBookings(UUID developerId, OffsetDateTime from, OffsetDateTime to, Role viewer) {
-        return bookingRepository
-                .findAllByDeveloperIdAndStartAtBetweenOrderByStartAt(developerId, from, to)
-                .stream()
-                .map(booking -> toPublicBookingResponse(booking, viewer))
-                .toList();
+    public Page<PublicBookingResponse> getPublicBookings(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Role viewer, String pageToken, Integer pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        List<PublicBookingResponse> rows = bookingReadPort.findPublicPage(
+                developerId, from, to, viewer, KeysetPaging.decode(pageToken), size + 1);
+        return KeysetPaging.page(rows, size, PublicBookingResponse::startAt, PublicBookingResponse::id);
     }
 
     @Override
-    public List<BookingResponse> getDeveloperBookings(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
-        return bookingRepository
-                .findAllByDeveloperIdAndStartAtBetweenOrderByStartAt(developerId, from, to)
-                .stream()
-                .map(this::toBookingResponse)
-                .toList();
+    public Page<BookingResponse> getDeveloperBookings(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, String pageToken, Integer pageSize) {
+        int size = KeysetPaging.pageSize(pageSize);
+        List<BookingResponse> rows =
+                bookingReadPort.findPage(developerId, from, to, KeysetPaging.decode(pageToken), size + 1);
+        return KeysetPaging.page(rows, size, BookingResponse::startAt, BookingResponse::id);
+    }
+
+    @Override
+    public void exportDeveloperBookings(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<BookingResponse> sink) {
+        bookingRepository.forEachByDeveloperIdAndStartAtBetweenOrderByStartAt(
+                developerId, from, to, booking -> sink.accept(toBookingResponse(booking)));
     }
 
     @Override
@@ -113,6 +164,8 @@ public class DefaultBookingService implements BookingService {
         ensureFuture(booking.getStartAt());
         booking.approve();
         Booking saved = bookingRepository.save(booking);
+        calendarVersionRepository.bump(developerId);
+        calendarEventPort.bookingChanged(saved);
         return toBookingResponse(saved);
     }
 
@@ -122,6 +175,8 @@ public class DefaultBookingService implements BookingService {
         ensureFuture(booking.getStartAt());
         booking.unapprove();
         Booking saved = bookingRepository.save(booking);
+        calendarVersionRepository.bump(developerId);
+        calendarEventPort.bookingChanged(saved);
         return toBookingResponse(saved);
     }
 
@@ -132,28 +187,198 @@ public class DefaultBookingService implements BookingService {
         if (booking.getStatus() == BookingStatus.DECLINED) {
             return toBookingResponse(booking);
         }
-        OffsetDateTime cursor = booking.getStartAt();
-        for (int minutes = 0; minutes < booking.getDurationMinutes(); minutes += 30) {
-            OffsetDateTime slotStart = cursor.plusMinutes(minutes);
-            if (!availabilitySlotRepository.existsByDeveloperIdAndStartAt(developerId, slotStart)) {
-                AvailabilitySlot slot = new AvailabilitySlot();
-                slot.setDeveloperId(developerId);
-                slot.setStartAt(slotStart);
-                slot.setDurationMinutes(30);
-                availabilitySlotRepository.save(slot);
-            }
-        }
+        List<OffsetDateTime> restored = releaseSlots(developerId, List.of(booking));
         booking.decline();
         Booking saved = bookingRepository.save(booking);
+        calendarVersionRepository.bump(developerId);
+        if (!restored.isEmpty()) {
+            calendarEventPort.slotsAdded(developerId, restored);
+        }
+        calendarEventPort.bookingChanged(saved);
         return toBookingResponse(saved);
     }
 
+    @Override
+    public List<BookingResponse> declineAll(UUID developerId, BulkDeclineRequest request) {
+        List<Booking> bookings = bookingsToDecline(developerId, request);
+        List<Booking> live = bookings.stream()
+                .filter(booking -> booking.getStatus() != BookingStatus.DECLINED)
+                .toList();
+        if (!live.isEmpty()) {
+            List<OffsetDateTime> restored = releaseSlots(developerId, live);
+            bookingRepository.updateStatus(live.stream().map(Booking::getId).toList(), BookingStatus.DECLINED);
+            live.forEach(Booking::decline);
+            calendarVersionRepository.bump(developerId);
+            if (!restored.isEmpty()) {
+                calendarEventPort.slotsAdded(developerId, restored);
+            }
+            live.forEach(calendarEventPort::bookingChanged);
+        }
+        return bookings.stream()
+                .sorted(Comparator.comparing(Booking::getStartAt))
+                .map(this::toBookingResponse)
+                .toList();
+    }
+
+    @Override
+    public List<BookingResponse> applyAll(UUID developerId, List<BookingActionRequest> actions) {
+        if (actions == null || actions.isEmpty()) {
+            throw new IllegalArgumentException("actions must not be empty");
+        }
+        if (actions.size() > MAX_BULK_BOOKINGS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_BOOKINGS + " bookings can be changed at once");
+        }
+        Set<UUID> ids = new LinkedHashSet<>();
+        for (BookingActionRequest action : actions) {
+            if (action.bookingId() == null || action.action() == null) {
+                throw new IllegalArgumentException("bookingId and action must not be null");
+            }
+            if (!ids.add(action.bookingId())) {
+                throw new IllegalArgumentException("Booking " + action.bookingId() + " is listed more than once");
+            }
+        }
+        Map<UUID, Booking> bookings = bookingRepository.findAllByIdInAndDeveloperId(ids, developerId).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        if (bookings.size() != ids.size()) {
+            throw new IllegalArgumentException("Booking not found");
+        }
+        bookings.values().forEach(booking -> ensureFuture(booking.getStartAt()));
+        for (BookingActionRequest action : actions) {
+            // Booking refuses this too; checked up front so that no booking of the batch changes
+            if (bookings.get(action.bookingId()).getStatus() == BookingStatus.DECLINED
+                    && action.action() != BookingActionRequest.Action.DECLINE) {
+                throw new IllegalArgumentException("Booking " + action.bookingId() + " is declined");
+            }
+        }
+
+        List<Booking> changed = new ArrayList<>();
+        List<Booking> declined = new ArrayList<>();
+        for (BookingActionRequest action : actions) {
+            Booking booking = bookings.get(action.bookingId());
+            BookingStatus before = booking.getStatus();
+            switch (action.action()) {
+                case APPROVE -> booking.approve();
+                case UNAPPROVE -> booking.unapprove();
+                case DECLINE -> booking.decline();
+            }
+            if (booking.getStatus() != before) {
+                changed.add(booking);
+                if (booking.getStatus() == BookingStatus.DECLINED) {
+                    declined.add(booking);
+                }
+            }
+        }
+        if (!changed.isEmpty()) {
+            List<OffsetDateTime> restored = declined.isEmpty() ? List.of() : releaseSlots(developerId, declined);
+            bookingRepository.updateStatuses(changed);
+            calendarVersionRepository.bump(developerId);
+            if (!restored.isEmpty()) {
+                calendarEventPort.slotsAdded(developerId, restored);
+            }
+            changed.forEach(calendarEventPort::bookingChanged);
+        }
+        return actions.stream()
+                .map(action -> toBookingResponse(bookings.get(action.bookingId())))
+                .toList();
+    }
+
     @Override
     public List<Booking> findApprovedStartingWithin(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
         return bookingRepository.findAllByDeveloperIdAndStatusInAndStartAtBetween(
                 developerId, EnumSet.of(BookingStatus.APPROVED), from, to);
     }
 
+    private List<Booking> bookingsToDecline(UUID developerId, BulkDeclineRequest request) {
+        boolean byIds = request.bookingIds() != null && !request.bookingIds().isEmpty();
+        boolean byWindow = request.from() != null || request.to() != null;
+        if (byIds == byWindow) {
+            throw new IllegalArgumentException("Either bookingIds or from and to must be given");
+        }
+        if (byIds) {
+            Set<UUID> ids = new LinkedHashSet<>(request.bookingIds());
+            if (ids.size() > MAX_BULK_BOOKINGS) {
+                throw new IllegalArgumentException("At most " + MAX_BULK_BOOKINGS + " bookings can be changed at once");
+            }
+            List<Booking> bookings = bookingRepository.findAllByIdInAndDeveloperId(ids, developerId);
+            if (bookings.size() != ids.size()) {
+                throw new IllegalArgumentException("Booking not found");
+            }
+            bookings.forEach(booking -> ensureFuture(booking.getStartAt()));
+            return bookings;
+        }
+        OffsetDateTime from = requireNonNull(request.from(), "from");
+        OffsetDateTime to = requireNonNull(request.to(), "to");
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+        if (to.toEpochSecond() - from.toEpochSecond() > MAX_DECLINE_WINDOW.toSeconds()) {
+            throw new IllegalArgumentException("Window must not exceed " + MAX_DECLINE_WINDOW.toDays() + " days");
+        }
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        List<Booking> bookings = bookingRepository
+                .findAllByDeveloperIdAndStatusInAndStartAtBetween(
+                        developerId,
+                        EnumSet.of(BookingStatus.NOT_APPROVED, BookingStatus.APPROVED),
+                        from.isBefore(now) ? now : from,
+                        to)
+                .stream()
+                .filter(booking -> booking.getStartAt().isBefore(to))
+                .toList();
+        if (bookings.size() > MAX_BULK_BOOKINGS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_BOOKINGS + " bookings can be changed at once");
+        }
+        return bookings;
+    }
+
+    /**
+     * Gives the slots of the bookings back in a fixed number of statements, however many bookings there
+     * are: rule slots by dropping their exceptions, the rest as stored slots in one insert. Returns the
+     * starts that became free.
+     */
+    private List<OffsetDateTime> releaseSlots(UUID developerId, List<Booking> bookings) {
+        OffsetDateTime from = null;
+        OffsetDateTime to = null;
+        for (Booking booking : bookings) {
+            OffsetDateTime end = booking.getStartAt().plusMinutes(booking.getDurationMinutes());
+            from = from == null || booking.getStartAt().isBefore(from) ? booking.getStartAt() : from;
+            to = to == null || end.isAfter(to) ? end : to;
+        }
+        List<AvailabilityRule> rules = ruleAvailability.rules(developerId, from, to);
+        List<OffsetDateTime> fromRules = new ArrayList<>();
+        List<OffsetDateTime> stored = new ArrayList<>();
+        for (Booking booking : bookings) {
+            for (OffsetDateTime slotStart : slotStarts(booking)) {
+                if (RuleAvailability.covers(rules, slotStart)) {
+                    fromRules.add(slotStart);
+                } else {
+                    stored.add(slotStart);
+                }
+            }
+        }
+        List<OffsetDateTime> restored = new ArrayList<>();
+        if (!fromRules.isEmpty()) {
+            restored.addAll(availabilityRuleRepository.removeExceptions(developerId, fromRules));
+        }
+        if (!stored.isEmpty()) {
+            for (AvailabilitySlot slot : availabilitySlotRepository.insertMissing(developerId, stored)) {
+                restored.add(slot.getStartAt());
+            }
+        }
+        return restored;
+    }
+
+    private List<OffsetDateTime> slotStarts(Booking booking) {
+        return slotStarts(booking.getStartAt(), booking.getDurationMinutes());
+    }
+
+    private List<OffsetDateTime> slotStarts(OffsetDateTime startAt, int durationMinutes) {
+        List<OffsetDateTime> starts = new ArrayList<>();
+        for (int minutes = 0; minutes < durationMinutes; minutes += 30) {
+            starts.add(startAt.plusMinutes(minutes));
+        }
+        return starts;
+    }
+
     private void ensureEventTypeExists(UUID developerId, String eventTypeName) {
         String trimmed = requireNonNull(eventTypeName, "eventTypeName").trim();
         eventTypeRepository
@@ -203,22 +428,6 @@ public class DefaultBookingService implements BookingService {
                 booking.getCreatedByRole().name());
     }
 
-    private PublicBookingResponse toPublicBookingResponse(Booking booking, Role viewer) {
-        boolean canView = viewer != null && booking.getCreatedByRole() == viewer;
-        return new PublicBookingResponse(
-                booking.getId(),
-                booking.getStartAt(),
-                booking.getDurationMinutes(),
-                booking.getStatus(),
-                canView ? booking.getEventTypeName() : null,
-                canView ? booking.getCompany() : null,
-                canView ? booking.getHrName() : null,
-                canView ? booking.getHrEmail() : null,
-                canView ? booking.getMeetingLink() : null,
-                booking.getCreatedByRole().name(),
-                !canView);
-    }
-
     private Role requireRole(String roleValue) {
         Role role = parseRole(roleValue);
         if (role == null) {
@@ -0,0 +1,7 @@
+package com.example.calendar.application.calendar;
+
+import java.util.UUID;
+
+public interface CalendarVersionService {
+    long currentVersion(UUID developerId);
+}
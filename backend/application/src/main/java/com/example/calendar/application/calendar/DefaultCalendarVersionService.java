@@ -0,0 +1,17 @@
+package com.example.calendar.application.calendar;
+
+import com.example.calendar.domain.repository.CalendarVersionRepository;
+import java.util.UUID;
+
+public class DefaultCalendarVersionService implements CalendarVersionService {
+    private final CalendarVersionRepository calendarVersionRepository;
+
+    public DefaultCalendarVersionService(CalendarVersionRepository calendarVersionRepository) {
+        this.calendarVersionRepository = calendarVersionRepository;
+    }
+
+    @Override
+    public long currentVersion(UUID developerId) {
+        return calendarVersionRepository.current(developerId);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.calendar.application.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One mask per UTC day starting at {@code firstDay}; bit {@code n} marks the slot starting
+ * {@code n * slotMinutes} minutes after midnight.
+ */
+public record AvailabilityBitmaskResponse(LocalDate firstDay, int slotMinutes, long[] days) {}
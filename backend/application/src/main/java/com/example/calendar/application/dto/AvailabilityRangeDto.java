@@ -0,0 +1,5 @@
+package com.example.calendar.application.dto;
+
+import java.time.OffsetDateTime;
+
+public record AvailabilityRangeDto(OffsetDateTime start, OffsetDateTime end) {}
@@ -0,0 +1,5 @@
+package com.example.calendar.application.dto;
+
+import java.util.List;
+
+public record AvailabilityRangesResponse(List<AvailabilityRangeDto> ranges) {}
@@ -0,0 +1,9 @@
+package com.example.calendar.application.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record AvailabilityRuleRequest(
+        Set<DayOfWeek> weekdays, LocalTime dailyStart, LocalTime dailyEnd, LocalDate startDate, LocalDate endDate) {}
@@ -0,0 +1,15 @@
+package com.example.calendar.application.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+
+public record AvailabilityRuleResponse(
+        UUID id,
+        Set<DayOfWeek> weekdays,
+        LocalTime dailyStart,
+        LocalTime dailyEnd,
+        LocalDate startDate,
+        LocalDate endDate) {}
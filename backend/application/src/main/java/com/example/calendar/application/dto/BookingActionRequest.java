@@ -0,0 +1,12 @@
+package com.example.calendar.application.dto;
+
+import java.util.UUID;
+
+/** One status change in a bulk request. */
+public record BookingActionRequest(UUID bookingId, Action action) {
+    public enum Action {
+        APPROVE,
+        UNAPPROVE,
+        DECLINE
+    }
+}
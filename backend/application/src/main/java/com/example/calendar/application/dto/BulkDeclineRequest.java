@@ -0,0 +1,8 @@
+package com.example.calendar.application.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/** Either the bookings to decline, or a window whose future bookings are all declined. */
+public record BulkDeclineRequest(List<UUID> bookingIds, OffsetDateTime from, OffsetDateTime to) {}
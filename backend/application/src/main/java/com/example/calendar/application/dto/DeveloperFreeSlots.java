@@ -0,0 +1,6 @@
+package com.example.calendar.application.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record DeveloperFreeSlots(String publicToken, List<OffsetDateTime> startTimes) {}
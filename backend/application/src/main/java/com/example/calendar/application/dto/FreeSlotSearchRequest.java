@@ -0,0 +1,7 @@
+package com.example.calendar.application.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record FreeSlotSearchRequest(
+        List<String> publicTokens, int durationMinutes, OffsetDateTime from, OffsetDateTime to) {}
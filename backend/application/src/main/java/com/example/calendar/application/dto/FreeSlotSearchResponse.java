@@ -0,0 +1,5 @@
+package com.example.calendar.application.dto;
+
+import java.util.List;
+
+public record FreeSlotSearchResponse(int durationMinutes, List<DeveloperFreeSlots> developers) {}
@@ -0,0 +1,6 @@
+package com.example.calendar.application.dto;
+
+import java.util.List;
+
+/** One page of a keyset-paginated list; {@code nextPageToken} is {@code null} on the last page. */
+public record Page<T>(List<T> items, String nextPageToken) {}
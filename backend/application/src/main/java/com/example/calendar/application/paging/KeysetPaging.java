@@ -0,0 +1,70 @@
+package com.example.calendar.application.paging;
+
+import com.example.calendar.application.dto.Page;
+import com.example.calendar.domain.model.KeysetCursor;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Page size limits and the opaque continuation token for lists ordered by {@code (start_at, id)}. The token
+ * only carries the position of the last returned row, so pages stay stable while rows are added or removed.
+ */
+public final class KeysetPaging {
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private KeysetPaging() {
+    }
+
+    /** Defaults to and caps at {@link #MAX_PAGE_SIZE}. */
+    public static int pageSize(Integer requested) {
+        if (requested == null) {
+            return MAX_PAGE_SIZE;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            Instant startAt = Instant.parse(decoded.substring(0, separator));
+            UUID id = UUID.fromString(decoded.substring(separator + 1));
+            return new KeysetCursor(startAt.atOffset(ZoneOffset.UTC), id);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid page token");
+        }
+    }
+
+    public static String encode(KeysetCursor cursor) {
+        String raw = cursor.startAt().toInstant() + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds the page from {@code rows} fetched with a limit of {@code size + 1}; the extra row only
+     * signals that another page follows.
+     */
+    public static <T> Page<T> page(
+            List<T> rows, int size, Function<T, OffsetDateTime> startAt, Function<T, UUID> id) {
+        boolean hasMore = rows.size() > size;
+        List<T> visible = hasMore ? rows.subList(0, size) : rows;
+        String nextPageToken = null;
+        if (hasMore) {
+            T last = visible.get(size - 1);
+            nextPageToken = encode(new KeysetCursor(startAt.apply(last), id.apply(last)));
+        }
+        return new Page<>(List.copyOf(visible), nextPageToken);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.calendar.application.port.out;
+
+import com.example.calendar.application.dto.AvailabilitySlotDto;
+import com.example.calendar.domain.model.KeysetCursor;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/** Read-only projections of availability, returned without building domain objects first. */
+public interface AvailabilityReadPort {
+    /**
+     * Up to {@code limit} slots starting within {@code [from, to]} ordered by {@code (start_at, id)}, beginning
+     * after {@code after} or at the start of the range when it is {@code null}.
+     */
+    List<AvailabilitySlotDto> findPage(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, KeysetCursor after, int limit);
+
+    /**
+     * Hands the start of every slot of the given developers within {@code [from, to)} to {@code action},
+     * ordered by developer and then start time, from a single query.
+     */
+    void forEachSlotStart(
+            Collection<UUID> developerIds,
+            OffsetDateTime from,
+            OffsetDateTime to,
+            BiConsumer<UUID, OffsetDateTime> action);
+}
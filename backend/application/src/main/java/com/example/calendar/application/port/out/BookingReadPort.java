@@ -0,0 +1,26 @@
+package com.example.calendar.application.port.out;
+
+import com.example.calendar.application.dto.BookingResponse;
+import com.example.calendar.application.dto.PublicBookingResponse;
+import com.example.calendar.domain.model.KeysetCursor;
+import com.example.calendar.domain.model.Role;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/** Read-only projections of bookings, returned without building domain objects first. */
+public interface BookingReadPort {
+    /**
+     * Up to {@code limit} bookings starting within {@code [from, to]} ordered by {@code (start_at, id)},
+     * beginning after {@code after} or at the start of the range when it is {@code null}.
+     */
+    List<BookingResponse> findPage(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, KeysetCursor after, int limit);
+
+    /**
+     * Like {@link #findPage} but as the public calendar shows bookings to {@code viewer}: details are only
+     * filled in for bookings created by the viewer's role, every other booking is marked occupied.
+     */
+    List<PublicBookingResponse> findPublicPage(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Role viewer, KeysetCursor after, int limit);
+}
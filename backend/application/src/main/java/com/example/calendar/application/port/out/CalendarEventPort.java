@@ -0,0 +1,14 @@
+package com.example.calendar.application.port.out;
+
+import com.example.calendar.domain.model.Booking;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface CalendarEventPort {
+    void bookingChanged(Booking booking);
+
+    void slotsAdded(UUID developerId, List<OffsetDateTime> slotStarts);
+
+    void slotsRemoved(UUID developerId, List<OffsetDateTime> slotStarts);
+}
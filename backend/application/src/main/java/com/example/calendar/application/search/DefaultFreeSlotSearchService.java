@@ -0,0 +1,188 @@
+package com.example.calendar.application.search;
+
+import com.example.calendar.application.dto.DeveloperFreeSlots;
+import com.example.calendar.application.dto.FreeSlotSearchRequest;
+import com.example.calendar.application.dto.FreeSlotSearchResponse;
+import com.example.calendar.application.port.out.AvailabilityReadPort;
+import com.example.calendar.domain.model.AvailabilityIndex;
+import com.example.calendar.domain.model.AvailabilityRule;
+import com.example.calendar.domain.model.Role;
+import com.example.calendar.domain.model.User;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
+import com.example.calendar.domain.repository.UserRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Searches developers by the public tokens of their calendars, so callers need nothing more than they
+ * already need to see each calendar on its own. Developer ids stay internal.
+ */
+public class DefaultFreeSlotSearchService implements FreeSlotSearchService {
+    static final int MAX_DEVELOPERS = 500;
+    static final Duration MAX_WINDOW = Duration.ofDays(7);
+    private static final int SLOT_MINUTES = 30;
+    private static final Set<Integer> ALLOWED_DURATIONS = Set.of(30, 60, 90, 120);
+
+    private final UserRepository userRepository;
+    private final AvailabilityReadPort availabilityReadPort;
+    private final AvailabilityRuleRepository availabilityRuleRepository;
+    private final Clock clock;
+
+    public DefaultFreeSlotSearchService(
+            UserRepository userRepository,
+            AvailabilityReadPort availabilityReadPort,
+            AvailabilityRuleRepository availabilityRuleRepository,
+            Clock clock) {
+        this.userRepository = userRepository;
+        this.availabilityReadPort = availabilityReadPort;
+        this.availabilityRuleRepository = availabilityRuleRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    public FreeSlotSearchResponse search(FreeSlotSearchRequest request) {
+        if (request.publicTokens() == null || request.publicTokens().isEmpty()) {
+            throw new IllegalArgumentException("publicTokens must not be empty");
+        }
+        Set<String> tokens = new LinkedHashSet<>(request.publicTokens());
+        if (tokens.size() > MAX_DEVELOPERS) {
+            throw new IllegalArgumentException("At most " + MAX_DEVELOPERS + " developers can be searched at once");
+        }
+        if (!ALLOWED_DURATIONS.contains(request.durationMinutes())) {
+            throw new IllegalArgumentException("Duration must be one of 30/60/90/120");
+        }
+        if (request.from() == null || request.to() == null) {
+            throw new IllegalArgumentException("from and to must not be null");
+        }
+        if (!request.to().isAfter(request.from())) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+        if (Duration.between(request.from(), request.to()).compareTo(MAX_WINDOW) > 0) {
+            throw new IllegalArgumentException("Search window must not exceed " + MAX_WINDOW.toDays() + " days");
+        }
+        Map<UUID, String> tokensById = developers(tokens);
+        Set<UUID> developerIds = tokensById.keySet();
+        Map<UUID, AvailabilityIndex> ruleSlots = ruleSlots(developerIds, request.from(), request.to());
+        Sweep sweep = new Sweep(request.durationMinutes(), OffsetDateTime.now(clock), request.to(), tokensById);
+        availabilityReadPort.forEachSlotStart(developerIds, request.from(), request.to(), (developerId, startAt) -> {
+            AvailabilityIndex index = ruleSlots.get(developerId);
+            if (index == null) {
+                sweep.accept(developerId, startAt);
+            } else {
+                index.set(startAt);
+            }
+        });
+        ruleSlots.forEach((developerId, index) -> index.slotStarts().forEach(startAt -> sweep.accept(developerId, startAt)));
+        return new FreeSlotSearchResponse(request.durationMinutes(), sweep.finish());
+    }
+
+    /** Developer ids by public token, from one query; any token that is not a developer's fails the search. */
+    private Map<UUID, String> developers(Set<String> tokens) {
+        Map<UUID, String> tokensById = new HashMap<>();
+        for (User user : userRepository.findAllByPublicTokenIn(tokens)) {
+            if (user.getRole() == Role.DEV) {
+                tokensById.put(user.getId(), user.getPublicToken());
+            }
+        }
+        if (tokensById.size() < tokens.size()) {
+            throw new IllegalArgumentException("Developer token not found");
+        }
+        return tokensById;
+    }
+
+    /**
+     * Free rule slots of the developers that have rules in the window, from one query for the rules and one
+     * for their exceptions. Booked rule slots are always excepted, so bookings are not read here.
+     */
+    private Map<UUID, AvailabilityIndex> ruleSlots(Set<UUID> developerIds, OffsetDateTime from, OffsetDateTime to) {
+        Map<UUID, AvailabilityIndex> indexes = new HashMap<>();
+        List<AvailabilityRule> rules = availabilityRuleRepository.findActiveBetween(
+                developerIds,
+                from.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate(),
+                to.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate());
+        for (AvailabilityRule rule : rules) {
+            rule.addTo(indexes.computeIfAbsent(rule.getDeveloperId(), ignored -> new AvailabilityIndex(from, to)), from, to);
+        }
+        if (!indexes.isEmpty()) {
+            availabilityRuleRepository.forEachExceptionStart(
+                    indexes.keySet(), from, to, (developerId, startAt) -> indexes.get(developerId).clear(startAt));
+        }
+        return indexes;
+    }
+
+    /**
+     * Walks one developer's slots at a time in start order, merging back-to-back slots into runs. Every start
+     * inside a run that leaves room for the whole meeting before the run ends is a match.
+     */
+    private static final class Sweep {
+        private final int durationMinutes;
+        private final OffsetDateTime notBefore;
+        private final OffsetDateTime windowEnd;
+        private final Map<UUID, String> tokensById;
+        private final List<DeveloperFreeSlots> matches = new ArrayList<>();
+        private final List<OffsetDateTime> starts = new ArrayList<>();
+        private UUID developerId;
+        private OffsetDateTime runStart;
+        private OffsetDateTime runEnd;
+
+        Sweep(int durationMinutes, OffsetDateTime notBefore, OffsetDateTime windowEnd, Map<UUID, String> tokensById) {
+            this.durationMinutes = durationMinutes;
+            this.notBefore = notBefore;
+            this.windowEnd = windowEnd;
+            this.tokensById = tokensById;
+        }
+
+        void accept(UUID slotDeveloperId, OffsetDateTime slotStart) {
+            if (!slotDeveloperId.equals(developerId)) {
+                closeRun();
+                closeDeveloper();
+                developerId = slotDeveloperId;
+            } else if (slotStart.isEqual(runEnd)) {
+                runEnd = slotStart.plusMinutes(SLOT_MINUTES);
+                return;
+            } else {
+                closeRun();
+            }
+            runStart = slotStart;
+            runEnd = slotStart.plusMinutes(SLOT_MINUTES);
+        }
+
+        List<DeveloperFreeSlots> finish() {
+            closeRun();
+            closeDeveloper();
+            matches.sort(Comparator.comparing((DeveloperFreeSlots match) -> match.startTimes().get(0))
+                    .thenComparing(DeveloperFreeSlots::publicToken));
+            return List.copyOf(matches);
+        }
+
+        private void closeRun() {
+            if (runStart == null) {
+                return;
+            }
+            OffsetDateTime lastStart = runEnd.minusMinutes(durationMinutes);
+            for (OffsetDateTime start = runStart; !start.isAfter(lastStart); start = start.plusMinutes(SLOT_MINUTES)) {
+                if (!start.isBefore(notBefore) && !start.plusMinutes(durationMinutes).isAfter(windowEnd)) {
+                    starts.add(start);
+                }
+            }
+            runStart = null;
+        }
+
+        private void closeDeveloper() {
+            if (developerId != null && !starts.isEmpty()) {
+                matches.add(new DeveloperFreeSlots(tokensById.get(developerId), List.copyOf(starts)));
+            }
+            starts.clear();
+        }
+    }
+}
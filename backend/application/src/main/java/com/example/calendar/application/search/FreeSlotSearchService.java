@@ -0,0 +1,12 @@
+package com.example.calendar.application.search;
+
+import com.example.calendar.application.dto.FreeSlotSearchRequest;
+import com.example.calendar.application.dto.FreeSlotSearchResponse;
+
+public interface FreeSlotSearchService {
+    /**
+     * Developers with at least one free block of the requested duration inside the window, each with every
+     * start time that fits, ordered by their earliest start.
+     */
+    FreeSlotSearchResponse search(FreeSlotSearchRequest request);
+}
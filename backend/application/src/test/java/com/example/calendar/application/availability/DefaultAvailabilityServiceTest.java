@@ -0,0 +1,359 @@
+package com.example.calendar.application.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.calendar.application.dto.AvailabilityBitmaskResponse;
+import com.example.calendar.application.dto.AvailabilityRangeDto;
+import com.example.calendar.application.dto.AvailabilityRuleRequest;
+import com.example.calendar.application.dto.AvailabilitySlotDto;
+import com.example.calendar.application.dto.BulkAvailabilityRequest;
+import com.example.calendar.application.dto.Page;
+import com.example.calendar.application.dto.SingleAvailabilityRequest;
+import com.example.calendar.application.port.out.AvailabilityReadPort;
+import com.example.calendar.application.port.out.CalendarEventPort;
+import com.example.calendar.domain.model.AvailabilityIndex;
+import com.example.calendar.domain.model.AvailabilityRule;
+import com.example.calendar.domain.model.AvailabilitySlot;
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.KeysetCursor;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
+import com.example.calendar.domain.repository.AvailabilitySlotRepository;
+import com.example.calendar.domain.repository.BookingRepository;
+import com.example.calendar.domain.repository.CalendarVersionRepository;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultAvailabilityServiceTest {
+    private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(Instant.parse("2025-01-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock private AvailabilitySlotRepository availabilitySlotRepository;
+    @Mock private AvailabilityRuleRepository availabilityRuleRepository;
+    @Mock private BookingRepository bookingRepository;
+    @Mock private AvailabilityReadPort availabilityReadPort;
+    @Mock private CalendarVersionRepository calendarVersionRepository;
+    @Mock private CalendarEventPort calendarEventPort;
+    @Captor private ArgumentCaptor<Collection<OffsetDateTime>> captor;
+
+    private DefaultAvailabilityService availabilityService;
+    private UUID developerId;
+
+    @BeforeEach
+    void setUp() {
+        availabilityService = new DefaultAvailabilityService(
+                availabilitySlotRepository,
+                availabilityRuleRepository,
+                bookingRepository,
+                availabilityReadPort,
+                calendarVersionRepository,
+                calendarEventPort,
+                Clock.fixed(NOW.toInstant(), ZoneOffset.UTC));
+        developerId = UUID.randomUUID();
+    }
+
+    @Test
+    void bulkAddReadsRangeOnceAndInsertsOnlyMissingFutureSlots() {
+        BulkAvailabilityRequest request = new BulkAvailabilityRequest(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2), LocalTime.of(9, 0), LocalTime.of(11, 0));
+        OffsetDateTime rangeStart = OffsetDateTime.of(2025, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime rangeEnd = OffsetDateTime.of(2025, 1, 2, 11, 0, 0, 0, ZoneOffset.UTC);
+        AvailabilityIndex existing = new AvailabilityIndex(rangeStart, rangeEnd);
+        existing.set(OffsetDateTime.of(2025, 1, 2, 9, 30, 0, 0, ZoneOffset.UTC));
+        when(availabilitySlotRepository.loadIndex(developerId, rangeStart, rangeEnd)).thenReturn(existing);
+        when(availabilitySlotRepository.insertMissing(eq(developerId), any())).thenAnswer(invocation -> {
+            Collection<OffsetDateTime> starts = invocation.getArgument(1);
+            return starts.stream().map(start -> new AvailabilitySlot(UUID.randomUUID(), developerId, start, 30)).toList();
+        });
+
+        List<AvailabilitySlotDto> created = availabilityService.bulkAdd(developerId, request);
+
+        verify(availabilitySlotRepository).insertMissing(eq(developerId), captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                NOW,
+                NOW.plusMinutes(30),
+                OffsetDateTime.of(2025, 1, 2, 9, 0, 0, 0, ZoneOffset.UTC),
+                OffsetDateTime.of(2025, 1, 2, 10, 0, 0, 0, ZoneOffset.UTC),
+                OffsetDateTime.of(2025, 1, 2, 10, 30, 0, 0, ZoneOffset.UTC));
+        assertThat(created).hasSize(5);
+        verify(calendarVersionRepository).bump(developerId);
+        verify(calendarEventPort).slotsAdded(developerId, captor.getValue().stream().toList());
+        verify(availabilitySlotRepository, never()).existsByDeveloperIdAndStartAt(any(), any());
+    }
+
+    @Test
+    void listRangesMergesAdjacentSlotsWithoutLoadingRows() {
+        OffsetDateTime from = OffsetDateTime.of(2025, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime to = from.plusDays(1);
+        AvailabilityIndex index = new AvailabilityIndex(from, to);
+        index.set(from.plusHours(9));
+        index.set(from.plusHours(9).plusMinutes(30));
+        index.set(from.plusHours(14));
+        when(availabilitySlotRepository.loadIndex(developerId, from, to)).thenReturn(index);
+
+        assertThat(availabilityService.listRanges(developerId, from, to).ranges()).containsExactly(
+                new AvailabilityRangeDto(from.plusHours(9), from.plusHours(10)),
+                new AvailabilityRangeDto(from.plusHours(14), from.plusHours(14).plusMinutes(30)));
+        verify(availabilityReadPort, never()).findPage(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void listBitmaskReturnsOneMaskPerDay() {
+        OffsetDateTime from = OffsetDateTime.of(2025, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime to = from.plusDays(2);
+        AvailabilityIndex index = new AvailabilityIndex(from, to);
+        index.set(from);
+        index.set(from.plusDays(1).plusHours(1));
+        when(availabilitySlotRepository.loadIndex(developerId, from, to)).thenReturn(index);
+
+        AvailabilityBitmaskResponse response = availabilityService.listBitmask(developerId, from, to);
+
+        assertThat(response.firstDay()).isEqualTo(LocalDate.of(2025, 1, 2));
+        assertThat(response.slotMinutes()).isEqualTo(30);
+        assertThat(response.days()).containsExactly(1L, 1L << 2);
+    }
+
+    @Test
+    void readsRejectWindowsLongerThanAYear() {
+        OffsetDateTime to = NOW.plusDays(367);
+
+        assertThatThrownBy(() -> availabilityService.listBitmask(developerId, NOW, to))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must not exceed");
+        assertThatThrownBy(() -> availabilityService.listRanges(developerId, OffsetDateTime.MIN, OffsetDateTime.MAX))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must not exceed");
+        assertThatThrownBy(() -> availabilityService.list(developerId, NOW, to, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> availabilityService.export(developerId, NOW, to, slot -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(availabilitySlotRepository, never()).loadIndex(any(), any(), any());
+        verify(availabilityReadPort, never()).findPage(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void bulkAddRejectsARangeLongerThanAYear() {
+        BulkAvailabilityRequest request = new BulkAvailabilityRequest(
+                LocalDate.of(2025, 1, 2), LocalDate.of(2999, 12, 31), LocalTime.of(9, 0), LocalTime.of(17, 0));
+
+        assertThatThrownBy(() -> availabilityService.bulkAdd(developerId, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must not exceed");
+        verify(availabilitySlotRepository, never()).loadIndex(any(), any(), any());
+        verify(availabilitySlotRepository, never()).insertMissing(any(), any());
+    }
+
+    @Test
+    void exportHandsSlotsToSinkAsTheyAreRead() {
+        OffsetDateTime from = NOW;
+        OffsetDateTime to = NOW.plusDays(365);
+        AvailabilitySlot first = new AvailabilitySlot(UUID.randomUUID(), developerId, NOW.plusHours(1), 30);
+        AvailabilitySlot second = new AvailabilitySlot(UUID.randomUUID(), developerId, NOW.plusDays(200), 30);
+        doAnswer(invocation -> {
+            Consumer<AvailabilitySlot> action = invocation.getArgument(3);
+            action.accept(first);
+            action.accept(second);
+            return null;
+        }).when(availabilitySlotRepository).forEachByDeveloperIdAndStartAtBetweenOrderByStartAt(
+                eq(developerId), eq(from), eq(to), any());
+        List<AvailabilitySlotDto> exported = new ArrayList<>();
+
+        availabilityService.export(developerId, from, to, exported::add);
+
+        assertThat(exported).containsExactly(
+                new AvailabilitySlotDto(first.getId(), first.getStartAt(), 30),
+                new AvailabilitySlotDto(second.getId(), second.getStartAt(), 30));
+        verify(availabilityReadPort, never()).findPage(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void listReturnsTokenForNextPageWhenMoreRowsExist() {
+        OffsetDateTime from = NOW;
+        OffsetDateTime to = NOW.plusDays(1);
+        List<AvailabilitySlotDto> rows = List.of(
+                new AvailabilitySlotDto(UUID.randomUUID(), NOW, 30),
+                new AvailabilitySlotDto(UUID.randomUUID(), NOW.plusMinutes(30), 30),
+                new AvailabilitySlotDto(UUID.randomUUID(), NOW.plusMinutes(60), 30));
+        when(availabilityReadPort.findPage(developerId, from, to, null, 3))
+                .thenReturn(rows);
+
+        Page<AvailabilitySlotDto> first = availabilityService.list(developerId, from, to, null, 2);
+
+        assertThat(first.items()).extracting(AvailabilitySlotDto::startAt).containsExactly(NOW, NOW.plusMinutes(30));
+        assertThat(first.nextPageToken()).isNotNull();
+
+        KeysetCursor cursor = new KeysetCursor(NOW.plusMinutes(30), rows.get(1).id());
+        when(availabilityReadPort.findPage(developerId, from, to, cursor, 3))
+                .thenReturn(rows.subList(2, 3));
+
+        Page<AvailabilitySlotDto> second = availabilityService.list(developerId, from, to, first.nextPageToken(), 2);
+
+        assertThat(second.items()).extracting(AvailabilitySlotDto::startAt).containsExactly(NOW.plusMinutes(60));
+        assertThat(second.nextPageToken()).isNull();
+    }
+
+    @Test
+    void listCapsPageSizeAndRejectsForgedTokens() {
+        OffsetDateTime to = NOW.plusDays(365);
+        when(availabilityReadPort.findPage(developerId, NOW, to, null, 501))
+                .thenReturn(List.of());
+
+        assertThat(availabilityService.list(developerId, NOW, to, null, 100_000).items()).isEmpty();
+        assertThatThrownBy(() -> availabilityService.list(developerId, NOW, to, "not-a-token", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("page token");
+    }
+
+    @Test
+    void listMergesFreeRuleSlotsWithStoredSlots() {
+        OffsetDateTime day = OffsetDateTime.of(2025, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime to = day.plusHours(23).plusMinutes(30);
+        AvailabilitySlotDto stored = new AvailabilitySlotDto(UUID.randomUUID(), day.plusHours(9), 30);
+        when(availabilityReadPort.findPage(developerId, day, to, null, 501)).thenReturn(List.of(stored));
+        when(availabilityRuleRepository.findActiveBetween(List.of(developerId), day.toLocalDate(), day.toLocalDate().plusDays(1)))
+                .thenReturn(List.of(rule(LocalTime.of(10, 0), LocalTime.of(12, 0))));
+        doAnswer(invocation -> {
+            BiConsumer<UUID, OffsetDateTime> action = invocation.getArgument(3);
+            action.accept(developerId, day.plusHours(10).plusMinutes(30));
+            return null;
+        }).when(availabilityRuleRepository).forEachExceptionStart(eq(List.of(developerId)), any(), any(), any());
+        Booking booking = new Booking();
+        booking.setStartAt(day.plusHours(11));
+        booking.setDurationMinutes(30);
+        when(bookingRepository.findAllByDeveloperIdAndStatusInAndStartAtBetween(eq(developerId), any(), any(), any()))
+                .thenReturn(List.of(booking));
+
+        Page<AvailabilitySlotDto> page = availabilityService.list(developerId, day, to, null, null);
+
+        assertThat(page.items()).extracting(AvailabilitySlotDto::startAt).containsExactly(
+                day.plusHours(9), day.plusHours(10), day.plusHours(11).plusMinutes(30));
+        assertThat(page.items().get(1).id()).isEqualTo(AvailabilityRule.slotId(developerId, day.plusHours(10)));
+    }
+
+    @Test
+    void removingARuleSlotRecordsAnException() {
+        OffsetDateTime startAt = NOW.plusHours(1);
+        when(availabilityRuleRepository.findActiveBetween(any(), any(), any()))
+                .thenReturn(List.of(rule(LocalTime.of(9, 0), LocalTime.of(17, 0))));
+        when(availabilityRuleRepository.addExceptions(developerId, List.of(startAt))).thenReturn(List.of(startAt));
+
+        availabilityService.remove(developerId, new SingleAvailabilityRequest(startAt));
+
+        verify(availabilitySlotRepository, never()).findByDeveloperIdAndStartAt(any(), any());
+        verify(calendarVersionRepository).bump(developerId);
+        verify(calendarEventPort).slotsRemoved(developerId, List.of(startAt));
+    }
+
+    @Test
+    void addingABookedRuleSlotIsRejected() {
+        OffsetDateTime startAt = NOW.plusHours(1);
+        when(availabilityRuleRepository.findActiveBetween(any(), any(), any()))
+                .thenReturn(List.of(rule(LocalTime.of(9, 0), LocalTime.of(17, 0))));
+        when(bookingRepository.findAllByDeveloperIdAndStatusInAndStartAtBetween(eq(developerId), any(), any(), any()))
+                .thenReturn(List.of(booking(startAt.minusMinutes(30), 60)));
+
+        assertThatThrownBy(() -> availabilityService.add(developerId, new SingleAvailabilityRequest(startAt)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("booked");
+        verify(availabilityRuleRepository, never()).removeExceptions(any(), any());
+        verify(calendarVersionRepository, never()).bump(any());
+        verify(calendarEventPort, never()).slotsAdded(any(), any());
+    }
+
+    @Test
+    void bulkAddRestoresOnlyUnbookedRuleSlots() {
+        OffsetDateTime day = OffsetDateTime.of(2025, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC);
+        BulkAvailabilityRequest request = new BulkAvailabilityRequest(
+                day.toLocalDate(), day.toLocalDate(), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        when(availabilitySlotRepository.loadIndex(developerId, day.plusHours(10), day.plusHours(11)))
+                .thenReturn(new AvailabilityIndex(day.plusHours(10), day.plusHours(11)));
+        when(availabilityRuleRepository.findActiveBetween(any(), any(), any()))
+                .thenReturn(List.of(rule(LocalTime.of(9, 0), LocalTime.of(17, 0))));
+        // both slots are excepted, one of them because a booking holds it
+        doAnswer(invocation -> {
+            BiConsumer<UUID, OffsetDateTime> action = invocation.getArgument(3);
+            action.accept(developerId, day.plusHours(10));
+            action.accept(developerId, day.plusHours(10).plusMinutes(30));
+            return null;
+        }).when(availabilityRuleRepository).forEachExceptionStart(eq(List.of(developerId)), any(), any(), any());
+        when(bookingRepository.findAllByDeveloperIdAndStatusInAndStartAtBetween(eq(developerId), any(), any(), any()))
+                .thenReturn(List.of(booking(day.plusHours(10).plusMinutes(30), 30)));
+        when(availabilityRuleRepository.removeExceptions(developerId, List.of(day.plusHours(10))))
+                .thenReturn(List.of(day.plusHours(10)));
+
+        List<AvailabilitySlotDto> added = availabilityService.bulkAdd(developerId, request);
+
+        assertThat(added).extracting(AvailabilitySlotDto::startAt).containsExactly(day.plusHours(10));
+        verify(availabilityRuleRepository).removeExceptions(developerId, List.of(day.plusHours(10)));
+        verify(availabilitySlotRepository, never()).insertMissing(any(), any());
+        verify(calendarEventPort).slotsAdded(developerId, List.of(day.plusHours(10)));
+    }
+
+    @Test
+    void addingARuleReplacesTheStoredSlotsItCovers() {
+        LocalDate day = LocalDate.of(2025, 1, 2);
+        OffsetDateTime spanStart = day.atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime spanEnd = spanStart.plusDays(1);
+        when(availabilitySlotRepository.loadIndex(developerId, spanStart, spanEnd)).thenAnswer(invocation -> {
+            AvailabilityIndex stored = new AvailabilityIndex(spanStart, spanEnd);
+            stored.set(spanStart.plusHours(10));
+            stored.set(spanStart.plusHours(15));
+            return stored;
+        });
+        when(availabilityRuleRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(availabilityRuleRepository.findActiveBetween(any(), any(), any()))
+                .thenReturn(List.of(), List.of(rule(LocalTime.of(10, 0), LocalTime.of(11, 0))));
+
+        availabilityService.addRule(developerId, new AvailabilityRuleRequest(
+                EnumSet.allOf(DayOfWeek.class), LocalTime.of(10, 0), LocalTime.of(11, 0), day, day));
+
+        verify(availabilitySlotRepository).deleteStartTimes(developerId, List.of(spanStart.plusHours(10)));
+        verify(availabilityRuleRepository, never()).addExceptions(any(), any());
+        verify(calendarVersionRepository).bump(developerId);
+        verify(calendarEventPort).slotsAdded(developerId, List.of(spanStart.plusHours(10).plusMinutes(30)));
+    }
+
+    private static Booking booking(OffsetDateTime startAt, int durationMinutes) {
+        Booking booking = new Booking();
+        booking.setStartAt(startAt);
+        booking.setDurationMinutes(durationMinutes);
+        return booking;
+    }
+
+    private AvailabilityRule rule(LocalTime dailyStart, LocalTime dailyEnd) {
+        return new AvailabilityRule(
+                UUID.randomUUID(),
+                developerId,
+                EnumSet.allOf(DayOfWeek.class),
+                dailyStart,
+                dailyEnd,
+                NOW.toLocalDate(),
+                NOW.toLocalDate().plusDays(30));
+    }
+}
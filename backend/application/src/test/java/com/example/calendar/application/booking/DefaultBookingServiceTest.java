@@ -3,28 +3,41 @@ package com.example.calendar.application.booking;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.calendar.application.dto.BookingActionRequest;
 import com.example.calendar.application.dto.BookingResponse;
+import com.example.calendar.application.dto.BulkDeclineRequest;
 import com.example.calendar.application.dto.CreatePublicBookingRequest;
+import com.example.calendar.application.dto.Page;
 import com.example.calendar.application.dto.PublicBookingResponse;
+import com.example.calendar.application.port.out.BookingReadPort;
+import com.example.calendar.application.port.out.CalendarEventPort;
 import com.example.calendar.application.port.out.NotificationPort;
+import com.example.calendar.domain.model.AvailabilityRule;
 import com.example.calendar.domain.model.AvailabilitySlot;
 import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.BookingConflictException;
 import com.example.calendar.domain.model.BookingStatus;
 import com.example.calendar.domain.model.EventType;
 import com.example.calendar.domain.model.Role;
 import com.example.calendar.domain.model.User;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
 import com.example.calendar.domain.repository.AvailabilitySlotRepository;
 import com.example.calendar.domain.repository.BookingRepository;
+import com.example.calendar.domain.repository.CalendarVersionRepository;
 import com.example.calendar.domain.repository.EventTypeRepository;
 import java.time.Clock;
+import java.time.DayOfWeek;
 import java.time.Instant;
+import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,9 +53,13 @@ class DefaultBookingServiceTest {
     private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(Instant.parse("2025-01-01T10:00:00Z"), ZoneOffset.UTC);
 
     @Mock private BookingRepository bookingRepository;
+    @Mock private BookingReadPort bookingReadPort;
     @Mock private AvailabilitySlotRepository availabilitySlotRepository;
+    @Mock private AvailabilityRuleRepository availabilityRuleRepository;
     @Mock private EventTypeRepository eventTypeRepository;
+    @Mock private CalendarVersionRepository calendarVersionRepository;
     @Mock private NotificationPort notificationPort;
+    @Mock private CalendarEventPort calendarEventPort;
 
     private DefaultBookingService bookingService;
     private User developer;
@@ -51,7 +68,15 @@ class DefaultBookingServiceTest {
     void setUp() {
         Clock clock = Clock.fixed(NOW.toInstant(), ZoneOffset.UTC);
         bookingService = new DefaultBookingService(
-                bookingRepository, availabilitySlotRepository, eventTypeRepository, notificationPort, clock);
+                bookingRepository,
+                bookingReadPort,
+                availabilitySlotRepository,
+                availabilityRuleRepository,
+                eventTypeRepository,
+                calendarVersionRepository,
+                notificationPort,
+                calendarEventPort,
+                clock);
         developer = new User();
         developer.setId(UUID.randomUUID());
         developer.setDisplayName("Dev");
@@ -62,12 +87,10 @@ class DefaultBookingServiceTest {
     void createPublicBookingConsumesContiguousSlots() {
         CreatePublicBookingRequest request = new CreatePublicBookingRequest(
                 NOW.plusHours(1), 60, "Screening", "HR", "Acme", "Alice", "alice@example.com", null);
-        AvailabilitySlot first = slotAt(request.startAt());
-        AvailabilitySlot second = slotAt(request.startAt().plusMinutes(30));
         when(eventTypeRepository.findByDeveloperIdAndNameIgnoreCase(developer.getId(), "Screening"))
                 .thenReturn(Optional.of(new EventType()));
-        when(availabilitySlotRepository.lockRange(developer.getId(), request.startAt(), request.startAt().plusMinutes(60)))
-                .thenReturn(List.of(first, second));
+        when(availabilitySlotRepository.reserveRange(developer.getId(), request.startAt(), request.startAt().plusMinutes(60)))
+                .thenReturn(2);
         Booking saved = bookingFromRequest(request);
         saved.setId(UUID.randomUUID());
         when(bookingRepository.save(any(Booking.class))).thenReturn(saved);
@@ -75,10 +98,12 @@ class DefaultBookingServiceTest {
         BookingResponse response = bookingService.createPublicBooking(developer, request);
 
         assertThat(response.id()).isEqualTo(saved.getId());
-        ArgumentCaptor<Iterable<AvailabilitySlot>> captor = ArgumentCaptor.forClass(Iterable.class);
-        verify(availabilitySlotRepository).deleteAll(captor.capture());
-        assertThat(captor.getValue()).containsExactly(first, second);
+        verify(availabilitySlotRepository).reserveRange(
+                developer.getId(), request.startAt(), request.startAt().plusMinutes(60));
         verify(notificationPort).notifyBookingCreated(developer, saved);
+        verify(calendarVersionRepository).bump(developer.getId());
+        verify(calendarEventPort).slotsRemoved(developer.getId(), List.of(request.startAt(), request.startAt().plusMinutes(30)));
+        verify(calendarEventPort).bookingChanged(saved);
     }
 
     @Test
@@ -87,25 +112,42 @@ class DefaultBookingServiceTest {
                 NOW.plusHours(1), 60, "Screening", "HR", "Acme", "Alice", "alice@example.com", null);
         when(eventTypeRepository.findByDeveloperIdAndNameIgnoreCase(developer.getId(), "Screening"))
                 .thenReturn(Optional.of(new EventType()));
-        when(availabilitySlotRepository.lockRange(developer.getId(), request.startAt(), request.startAt().plusMinutes(60)))
-                .thenReturn(List.of(slotAt(request.startAt())));
+        when(availabilitySlotRepository.reserveRange(developer.getId(), request.startAt(), request.startAt().plusMinutes(60)))
+                .thenReturn(1);
 
         assertThatThrownBy(() -> bookingService.createPublicBooking(developer, request))
-                .isInstanceOf(IllegalStateException.class)
+                .isInstanceOf(BookingConflictException.class)
                 .hasMessageContaining("no longer available");
+        verify(bookingRepository, never()).save(any());
+        verify(calendarVersionRepository, never()).bump(any());
+    }
+
+    @Test
+    void createPublicBookingReportsAnOverlapRejectedByTheDatabase() {
+        CreatePublicBookingRequest request = new CreatePublicBookingRequest(
+                NOW.plusHours(1), 60, "Screening", "HR", "Acme", "Alice", "alice@example.com", null);
+        when(eventTypeRepository.findByDeveloperIdAndNameIgnoreCase(developer.getId(), "Screening"))
+                .thenReturn(Optional.of(new EventType()));
+        when(availabilitySlotRepository.reserveRange(developer.getId(), request.startAt(), request.startAt().plusMinutes(60)))
+                .thenReturn(2);
+        when(bookingRepository.save(any(Booking.class)))
+                .thenThrow(new BookingConflictException("Requested time overlaps another booking"));
+
+        assertThatThrownBy(() -> bookingService.createPublicBooking(developer, request))
+                .isInstanceOf(BookingConflictException.class);
+        verify(calendarVersionRepository, never()).bump(any());
+        verify(calendarEventPort, never()).bookingChanged(any());
+        verify(notificationPort, never()).notifyBookingCreated(any(), any());
     }
 
     @Test
     void createPublicBookingPropagatesDataIntegrityIssues() {
         CreatePublicBookingRequest request = new CreatePublicBookingRequest(
                 NOW.plusHours(1), 30, "Screening", "HR", "Acme", "Alice", "alice@example.com", null);
-        AvailabilitySlot slot = slotAt(request.startAt());
         when(eventTypeRepository.findByDeveloperIdAndNameIgnoreCase(developer.getId(), "Screening"))
                 .thenReturn(Optional.of(new EventType()));
-        when(availabilitySlotRepository.lockRange(developer.getId(), request.startAt(), request.startAt().plusMinutes(30)))
-                .thenReturn(List.of(slot));
-        when(bookingRepository.save(any())).thenReturn(bookingFromRequest(request));
-        doThrow(new RuntimeException("conflict")).when(availabilitySlotRepository).deleteAll(any());
+        when(availabilitySlotRepository.reserveRange(developer.getId(), request.startAt(), request.startAt().plusMinutes(30)))
+                .thenThrow(new RuntimeException("conflict"));
 
         assertThatThrownBy(() -> bookingService.createPublicBooking(developer, request))
                 .isInstanceOf(IllegalStateException.class)
@@ -118,8 +160,8 @@ class DefaultBookingServiceTest {
                 NOW.plusHours(1), 30, "Screening", "HR1", "Acme", "Alice", "alice@example.com", null);
         when(eventTypeRepository.findByDeveloperIdAndNameIgnoreCase(developer.getId(), "Screening"))
                 .thenReturn(Optional.of(new EventType()));
-        when(availabilitySlotRepository.lockRange(developer.getId(), request.startAt(), request.startAt().plusMinutes(30)))
-                .thenReturn(List.of(slotAt(request.startAt())));
+        when(availabilitySlotRepository.reserveRange(developer.getId(), request.startAt(), request.startAt().plusMinutes(30)))
+                .thenReturn(1);
         when(bookingRepository.save(any())).thenAnswer(invocation -> {
             Booking booking = invocation.getArgument(0);
             booking.setId(UUID.randomUUID());
@@ -142,16 +184,244 @@ class DefaultBookingServiceTest {
         booking.setStartAt(NOW.plusHours(2));
         booking.setDurationMinutes(120);
         booking.setStatus(BookingStatus.APPROVED);
+        booking.setCreatedByRole(Role.HR);
         when(bookingRepository.findByIdAndDeveloperId(bookingId, developer.getId()))
                 .thenReturn(Optional.of(booking));
-        when(availabilitySlotRepository.existsByDeveloperIdAndStartAt(any(), any())).thenReturn(false);
+        when(bookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<OffsetDateTime> slotStarts = List.of(
+                NOW.plusHours(2), NOW.plusHours(2).plusMinutes(30), NOW.plusHours(3), NOW.plusHours(3).plusMinutes(30));
+        when(availabilitySlotRepository.insertMissing(developer.getId(), slotStarts)).thenReturn(slots(slotStarts));
 
         bookingService.decline(developer.getId(), bookingId);
 
-        verify(availabilitySlotRepository, times(4)).save(any(AvailabilitySlot.class));
+        verify(availabilitySlotRepository, times(1)).insertMissing(developer.getId(), slotStarts);
+        verify(availabilitySlotRepository, never()).existsByDeveloperIdAndStartAt(any(), any());
+        verify(availabilitySlotRepository, never()).save(any(AvailabilitySlot.class));
+        verify(calendarEventPort).slotsAdded(developer.getId(), slotStarts);
+        verify(calendarEventPort).bookingChanged(any());
+        verify(calendarVersionRepository).bump(developer.getId());
         assertThat(booking.getStatus()).isEqualTo(BookingStatus.DECLINED);
     }
 
+    @Test
+    void declineAllReleasesEveryBookingWithOneInsertAndOneUpdate() {
+        Booking first = booking(NOW.plusHours(2), 60, BookingStatus.APPROVED);
+        Booking second = booking(NOW.plusDays(1), 30, BookingStatus.NOT_APPROVED);
+        Booking declined = booking(NOW.plusDays(2), 30, BookingStatus.DECLINED);
+        List<UUID> ids = List.of(second.getId(), first.getId(), declined.getId());
+        when(bookingRepository.findAllByIdInAndDeveloperId(any(), any())).thenReturn(List.of(second, first, declined));
+        List<OffsetDateTime> slotStarts = List.of(NOW.plusDays(1), NOW.plusHours(2), NOW.plusHours(2).plusMinutes(30));
+        when(availabilitySlotRepository.insertMissing(developer.getId(), slotStarts)).thenReturn(slots(slotStarts));
+
+        List<BookingResponse> responses =
+                bookingService.declineAll(developer.getId(), new BulkDeclineRequest(ids, null, null));
+
+        assertThat(responses).extracting(BookingResponse::id).containsExactly(first.getId(), second.getId(), declined.getId());
+        assertThat(responses).extracting(BookingResponse::status).containsOnly(BookingStatus.DECLINED);
+        verify(bookingRepository).updateStatus(List.of(second.getId(), first.getId()), BookingStatus.DECLINED);
+        verify(bookingRepository, never()).save(any());
+        verify(calendarVersionRepository, times(1)).bump(developer.getId());
+        verify(calendarEventPort).slotsAdded(developer.getId(), slotStarts);
+        verify(calendarEventPort, times(2)).bookingChanged(any());
+    }
+
+    @Test
+    void declineAllForAWindowSkipsBookingsThatAlreadyStarted() {
+        Booking booking = booking(NOW.plusDays(3), 30, BookingStatus.APPROVED);
+        when(bookingRepository.findAllByDeveloperIdAndStatusInAndStartAtBetween(
+                        developer.getId(),
+                        EnumSet.of(BookingStatus.NOT_APPROVED, BookingStatus.APPROVED),
+                        NOW,
+                        NOW.plusDays(7)))
+                .thenReturn(List.of(booking));
+        when(availabilitySlotRepository.insertMissing(developer.getId(), List.of(booking.getStartAt())))
+                .thenReturn(slots(List.of(booking.getStartAt())));
+
+        List<BookingResponse> responses = bookingService.declineAll(
+                developer.getId(), new BulkDeclineRequest(null, NOW.minusDays(1), NOW.plusDays(7)));
+
+        assertThat(responses).extracting(BookingResponse::id).containsExactly(booking.getId());
+        verify(bookingRepository).updateStatus(List.of(booking.getId()), BookingStatus.DECLINED);
+    }
+
+    @Test
+    void declineAllRejectsAWindowLongerThanAMonth() {
+        assertThatThrownBy(() -> bookingService.declineAll(
+                        developer.getId(), new BulkDeclineRequest(null, NOW, NOW.plusDays(32))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must not exceed");
+        verify(bookingRepository, never()).findAllByDeveloperIdAndStatusInAndStartAtBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void declineAllRejectsAWindowHoldingMoreBookingsThanOneBulkChange() {
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i <= DefaultBookingService.MAX_BULK_BOOKINGS; i++) {
+            bookings.add(booking(NOW.plusHours(1).plusMinutes(30L * i), 30, BookingStatus.NOT_APPROVED));
+        }
+        when(bookingRepository.findAllByDeveloperIdAndStatusInAndStartAtBetween(any(), any(), any(), any()))
+                .thenReturn(bookings);
+
+        assertThatThrownBy(() -> bookingService.declineAll(
+                        developer.getId(), new BulkDeclineRequest(null, NOW, NOW.plusDays(31))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At most");
+        verify(bookingRepository, never()).updateStatus(any(), any());
+        verify(availabilitySlotRepository, never()).insertMissing(any(), any());
+    }
+
+    @Test
+    void declineAllRejectsUnknownBookingsBeforeChangingAnything() {
+        Booking booking = booking(NOW.plusHours(2), 60, BookingStatus.APPROVED);
+        when(bookingRepository.findAllByIdInAndDeveloperId(any(), any())).thenReturn(List.of(booking));
+
+        assertThatThrownBy(() -> bookingService.declineAll(
+                        developer.getId(), new BulkDeclineRequest(List.of(booking.getId(), UUID.randomUUID()), null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+        verify(bookingRepository, never()).updateStatus(any(), any());
+        verify(availabilitySlotRepository, never()).insertMissing(any(), any());
+    }
+
+    @Test
+    void applyAllWritesEveryChangedBookingInOneBatch() {
+        Booking toApprove = booking(NOW.plusHours(2), 30, BookingStatus.NOT_APPROVED);
+        Booking toDecline = booking(NOW.plusDays(1), 60, BookingStatus.APPROVED);
+        Booking unchanged = booking(NOW.plusDays(2), 30, BookingStatus.NOT_APPROVED);
+        when(bookingRepository.findAllByIdInAndDeveloperId(any(), any()))
+                .thenReturn(List.of(unchanged, toDecline, toApprove));
+        List<OffsetDateTime> slotStarts = List.of(NOW.plusDays(1), NOW.plusDays(1).plusMinutes(30));
+        when(availabilitySlotRepository.insertMissing(developer.getId(), slotStarts)).thenReturn(slots(slotStarts));
+
+        List<BookingResponse> responses = bookingService.applyAll(developer.getId(), List.of(
+                new BookingActionRequest(toApprove.getId(), BookingActionRequest.Action.APPROVE),
+                new BookingActionRequest(toDecline.getId(), BookingActionRequest.Action.DECLINE),
+                new BookingActionRequest(unchanged.getId(), BookingActionRequest.Action.UNAPPROVE)));
+
+        assertThat(responses).extracting(BookingResponse::status)
+                .containsExactly(BookingStatus.APPROVED, BookingStatus.DECLINED, BookingStatus.NOT_APPROVED);
+        verify(bookingRepository).updateStatuses(List.of(toApprove, toDecline));
+        verify(bookingRepository, never()).save(any());
+        verify(calendarVersionRepository, times(1)).bump(developer.getId());
+        verify(calendarEventPort).slotsAdded(developer.getId(), slotStarts);
+        verify(calendarEventPort, times(2)).bookingChanged(any());
+    }
+
+    @Test
+    void applyAllRejectsABookingListedTwice() {
+        UUID id = UUID.randomUUID();
+
+        assertThatThrownBy(() -> bookingService.applyAll(developer.getId(), List.of(
+                        new BookingActionRequest(id, BookingActionRequest.Action.APPROVE),
+                        new BookingActionRequest(id, BookingActionRequest.Action.DECLINE))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("more than once");
+        verify(bookingRepository, never()).findAllByIdInAndDeveloperId(any(), any());
+    }
+
+    @Test
+    void applyAllChangesNothingWhenABookingAlreadyStarted() {
+        Booking future = booking(NOW.plusHours(2), 30, BookingStatus.NOT_APPROVED);
+        Booking past = booking(NOW.minusHours(2), 30, BookingStatus.NOT_APPROVED);
+        when(bookingRepository.findAllByIdInAndDeveloperId(any(), any())).thenReturn(List.of(future, past));
+
+        assertThatThrownBy(() -> bookingService.applyAll(developer.getId(), List.of(
+                        new BookingActionRequest(future.getId(), BookingActionRequest.Action.APPROVE),
+                        new BookingActionRequest(past.getId(), BookingActionRequest.Action.APPROVE))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(future.getStatus()).isEqualTo(BookingStatus.NOT_APPROVED);
+        verify(bookingRepository, never()).updateStatuses(any());
+    }
+
+    @Test
+    void applyAllDoesNotReviveADeclinedBooking() {
+        Booking pending = booking(NOW.plusHours(2), 30, BookingStatus.NOT_APPROVED);
+        Booking declined = booking(NOW.plusDays(1), 60, BookingStatus.DECLINED);
+        when(bookingRepository.findAllByIdInAndDeveloperId(any(), any())).thenReturn(List.of(pending, declined));
+
+        assertThatThrownBy(() -> bookingService.applyAll(developer.getId(), List.of(
+                        new BookingActionRequest(pending.getId(), BookingActionRequest.Action.APPROVE),
+                        new BookingActionRequest(declined.getId(), BookingActionRequest.Action.UNAPPROVE))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is declined");
+        assertThat(pending.getStatus()).isEqualTo(BookingStatus.NOT_APPROVED);
+        assertThat(declined.getStatus()).isEqualTo(BookingStatus.DECLINED);
+        verify(bookingRepository, never()).updateStatuses(any());
+        verify(availabilitySlotRepository, never()).reserveRange(any(), any(), any());
+        verify(calendarVersionRepository, never()).bump(any());
+    }
+
+    @Test
+    void createPublicBookingTakesRuleSlotsByExceptingThem() {
+        CreatePublicBookingRequest request = new CreatePublicBookingRequest(
+                NOW.plusHours(1), 60, "Screening", "HR", "Acme", "Alice", "alice@example.com", null);
+        List<OffsetDateTime> slotStarts = List.of(request.startAt(), request.startAt().plusMinutes(30));
+        when(eventTypeRepository.findByDeveloperIdAndNameIgnoreCase(developer.getId(), "Screening"))
+                .thenReturn(Optional.of(new EventType()));
+        when(availabilityRuleRepository.findActiveBetween(any(), any(), any())).thenReturn(List.of(everyDayRule()));
+        when(availabilityRuleRepository.addExceptions(developer.getId(), slotStarts)).thenReturn(slotStarts);
+        when(bookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        bookingService.createPublicBooking(developer, request);
+
+        verify(availabilitySlotRepository, never()).reserveRange(any(), any(), any());
+        verify(calendarEventPort).slotsRemoved(developer.getId(), slotStarts);
+    }
+
+    @Test
+    void createPublicBookingFailsWhenRuleSlotIsAlreadyExcepted() {
+        CreatePublicBookingRequest request = new CreatePublicBookingRequest(
+                NOW.plusHours(1), 60, "Screening", "HR", "Acme", "Alice", "alice@example.com", null);
+        when(eventTypeRepository.findByDeveloperIdAndNameIgnoreCase(developer.getId(), "Screening"))
+                .thenReturn(Optional.of(new EventType()));
+        when(availabilityRuleRepository.findActiveBetween(any(), any(), any())).thenReturn(List.of(everyDayRule()));
+        when(availabilityRuleRepository.addExceptions(any(), any())).thenReturn(List.of(request.startAt()));
+
+        assertThatThrownBy(() -> bookingService.createPublicBooking(developer, request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no longer available");
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void declineReleasesRuleSlotsByDroppingTheirExceptions() {
+        UUID bookingId = UUID.randomUUID();
+        Booking booking = new Booking();
+        booking.setId(bookingId);
+        booking.setDeveloperId(developer.getId());
+        booking.setStartAt(NOW.plusHours(2));
+        booking.setDurationMinutes(60);
+        booking.setStatus(BookingStatus.NOT_APPROVED);
+        booking.setCreatedByRole(Role.HR);
+        List<OffsetDateTime> slotStarts = List.of(booking.getStartAt(), booking.getStartAt().plusMinutes(30));
+        when(bookingRepository.findByIdAndDeveloperId(bookingId, developer.getId())).thenReturn(Optional.of(booking));
+        when(availabilityRuleRepository.findActiveBetween(any(), any(), any())).thenReturn(List.of(everyDayRule()));
+        when(availabilityRuleRepository.removeExceptions(developer.getId(), slotStarts)).thenReturn(slotStarts);
+        when(bookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        bookingService.decline(developer.getId(), bookingId);
+
+        verify(availabilitySlotRepository, never()).save(any());
+        verify(calendarEventPort).slotsAdded(developer.getId(), slotStarts);
+    }
+
+    @Test
+    void approveAndUnapproveDoNotReviveADeclinedBooking() {
+        Booking declined = booking(NOW.plusHours(2), 30, BookingStatus.DECLINED);
+        when(bookingRepository.findByIdAndDeveloperId(declined.getId(), developer.getId()))
+                .thenReturn(Optional.of(declined));
+
+        assertThatThrownBy(() -> bookingService.approve(developer.getId(), declined.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("declined");
+        assertThatThrownBy(() -> bookingService.unapprove(developer.getId(), declined.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("declined");
+        assertThat(declined.getStatus()).isEqualTo(BookingStatus.DECLINED);
+        verify(bookingRepository, never()).save(any());
+        verify(calendarVersionRepository, never()).bump(any());
+    }
+
     @Test
     void approvePreventsPastChanges() {
         UUID bookingId = UUID.randomUUID();
@@ -168,36 +438,47 @@ class DefaultBookingServiceTest {
     }
 
     @Test
-    void publicBookingsHideDetailsForNonMatchingViewerRole() {
+    void publicBookingsAreReadForTheViewerRole() {
+        PublicBookingResponse hidden = new PublicBookingResponse(
+                UUID.randomUUID(), NOW.plusHours(1), 60, BookingStatus.NOT_APPROVED,
+                null, null, null, null, null, "HR", true);
+        when(bookingReadPort.findPublicPage(developer.getId(), NOW, NOW.plusDays(1), Role.DEV, null, 501))
+                .thenReturn(List.of(hidden));
+
+        Page<PublicBookingResponse> page =
+                bookingService.getPublicBookings(developer.getId(), NOW, NOW.plusDays(1), Role.DEV, null, null);
+
+        assertThat(page.items()).containsExactly(hidden);
+        assertThat(page.nextPageToken()).isNull();
+        verify(bookingRepository, never()).findByIdAndDeveloperId(any(), any());
+    }
+
+    private AvailabilityRule everyDayRule() {
+        return new AvailabilityRule(
+                UUID.randomUUID(),
+                developer.getId(),
+                EnumSet.allOf(DayOfWeek.class),
+                LocalTime.of(9, 0),
+                LocalTime.of(17, 0),
+                NOW.toLocalDate(),
+                NOW.toLocalDate().plusDays(30));
+    }
+
+    private Booking booking(OffsetDateTime startAt, int durationMinutes, BookingStatus status) {
         Booking booking = new Booking();
         booking.setId(UUID.randomUUID());
         booking.setDeveloperId(developer.getId());
-        booking.setStartAt(NOW.plusHours(1));
-        booking.setDurationMinutes(60);
-        booking.setStatus(BookingStatus.NOT_APPROVED);
-        booking.setEventTypeName("Screening");
-        booking.setCompany("Acme");
-        booking.setHrName("Alice");
-        booking.setHrEmail("alice@example.com");
         booking.setCreatedByRole(Role.HR);
-        when(bookingRepository.findAllByDeveloperIdAndStartAtBetweenOrderByStartAt(developer.getId(), NOW, NOW.plusDays(1)))
-                .thenReturn(List.of(booking));
-
-        List<PublicBookingResponse> responses =
-                bookingService.getPublicBookings(developer.getId(), NOW, NOW.plusDays(1), Role.DEV);
-
-        assertThat(responses).hasSize(1);
-        assertThat(responses.get(0).occupied()).isTrue();
-        assertThat(responses.get(0).company()).isNull();
+        booking.setStartAt(startAt);
+        booking.setDurationMinutes(durationMinutes);
+        booking.setStatus(status);
+        return booking;
     }
 
-    private AvailabilitySlot slotAt(OffsetDateTime startAt) {
-        AvailabilitySlot slot = new AvailabilitySlot();
-        slot.setId(UUID.randomUUID());
-        slot.setDeveloperId(developer.getId());
-        slot.setStartAt(startAt);
-        slot.setDurationMinutes(30);
-        return slot;
+    private List<AvailabilitySlot> slots(List<OffsetDateTime> startTimes) {
+        return startTimes.stream()
+                .map(startAt -> new AvailabilitySlot(UUID.randomUUID(), developer.getId(), startAt, 30))
+                .toList();
     }
 
     private Booking bookingFromRequest(CreatePublicBookingRequest request) {
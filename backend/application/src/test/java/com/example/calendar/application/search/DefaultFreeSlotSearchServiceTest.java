@@ -0,0 +1,188 @@
+package com.example.calendar.application.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.calendar.application.dto.DeveloperFreeSlots;
+import com.example.calendar.application.dto.FreeSlotSearchRequest;
+import com.example.calendar.application.dto.FreeSlotSearchResponse;
+import com.example.calendar.application.port.out.AvailabilityReadPort;
+import com.example.calendar.domain.model.AvailabilityRule;
+import com.example.calendar.domain.model.Role;
+import com.example.calendar.domain.model.User;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
+import com.example.calendar.domain.repository.UserRepository;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultFreeSlotSearchServiceTest {
+    private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(Instant.parse("2025-01-06T10:00:00Z"), ZoneOffset.UTC);
+    private static final OffsetDateTime FROM = OffsetDateTime.of(2025, 1, 7, 12, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime TO = FROM.plusHours(6);
+
+    @Mock private UserRepository userRepository;
+    @Mock private AvailabilityReadPort availabilityReadPort;
+    @Mock private AvailabilityRuleRepository availabilityRuleRepository;
+
+    private DefaultFreeSlotSearchService searchService;
+    private UUID alice;
+    private UUID bob;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new DefaultFreeSlotSearchService(
+                userRepository,
+                availabilityReadPort,
+                availabilityRuleRepository,
+                Clock.fixed(NOW.toInstant(), ZoneOffset.UTC));
+        alice = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+        bob = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+        List<User> users = List.of(
+                user(alice, Role.DEV, "alice-token"),
+                user(bob, Role.DEV, "bob-token"),
+                user(UUID.randomUUID(), Role.HR, "hr-token"));
+        // not read by requests rejected up front
+        lenient().when(userRepository.findAllByPublicTokenIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> tokens = invocation.getArgument(0);
+            return users.stream().filter(user -> tokens.contains(user.getPublicToken())).toList();
+        });
+    }
+
+    @Test
+    void findsStartsInsideContiguousRunsOnly() {
+        // 12:00-13:30 free, then a gap, then 14:00 alone
+        givenSlots(Map.of(alice, List.of(FROM, FROM.plusMinutes(30), FROM.plusMinutes(60), FROM.plusMinutes(120))));
+
+        FreeSlotSearchResponse response = searchService.search(new FreeSlotSearchRequest(List.of("alice-token"), 60, FROM, TO));
+
+        assertThat(response.durationMinutes()).isEqualTo(60);
+        assertThat(response.developers()).containsExactly(
+                new DeveloperFreeSlots("alice-token", List.of(FROM, FROM.plusMinutes(30))));
+    }
+
+    @Test
+    void leavesOutDevelopersWithoutARunLongEnough() {
+        givenSlots(Map.of(
+                alice, List.of(FROM, FROM.plusMinutes(60)),
+                bob, List.of(FROM.plusMinutes(90), FROM.plusMinutes(120))));
+
+        FreeSlotSearchResponse response = searchService.search(new FreeSlotSearchRequest(List.of("alice-token", "bob-token"), 60, FROM, TO));
+
+        assertThat(response.developers()).extracting(DeveloperFreeSlots::publicToken).containsExactly("bob-token");
+    }
+
+    @Test
+    void ordersDevelopersByEarliestStart() {
+        givenSlots(Map.of(
+                alice, List.of(FROM.plusHours(2)),
+                bob, List.of(FROM.plusHours(1), FROM.plusHours(3))));
+
+        FreeSlotSearchResponse response = searchService.search(new FreeSlotSearchRequest(List.of("alice-token", "bob-token"), 30, FROM, TO));
+
+        assertThat(response.developers()).extracting(DeveloperFreeSlots::publicToken).containsExactly("bob-token", "alice-token");
+        assertThat(response.developers().get(0).startTimes()).containsExactly(FROM.plusHours(1), FROM.plusHours(3));
+    }
+
+    @Test
+    void skipsStartsInThePast() {
+        OffsetDateTime from = NOW.minusHours(1);
+        givenSlots(Map.of(alice, List.of(from, from.plusMinutes(30), from.plusMinutes(60), from.plusMinutes(90))));
+
+        FreeSlotSearchResponse response =
+                searchService.search(new FreeSlotSearchRequest(List.of("alice-token"), 30, from, from.plusHours(3)));
+
+        assertThat(response.developers()).containsExactly(
+                new DeveloperFreeSlots("alice-token", List.of(NOW, NOW.plusMinutes(30))));
+    }
+
+    @Test
+    void includesFreeRuleSlotsWithoutTheirExceptions() {
+        givenSlots(Map.of(alice, List.of(FROM)));
+        when(availabilityRuleRepository.findActiveBetween(any(), any(), any())).thenReturn(List.of(new AvailabilityRule(
+                UUID.randomUUID(),
+                bob,
+                EnumSet.allOf(DayOfWeek.class),
+                LocalTime.of(13, 0),
+                LocalTime.of(15, 0),
+                FROM.toLocalDate(),
+                FROM.toLocalDate())));
+        doAnswer(invocation -> {
+            BiConsumer<UUID, OffsetDateTime> action = invocation.getArgument(3);
+            action.accept(bob, FROM.plusHours(1).plusMinutes(30));
+            return null;
+        }).when(availabilityRuleRepository).forEachExceptionStart(any(), any(), any(), any());
+
+        FreeSlotSearchResponse response = searchService.search(new FreeSlotSearchRequest(List.of("alice-token", "bob-token"), 60, FROM, TO));
+
+        assertThat(response.developers()).containsExactly(new DeveloperFreeSlots("bob-token", List.of(FROM.plusHours(2))));
+    }
+
+    @Test
+    void rejectsInvalidRequestsWithoutQuerying() {
+        assertThatThrownBy(() -> searchService.search(new FreeSlotSearchRequest(List.of(), 60, FROM, TO)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.search(new FreeSlotSearchRequest(List.of("alice-token"), 45, FROM, TO)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.search(new FreeSlotSearchRequest(List.of("alice-token"), 60, TO, FROM)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.search(
+                        new FreeSlotSearchRequest(List.of("alice-token"), 60, FROM, FROM.plusDays(8))))
+                .isInstanceOf(IllegalArgumentException.class);
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= DefaultFreeSlotSearchService.MAX_DEVELOPERS; i++) {
+            tooMany.add("token-" + i);
+        }
+        assertThatThrownBy(() -> searchService.search(new FreeSlotSearchRequest(tooMany, 60, FROM, TO)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userRepository, availabilityReadPort);
+    }
+
+    @Test
+    void rejectsTokensThatAreNotADevelopersCalendar() {
+        assertThatThrownBy(() -> searchService.search(
+                        new FreeSlotSearchRequest(List.of("alice-token", "unknown-token"), 60, FROM, TO)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("token");
+        assertThatThrownBy(() -> searchService.search(new FreeSlotSearchRequest(List.of("hr-token"), 60, FROM, TO)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(availabilityReadPort);
+    }
+
+    private static User user(UUID id, Role role, String publicToken) {
+        return new User(id, role, null, null, null, publicToken, null);
+    }
+
+    private void givenSlots(Map<UUID, List<OffsetDateTime>> slots) {
+        doAnswer(invocation -> {
+            BiConsumer<UUID, OffsetDateTime> action = invocation.getArgument(3);
+            List<UUID> developerIds = new ArrayList<>(slots.keySet());
+            Collections.sort(developerIds);
+            developerIds.forEach(id -> slots.get(id).forEach(startAt -> action.accept(id, startAt)));
+            return null;
+        }).when(availabilityReadPort).forEachSlotStart(anyCollection(), any(), any(), any());
+    }
+}
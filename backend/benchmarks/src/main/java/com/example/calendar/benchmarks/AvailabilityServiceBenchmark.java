@@ -0,0 +1,119 @@
+package com.example.calendar.benchmarks;
+
+import com.example.calendar.application.availability.DefaultAvailabilityService;
+import com.example.calendar.application.dto.AvailabilityRuleRequest;
+import com.example.calendar.application.dto.AvailabilitySlotDto;
+import com.example.calendar.application.dto.BulkAvailabilityRequest;
+import com.example.calendar.application.dto.Page;
+import com.example.calendar.benchmarks.support.BenchmarkFixtures;
+import com.example.calendar.benchmarks.support.InMemoryAvailabilityRuleRepository;
+import com.example.calendar.benchmarks.support.InMemoryAvailabilitySlotRepository;
+import com.example.calendar.benchmarks.support.InMemoryBookingRepository;
+import com.example.calendar.benchmarks.support.InMemoryCalendarVersionRepository;
+import com.example.calendar.benchmarks.support.NoopCalendarEventPort;
+import com.example.calendar.domain.model.User;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AvailabilityServiceBenchmark {
+    @Param({"7", "28"})
+    public int days;
+
+    private final User developer = BenchmarkFixtures.developer();
+    private InMemoryAvailabilitySlotRepository emptyRepository;
+    private DefaultAvailabilityService emptyService;
+    private DefaultAvailabilityService fullService;
+    private DefaultAvailabilityService ruleService;
+    private BulkAvailabilityRequest request;
+    private OffsetDateTime from;
+    private OffsetDateTime to;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate startDate = BenchmarkFixtures.NOW.toLocalDate().plusDays(1);
+        LocalDate endDate = startDate.plusDays(days - 1L);
+        request = new BulkAvailabilityRequest(startDate, endDate, LocalTime.of(9, 0), LocalTime.of(18, 0));
+        from = startDate.atStartOfDay().atOffset(ZoneOffset.UTC);
+        to = endDate.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+
+        emptyRepository = new InMemoryAvailabilitySlotRepository();
+        emptyService = new DefaultAvailabilityService(
+                emptyRepository,
+                new InMemoryAvailabilityRuleRepository(),
+                new InMemoryBookingRepository(),
+                emptyRepository,
+                new InMemoryCalendarVersionRepository(),
+                new NoopCalendarEventPort(),
+                BenchmarkFixtures.CLOCK);
+        InMemoryAvailabilitySlotRepository fullRepository = new InMemoryAvailabilitySlotRepository();
+        fullService = new DefaultAvailabilityService(
+                fullRepository,
+                new InMemoryAvailabilityRuleRepository(),
+                new InMemoryBookingRepository(),
+                fullRepository,
+                new InMemoryCalendarVersionRepository(),
+                new NoopCalendarEventPort(),
+                BenchmarkFixtures.CLOCK);
+        fullService.bulkAdd(developer.getId(), request);
+        InMemoryAvailabilitySlotRepository ruleSlots = new InMemoryAvailabilitySlotRepository();
+        ruleService = new DefaultAvailabilityService(
+                ruleSlots,
+                new InMemoryAvailabilityRuleRepository(),
+                new InMemoryBookingRepository(),
+                ruleSlots,
+                new InMemoryCalendarVersionRepository(),
+                new NoopCalendarEventPort(),
+                BenchmarkFixtures.CLOCK);
+        ruleService.addRule(developer.getId(), new AvailabilityRuleRequest(
+                EnumSet.allOf(DayOfWeek.class), request.dailyStart(), request.dailyEnd(), startDate, endDate));
+    }
+
+    /** Every slot of the range is new; clearing the calendar first is part of the measurement. */
+    @Benchmark
+    public List<AvailabilitySlotDto> bulkAddIntoEmptyCalendar() {
+        emptyRepository.clear(developer.getId());
+        return emptyService.bulkAdd(developer.getId(), request);
+    }
+
+    /** Every slot already exists, so only the existing-slot lookup runs. */
+    @Benchmark
+    public List<AvailabilitySlotDto> bulkAddIntoFullCalendar() {
+        return fullService.bulkAdd(developer.getId(), request);
+    }
+
+    /** First page at the server's maximum page size. */
+    @Benchmark
+    public Page<AvailabilitySlotDto> list() {
+        return fullService.list(developer.getId(), from, to, null, null);
+    }
+
+    /** The same page evaluated from one rule instead of stored slots. */
+    @Benchmark
+    public Page<AvailabilitySlotDto> listFromRule() {
+        return ruleService.list(developer.getId(), from, to, null, null);
+    }
+}
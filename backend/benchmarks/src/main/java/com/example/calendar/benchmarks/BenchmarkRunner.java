@@ -0,0 +1,29 @@
+package com.example.calendar.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Accepts the usual JMH command line (e.g. a benchmark regex or
+ * {@code -rf json}) and always attaches the GC profiler so allocation rate is reported next to the scores.
+ * Benchmarks that need Postgres are left out unless {@code CALENDAR_TEST_DB_URL} is set.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class);
+        if (System.getenv("CALENDAR_TEST_DB_URL") == null) {
+            options.exclude(SlotReservationDatabaseBenchmark.class.getSimpleName());
+        }
+        new Runner(options.build()).run();
+    }
+}
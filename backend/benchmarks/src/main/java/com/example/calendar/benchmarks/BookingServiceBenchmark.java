@@ -0,0 +1,152 @@
+package com.example.calendar.benchmarks;
+
+import com.example.calendar.application.booking.DefaultBookingService;
+import com.example.calendar.application.dto.BookingResponse;
+import com.example.calendar.application.dto.CreatePublicBookingRequest;
+import com.example.calendar.benchmarks.support.BenchmarkFixtures;
+import com.example.calendar.benchmarks.support.InMemoryAvailabilityRuleRepository;
+import com.example.calendar.benchmarks.support.InMemoryAvailabilitySlotRepository;
+import com.example.calendar.benchmarks.support.InMemoryBookingRepository;
+import com.example.calendar.benchmarks.support.InMemoryCalendarVersionRepository;
+import com.example.calendar.benchmarks.support.InMemoryEventTypeRepository;
+import com.example.calendar.benchmarks.support.NoopCalendarEventPort;
+import com.example.calendar.benchmarks.support.NoopNotificationPort;
+import com.example.calendar.domain.model.User;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Every successful booking is released again (booking dropped, slots re-inserted) inside the measured
+ * method so the calendar stays in a steady state; the release is a few map operations.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingServiceBenchmark {
+    private static final int DURATION_MINUTES = 60;
+
+    @State(Scope.Thread)
+    public static class SingleDeveloper {
+        Calendar calendar;
+        CreatePublicBookingRequest request;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            calendar = new Calendar(1);
+            request = calendar.requests.get(0);
+        }
+    }
+
+    /** Several threads competing for a handful of slots of the same developer. */
+    @State(Scope.Benchmark)
+    public static class HotDeveloper {
+        Calendar calendar;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            calendar = new Calendar(4);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long booked;
+        public long conflicts;
+        private int cursor;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            booked = 0;
+            conflicts = 0;
+        }
+
+        int next(int bound) {
+            cursor = (cursor + 1) % bound;
+            return cursor;
+        }
+    }
+
+    @Benchmark
+    public BookingResponse createPublicBooking(SingleDeveloper state) {
+        BookingResponse response = state.calendar.service.createPublicBooking(state.calendar.developer, state.request);
+        state.calendar.release(response);
+        return response;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public BookingResponse createPublicBookingContended(HotDeveloper state, Outcomes outcomes) {
+        Calendar calendar = state.calendar;
+        CreatePublicBookingRequest request = calendar.requests.get(outcomes.next(calendar.requests.size()));
+        try {
+            BookingResponse response = calendar.service.createPublicBooking(calendar.developer, request);
+            outcomes.booked++;
+            calendar.release(response);
+            return response;
+        } catch (IllegalStateException ex) {
+            outcomes.conflicts++;
+            return null;
+        }
+    }
+
+    static final class Calendar {
+        final InMemoryAvailabilitySlotRepository availability = new InMemoryAvailabilitySlotRepository();
+        final InMemoryBookingRepository bookings = new InMemoryBookingRepository();
+        final DefaultBookingService service;
+        final User developer = BenchmarkFixtures.developer();
+        final List<CreatePublicBookingRequest> requests = new ArrayList<>();
+
+        Calendar(int slotCount) {
+            InMemoryEventTypeRepository eventTypes = new InMemoryEventTypeRepository();
+            eventTypes.save(BenchmarkFixtures.eventType(developer));
+            service = new DefaultBookingService(
+                    bookings,
+                    bookings,
+                    availability,
+                    new InMemoryAvailabilityRuleRepository(),
+                    eventTypes,
+                    new InMemoryCalendarVersionRepository(),
+                    new NoopNotificationPort(),
+                    new NoopCalendarEventPort(),
+                    BenchmarkFixtures.CLOCK);
+            OffsetDateTime startAt = BenchmarkFixtures.NOW.plusDays(1).withHour(10);
+            for (int i = 0; i < slotCount; i++) {
+                OffsetDateTime slotStart = startAt.plusMinutes((long) i * DURATION_MINUTES);
+                availability.insertMissing(developer.getId(), List.of(slotStart, slotStart.plusMinutes(30)));
+                requests.add(new CreatePublicBookingRequest(
+                        slotStart,
+                        DURATION_MINUTES,
+                        BenchmarkFixtures.EVENT_TYPE,
+                        "HR",
+                        "Acme Corporation",
+                        "Jordan Recruiter",
+                        "jordan@acme.example",
+                        "https://meet.example.com/abc-defg-hij"));
+            }
+        }
+
+        void release(BookingResponse response) {
+            bookings.remove(response.id());
+            OffsetDateTime startAt = response.startAt();
+            availability.insertMissing(developer.getId(), List.of(startAt, startAt.plusMinutes(30)));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.calendar.benchmarks;
+
+import com.example.calendar.application.dto.FreeSlotSearchRequest;
+import com.example.calendar.application.dto.FreeSlotSearchResponse;
+import com.example.calendar.application.search.DefaultFreeSlotSearchService;
+import com.example.calendar.benchmarks.support.BenchmarkFixtures;
+import com.example.calendar.benchmarks.support.InMemoryAvailabilityRuleRepository;
+import com.example.calendar.benchmarks.support.InMemoryAvailabilitySlotRepository;
+import com.example.calendar.benchmarks.support.InMemoryUserRepository;
+import com.example.calendar.domain.model.AvailabilityRule;
+import com.example.calendar.domain.model.Role;
+import com.example.calendar.domain.model.User;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The largest search the API allows: 500 developers over a 7-day window, each free 09:00-18:00 every day
+ * apart from one booked hour that moves from developer to developer.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FreeSlotSearchBenchmark {
+    private static final int DEVELOPERS = 500;
+    private static final int DAYS = 7;
+    private static final LocalTime DAILY_START = LocalTime.of(9, 0);
+    private static final LocalTime DAILY_END = LocalTime.of(18, 0);
+
+    /** Whether the calendars are stored slots or one weekly rule per developer with exceptions. */
+    @Param({"slots", "rules"})
+    public String calendars;
+
+    @Param({"30", "120"})
+    public int durationMinutes;
+
+    private DefaultFreeSlotSearchService service;
+    private FreeSlotSearchRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate startDate = BenchmarkFixtures.NOW.toLocalDate().plusDays(1);
+        LocalDate endDate = startDate.plusDays(DAYS - 1L);
+        OffsetDateTime from = startDate.atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime to = endDate.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+
+        InMemoryAvailabilitySlotRepository slotRepository = new InMemoryAvailabilitySlotRepository();
+        InMemoryAvailabilityRuleRepository ruleRepository = new InMemoryAvailabilityRuleRepository();
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        List<String> tokens = new ArrayList<>(DEVELOPERS);
+        for (int i = 0; i < DEVELOPERS; i++) {
+            UUID developerId = UUID.randomUUID();
+            String token = "developer-" + i;
+            userRepository.save(new User(developerId, Role.DEV, "Developer " + i, null, null, token, null));
+            tokens.add(token);
+            List<OffsetDateTime> free = new ArrayList<>();
+            List<OffsetDateTime> booked = new ArrayList<>();
+            LocalTime bookedHour = DAILY_START.plusHours(i % 9);
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                for (LocalTime time = DAILY_START; time.isBefore(DAILY_END); time = time.plusMinutes(30)) {
+                    boolean isBooked = !time.isBefore(bookedHour) && time.isBefore(bookedHour.plusHours(1));
+                    (isBooked ? booked : free).add(date.atTime(time).atOffset(ZoneOffset.UTC));
+                }
+            }
+            if (calendars.equals("slots")) {
+                slotRepository.insertMissing(developerId, free);
+            } else {
+                ruleRepository.save(new AvailabilityRule(
+                        null, developerId, EnumSet.allOf(DayOfWeek.class), DAILY_START, DAILY_END, startDate, endDate));
+                ruleRepository.addExceptions(developerId, booked);
+            }
+        }
+        service = new DefaultFreeSlotSearchService(
+                userRepository, slotRepository, ruleRepository, BenchmarkFixtures.CLOCK);
+        request = new FreeSlotSearchRequest(tokens, durationMinutes, from, to);
+    }
+
+    @Benchmark
+    public FreeSlotSearchResponse search() {
+        return service.search(request);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.calendar.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load against a running backend: {@code --concurrency} clients each send the next GET as
+ * soon as the previous one answers, for {@code --duration} after a {@code --warmup}. Prints throughput and
+ * latency percentiles on one line so runs with and without the virtual-threads profile can be compared:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.example.calendar.benchmarks.HttpLoadGenerator \
+ *     --url 'http://localhost:8080/api/public/demo-token/availability?from=...&amp;to=...' --concurrency 400
+ * </pre>
+ */
+public final class HttpLoadGenerator {
+    private HttpLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI url = null;
+        int concurrency = 200;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(10);
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url" -> url = URI.create(args[i + 1]);
+                case "--concurrency" -> concurrency = Integer.parseInt(args[i + 1]);
+                case "--duration" -> duration = Duration.parse(args[i + 1]);
+                case "--warmup" -> warmup = Duration.parse(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (url == null) {
+            throw new IllegalArgumentException(
+                    "Usage: HttpLoadGenerator --url <url> [--concurrency 200] [--duration PT30S] [--warmup PT10S]");
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(30)).GET().build();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureTo = measureFrom + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<long[]>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.add(executor.submit(() -> run(client, request, measureFrom, measureTo, errors)));
+            }
+        }
+        long[] latencies = clients.stream().map(HttpLoadGenerator::join).flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(latencies);
+        System.out.printf(
+                "concurrency=%d requests=%d errors=%d throughput=%.1f/s p50=%.2fms p99=%.2fms max=%.2fms%n",
+                concurrency,
+                latencies.length,
+                errors.get(),
+                latencies.length / (duration.toNanos() / 1e9),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                percentile(latencies, 1.0));
+    }
+
+    private static long[] run(
+            HttpClient client, HttpRequest request, long measureFrom, long measureTo, AtomicLong errors) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        for (long start = System.nanoTime(); start < measureTo; start = System.nanoTime()) {
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+            } catch (Exception ex) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (start < measureFrom || end > measureTo) {
+                continue;
+            }
+            if (!ok) {
+                errors.incrementAndGet();
+                continue;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = end - start;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static long[] join(Future<long[]> client) {
+        try {
+            return client.get();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
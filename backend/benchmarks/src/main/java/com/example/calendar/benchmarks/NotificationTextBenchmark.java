@@ -0,0 +1,55 @@
+package com.example.calendar.benchmarks;
+
+import com.example.calendar.benchmarks.support.BenchmarkFixtures;
+import com.example.calendar.benchmarks.support.NoopMailSender;
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.User;
+import com.example.calendar.infrastructure.notification.NotificationAdapter;
+import com.example.calendar.infrastructure.persistence.entity.NotificationOutboxEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds and hands over the new-booking email through the public adapter API; the mail sender only keeps
+ * the message, so the score is text building, message assembly and the send timer.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NotificationTextBenchmark {
+    private NotificationAdapter notificationAdapter;
+    private NoopMailSender mailSender;
+    private User developer;
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        mailSender = new NoopMailSender();
+        // the email channel never touches Telegram
+        notificationAdapter = new NotificationAdapter(mailSender, null, new SimpleMeterRegistry());
+        developer = BenchmarkFixtures.developer();
+        booking = BenchmarkFixtures.booking(developer, BenchmarkFixtures.NOW.plusDays(1));
+    }
+
+    @Benchmark
+    public String bookingCreatedEmail() {
+        CompletableFuture<Void> sent =
+                notificationAdapter.deliverBookingCreated(developer, booking, NotificationOutboxEntity.Channel.EMAIL);
+        sent.join();
+        return mailSender.lastMessage().getText();
+    }
+}
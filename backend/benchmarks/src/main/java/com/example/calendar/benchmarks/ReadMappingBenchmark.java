@@ -0,0 +1,183 @@
+package com.example.calendar.benchmarks;
+
+import com.example.calendar.application.dto.BookingResponse;
+import com.example.calendar.benchmarks.support.BenchmarkFixtures;
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.BookingStatus;
+import com.example.calendar.domain.model.Role;
+import com.example.calendar.domain.model.User;
+import com.example.calendar.infrastructure.persistence.entity.BookingEntity;
+import com.example.calendar.infrastructure.persistence.repository.BookingReadAdapter;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Maps one page of booking rows into responses the old way (entity with a loaded-state snapshot, then
+ * domain object, then response) and through {@link BookingReadAdapter#findPage}, whose {@link JdbcTemplate}
+ * runs the projection row mapper over the page. Both read the same in-memory {@link ResultSet}, so the
+ * difference in {@code gc.alloc.rate.norm} is the cost of the extra objects.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReadMappingBenchmark {
+    @Param({"50", "500"})
+    public int rows;
+
+    private RowCursor cursor;
+    private BookingReadAdapter readAdapter;
+    private UUID developerId;
+
+    @Setup
+    public void setUp() {
+        User developer = BenchmarkFixtures.developer();
+        developerId = developer.getId();
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Booking booking = BenchmarkFixtures.booking(developer, BenchmarkFixtures.NOW.plusHours(i));
+            data.add(Map.ofEntries(
+                    Map.entry("id", booking.getId()),
+                    Map.entry("developer_id", booking.getDeveloperId()),
+                    Map.entry("created_by_role", booking.getCreatedByRole().name()),
+                    Map.entry("event_type_name", booking.getEventTypeName()),
+                    Map.entry("start_at", booking.getStartAt()),
+                    Map.entry("duration_minutes", booking.getDurationMinutes()),
+                    Map.entry("status", booking.getStatus().name()),
+                    Map.entry("company", booking.getCompany()),
+                    Map.entry("hr_name", booking.getHrName()),
+                    Map.entry("hr_email", booking.getHrEmail()),
+                    Map.entry("meeting_link", booking.getMeetingLink()),
+                    Map.entry("created_at", BenchmarkFixtures.NOW)));
+        }
+        cursor = new RowCursor(data);
+        readAdapter = new BookingReadAdapter(new CursorJdbcTemplate(cursor));
+    }
+
+    @Benchmark
+    public List<BookingResponse> entityToDomainToResponse() throws SQLException {
+        ResultSet rs = cursor.reset();
+        List<BookingResponse> responses = new ArrayList<>();
+        while (rs.next()) {
+            BookingEntity entity = new BookingEntity();
+            entity.setId(rs.getObject("id", UUID.class));
+            entity.setDeveloperId(rs.getObject("developer_id", UUID.class));
+            entity.setCreatedByRole(Role.valueOf(rs.getString("created_by_role")));
+            entity.setEventTypeName(rs.getString("event_type_name"));
+            entity.setStartAt(rs.getObject("start_at", OffsetDateTime.class));
+            entity.setDurationMinutes(rs.getInt("duration_minutes"));
+            entity.setStatus(BookingStatus.valueOf(rs.getString("status")));
+            entity.setCompany(rs.getString("company"));
+            entity.setHrName(rs.getString("hr_name"));
+            entity.setHrEmail(rs.getString("hr_email"));
+            entity.setMeetingLink(rs.getString("meeting_link"));
+            entity.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+            // the persistence context keeps a copy of the loaded state to dirty-check at flush
+            cursor.retain(new Object[] {
+                entity.getId(), entity.getDeveloperId(), entity.getCreatedByRole(), entity.getEventTypeName(),
+                entity.getStartAt(), entity.getDurationMinutes(), entity.getStatus(), entity.getCompany(),
+                entity.getHrName(), entity.getHrEmail(), entity.getMeetingLink(), entity.getCreatedAt()
+            });
+            Booking booking = entity.toDomain();
+            responses.add(new BookingResponse(
+                    booking.getId(),
+                    booking.getStartAt(),
+                    booking.getDurationMinutes(),
+                    booking.getStatus(),
+                    booking.getEventTypeName(),
+                    booking.getCompany(),
+                    booking.getHrName(),
+                    booking.getHrEmail(),
+                    booking.getMeetingLink(),
+                    booking.getCreatedByRole().name()));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<BookingResponse> projection() {
+        return readAdapter.findPage(developerId, BenchmarkFixtures.NOW, BenchmarkFixtures.NOW.plusDays(30), null, rows);
+    }
+
+    /** Answers every query from the cursor instead of a connection; the SQL and its arguments are ignored. */
+    private static final class CursorJdbcTemplate extends JdbcTemplate {
+        private final RowCursor cursor;
+
+        CursorJdbcTemplate(RowCursor cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            try {
+                ResultSet rs = cursor.reset();
+                List<T> results = new ArrayList<>();
+                int rowNum = 0;
+                while (rs.next()) {
+                    results.add(rowMapper.mapRow(rs, rowNum++));
+                }
+                return results;
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /** A forward-only result set over prepared rows, answering only the getters the mappers use. */
+    private static final class RowCursor {
+        private final List<Map<String, Object>> rows;
+        private final ResultSet resultSet;
+        private final List<Object[]> snapshots = new ArrayList<>();
+        private int position;
+
+        RowCursor(List<Map<String, Object>> rows) {
+            this.rows = rows;
+            this.resultSet = (ResultSet) Proxy.newProxyInstance(
+                    ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class}, (proxy, method, args) ->
+                            switch (method.getName()) {
+                                case "next" -> ++position < rows.size();
+                                case "getObject", "getString" -> current().get((String) args[0]);
+                                case "getInt" -> current().get((String) args[0]);
+                                case "getBoolean" -> Boolean.TRUE.equals(current().get((String) args[0]));
+                                case "wasNull" -> false;
+                                default -> throw new UnsupportedOperationException(method.getName());
+                            });
+        }
+
+        ResultSet reset() {
+            position = -1;
+            snapshots.clear();
+            return resultSet;
+        }
+
+        void retain(Object[] snapshot) {
+            snapshots.add(snapshot);
+        }
+
+        private Map<String, Object> current() {
+            return rows.get(position);
+        }
+    }
+}
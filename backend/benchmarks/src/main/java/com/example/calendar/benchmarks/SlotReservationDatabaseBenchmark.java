@@ -0,0 +1,180 @@
+package com.example.calendar.benchmarks;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Row-lock contention on one hot developer in Postgres: the pessimistic lock then per-row delete that
+ * booking used to run ({@code lockRange} + {@code deleteAll}), next to the single conditional delete behind
+ * {@code reserveRange}. Both are written out as the SQL Hibernate issues for them. A successful reservation
+ * commits and then puts its slots back in a separate transaction, so the calendar stays in a steady state.
+ *
+ * <p>Needs a database, so {@link BenchmarkRunner} only includes it when {@code CALENDAR_TEST_DB_URL} is set
+ * (user and password as for the repository tests). Every trial recreates its own schema.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class SlotReservationDatabaseBenchmark {
+    private static final String SCHEMA = "slot_reservation_benchmark";
+    private static final int DURATION_MINUTES = 60;
+    private static final int BOOKABLE_HOURS = 4;
+
+    static final String LOCK_RANGE_SQL = """
+            SELECT id FROM availability_slot
+            WHERE developer_id = ? AND start_at >= ? AND start_at < ?
+            ORDER BY start_at
+            FOR UPDATE
+            """;
+    static final String DELETE_BY_ID_SQL = "DELETE FROM availability_slot WHERE id = ?";
+    static final String RESERVE_RANGE_SQL = """
+            DELETE FROM availability_slot
+            WHERE developer_id = ? AND start_at >= ? AND start_at < ?
+            """;
+    static final String RELEASE_SQL = """
+            INSERT INTO availability_slot (developer_id, start_at, duration_minutes)
+            SELECT ?, generate_series(?::timestamptz, ?::timestamptz - interval '30 minutes', interval '30 minutes'), 30
+            ON CONFLICT (developer_id, start_at) DO NOTHING
+            """;
+
+    @State(Scope.Benchmark)
+    public static class HotDeveloper {
+        HikariDataSource dataSource;
+        JdbcTemplate jdbcTemplate;
+        TransactionTemplate transactionTemplate;
+        UUID developerId;
+        OffsetDateTime firstStart;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String url = System.getenv("CALENDAR_TEST_DB_URL");
+            if (url == null) {
+                throw new IllegalStateException("CALENDAR_TEST_DB_URL is not set");
+            }
+            String username = System.getenv().getOrDefault("CALENDAR_TEST_DB_USER", "calendar");
+            String password = System.getenv().getOrDefault("CALENDAR_TEST_DB_PASSWORD", "calendar");
+            Flyway flyway = Flyway.configure()
+                    .dataSource(url, username, password)
+                    .schemas(SCHEMA)
+                    .locations("classpath:db/migration")
+                    .cleanDisabled(false)
+                    .load();
+            flyway.clean();
+            flyway.migrate();
+
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl(url);
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setSchema(SCHEMA);
+            // one connection per benchmark thread, so threads wait on row locks rather than on the pool
+            config.setMaximumPoolSize(8);
+            dataSource = new HikariDataSource(config);
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+            developerId = jdbcTemplate.queryForObject(
+                    "SELECT id FROM app_user WHERE public_token = 'demo-token'", UUID.class);
+            firstStart = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS).plusDays(1).withHour(10);
+            release(firstStart, firstStart.plusHours(BOOKABLE_HOURS));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            dataSource.close();
+        }
+
+        void release(OffsetDateTime from, OffsetDateTime to) {
+            jdbcTemplate.update(RELEASE_SQL, developerId, from, to);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long booked;
+        public long conflicts;
+        private int cursor;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            booked = 0;
+            conflicts = 0;
+        }
+
+        int next(int bound) {
+            cursor = (cursor + 1) % bound;
+            return cursor;
+        }
+    }
+
+    @Benchmark
+    public boolean lockRangeThenDeleteAll(HotDeveloper state, Outcomes outcomes) {
+        return reserve(state, outcomes, (from, to) -> {
+            List<UUID> ids = state.jdbcTemplate.queryForList(
+                    LOCK_RANGE_SQL, UUID.class, state.developerId, from, to);
+            for (UUID id : ids) {
+                state.jdbcTemplate.update(DELETE_BY_ID_SQL, id);
+            }
+            return ids.size();
+        });
+    }
+
+    @Benchmark
+    public boolean reserveRange(HotDeveloper state, Outcomes outcomes) {
+        return reserve(state, outcomes, (from, to) ->
+                state.jdbcTemplate.update(RESERVE_RANGE_SQL, state.developerId, from, to));
+    }
+
+    private static boolean reserve(HotDeveloper state, Outcomes outcomes, Reservation reservation) {
+        OffsetDateTime from = state.firstStart.plusMinutes((long) outcomes.next(BOOKABLE_HOURS) * DURATION_MINUTES);
+        OffsetDateTime to = from.plusMinutes(DURATION_MINUTES);
+        Boolean booked = state.transactionTemplate.execute(status -> {
+            if (reservation.reserve(from, to) == DURATION_MINUTES / 30) {
+                return true;
+            }
+            // a short count means another thread got there first; undo any partial delete
+            status.setRollbackOnly();
+            return false;
+        });
+        if (Boolean.TRUE.equals(booked)) {
+            outcomes.booked++;
+            state.release(from, to);
+            return true;
+        }
+        outcomes.conflicts++;
+        return false;
+    }
+
+    @FunctionalInterface
+    private interface Reservation {
+        int reserve(OffsetDateTime from, OffsetDateTime to);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.calendar.benchmarks.support;
+
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.BookingStatus;
+import com.example.calendar.domain.model.EventType;
+import com.example.calendar.domain.model.Role;
+import com.example.calendar.domain.model.User;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+public final class BenchmarkFixtures {
+    public static final OffsetDateTime NOW = OffsetDateTime.ofInstant(Instant.parse("2025-01-01T08:00:00Z"), ZoneOffset.UTC);
+    public static final Clock CLOCK = Clock.fixed(NOW.toInstant(), ZoneOffset.UTC);
+    public static final String EVENT_TYPE = "Technical";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User developer() {
+        User developer = new User();
+        developer.setId(UUID.randomUUID());
+        developer.setRole(Role.DEV);
+        developer.setDisplayName("Benchmark Developer");
+        developer.setEmail("dev@example.com");
+        developer.setTelegramChatId("42");
+        developer.setPublicToken(UUID.randomUUID().toString());
+        return developer;
+    }
+
+    public static EventType eventType(User developer) {
+        return new EventType(null, developer.getId(), EVENT_TYPE);
+    }
+
+    public static Booking booking(User developer, OffsetDateTime startAt) {
+        Booking booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setDeveloperId(developer.getId());
+        booking.setCreatedByRole(Role.HR);
+        booking.setEventTypeName(EVENT_TYPE);
+        booking.setStartAt(startAt);
+        booking.setDurationMinutes(60);
+        booking.setStatus(BookingStatus.NOT_APPROVED);
+        booking.setCompany("Acme Corporation");
+        booking.setHrName("Jordan Recruiter");
+        booking.setHrEmail("jordan@acme.example");
+        booking.setMeetingLink("https://meet.example.com/abc-defg-hij");
+        return booking;
+    }
+}
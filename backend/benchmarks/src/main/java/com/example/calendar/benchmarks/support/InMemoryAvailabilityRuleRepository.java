@@ -0,0 +1,115 @@
+package com.example.calendar.benchmarks.support;
+
+import com.example.calendar.domain.model.AvailabilityRule;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/** Rules per developer plus one sorted exception set per developer, guarded by its own monitor. */
+public class InMemoryAvailabilityRuleRepository implements AvailabilityRuleRepository {
+    private final Map<UUID, List<AvailabilityRule>> rules = new ConcurrentHashMap<>();
+    private final Map<UUID, NavigableSet<OffsetDateTime>> exceptions = new ConcurrentHashMap<>();
+
+    @Override
+    public AvailabilityRule save(AvailabilityRule rule) {
+        if (rule.getId() == null) {
+            rule.setId(UUID.randomUUID());
+        }
+        rules.computeIfAbsent(rule.getDeveloperId(), ignored -> new CopyOnWriteArrayList<>()).add(rule);
+        return rule;
+    }
+
+    @Override
+    public Optional<AvailabilityRule> findByIdAndDeveloperId(UUID id, UUID developerId) {
+        return rules.getOrDefault(developerId, List.of()).stream()
+                .filter(rule -> rule.getId().equals(id))
+                .findFirst();
+    }
+
+    @Override
+    public List<AvailabilityRule> findAllByDeveloperId(UUID developerId) {
+        return rules.getOrDefault(developerId, List.of()).stream()
+                .sorted(Comparator.comparing(AvailabilityRule::getStartDate))
+                .toList();
+    }
+
+    @Override
+    public List<AvailabilityRule> findActiveBetween(Collection<UUID> developerIds, LocalDate from, LocalDate to) {
+        List<AvailabilityRule> active = new ArrayList<>();
+        for (UUID developerId : developerIds) {
+            for (AvailabilityRule rule : rules.getOrDefault(developerId, List.of())) {
+                if (rule.overlaps(from, to)) {
+                    active.add(rule);
+                }
+            }
+        }
+        return active;
+    }
+
+    @Override
+    public void delete(AvailabilityRule rule) {
+        rules.getOrDefault(rule.getDeveloperId(), List.of()).removeIf(existing -> existing.getId().equals(rule.getId()));
+    }
+
+    @Override
+    public void forEachExceptionStart(
+            Collection<UUID> developerIds,
+            OffsetDateTime from,
+            OffsetDateTime to,
+            BiConsumer<UUID, OffsetDateTime> action) {
+        for (UUID developerId : developerIds.stream().sorted().toList()) {
+            NavigableSet<OffsetDateTime> excepted = exceptions(developerId);
+            List<OffsetDateTime> starts;
+            synchronized (excepted) {
+                starts = new ArrayList<>(excepted.subSet(from, true, to, false));
+            }
+            starts.forEach(startAt -> action.accept(developerId, startAt));
+        }
+    }
+
+    @Override
+    public List<OffsetDateTime> addExceptions(UUID developerId, Collection<OffsetDateTime> startTimes) {
+        NavigableSet<OffsetDateTime> excepted = exceptions(developerId);
+        List<OffsetDateTime> added = new ArrayList<>();
+        synchronized (excepted) {
+            for (OffsetDateTime startAt : startTimes) {
+                if (excepted.add(startAt)) {
+                    added.add(startAt);
+                }
+            }
+        }
+        added.sort(Comparator.naturalOrder());
+        return added;
+    }
+
+    @Override
+    public List<OffsetDateTime> removeExceptions(UUID developerId, Collection<OffsetDateTime> startTimes) {
+        NavigableSet<OffsetDateTime> excepted = exceptions(developerId);
+        List<OffsetDateTime> removed = new ArrayList<>();
+        synchronized (excepted) {
+            for (OffsetDateTime startAt : startTimes) {
+                if (excepted.remove(startAt)) {
+                    removed.add(startAt);
+                }
+            }
+        }
+        removed.sort(Comparator.naturalOrder());
+        return removed;
+    }
+
+    private NavigableSet<OffsetDateTime> exceptions(UUID developerId) {
+        return exceptions.computeIfAbsent(developerId, ignored -> new TreeSet<>());
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.calendar.benchmarks.support;
+
+import com.example.calendar.application.dto.AvailabilitySlotDto;
+import com.example.calendar.application.port.out.AvailabilityReadPort;
+import com.example.calendar.domain.model.AvailabilityIndex;
+import com.example.calendar.domain.model.AvailabilitySlot;
+import com.example.calendar.domain.model.KeysetCursor;
+import com.example.calendar.domain.repository.AvailabilitySlotRepository;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe availability store keyed by developer; each developer's calendar is guarded by its own
+ * monitor. Contention here is only that monitor; database row locks are measured by
+ * {@code SlotReservationDatabaseBenchmark}.
+ */
+public class InMemoryAvailabilitySlotRepository implements AvailabilitySlotRepository, AvailabilityReadPort {
+    private final Map<UUID, NavigableMap<OffsetDateTime, AvailabilitySlot>> calendars = new ConcurrentHashMap<>();
+
+    @Override
+    public List<AvailabilitySlotDto> findPage(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, KeysetCursor after, int limit) {
+        NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(developerId);
+        synchronized (calendar) {
+            NavigableMap<OffsetDateTime, AvailabilitySlot> range = calendar.subMap(from, true, to, true);
+            // start times are unique per developer, so the id never breaks a tie here
+            if (after != null) {
+                range = range.tailMap(after.startAt(), false);
+            }
+            return range.values().stream()
+                    .limit(limit)
+                    .map(slot -> new AvailabilitySlotDto(slot.getId(), slot.getStartAt(), slot.getDurationMinutes()))
+                    .toList();
+        }
+    }
+
+    @Override
+    public void forEachSlotStart(
+            Collection<UUID> developerIds,
+            OffsetDateTime from,
+            OffsetDateTime to,
+            BiConsumer<UUID, OffsetDateTime> action) {
+        for (UUID developerId : developerIds.stream().sorted().toList()) {
+            NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(developerId);
+            List<OffsetDateTime> starts;
+            synchronized (calendar) {
+                starts = new ArrayList<>(calendar.subMap(from, true, to, false).keySet());
+            }
+            starts.forEach(startAt -> action.accept(developerId, startAt));
+        }
+    }
+
+    @Override
+    public void forEachByDeveloperIdAndStartAtBetweenOrderByStartAt(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<AvailabilitySlot> action) {
+        NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(developerId);
+        List<AvailabilitySlot> slots;
+        synchronized (calendar) {
+            slots = new ArrayList<>(calendar.subMap(from, true, to, true).values());
+        }
+        slots.forEach(action);
+    }
+
+    @Override
+    public AvailabilityIndex loadIndex(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        AvailabilityIndex index = new AvailabilityIndex(from, to);
+        NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(developerId);
+        synchronized (calendar) {
+            for (OffsetDateTime startAt : calendar.subMap(from, true, to, false).keySet()) {
+                index.set(startAt);
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public boolean existsByDeveloperIdAndStartAt(UUID developerId, OffsetDateTime startAt) {
+        NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(developerId);
+        synchronized (calendar) {
+            return calendar.containsKey(startAt);
+        }
+    }
+
+    @Override
+    public Optional<AvailabilitySlot> findByDeveloperIdAndStartAt(UUID developerId, OffsetDateTime startAt) {
+        NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(developerId);
+        synchronized (calendar) {
+            return Optional.ofNullable(calendar.get(startAt));
+        }
+    }
+
+    @Override
+    public AvailabilitySlot save(AvailabilitySlot slot) {
+        if (slot.getId() == null) {
+            slot.setId(UUID.randomUUID());
+        }
+        NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(slot.getDeveloperId());
+        synchronized (calendar) {
+            calendar.put(slot.getStartAt(), slot);
+        }
+        return slot;
+    }
+
+    @Override
+    public List<AvailabilitySlot> insertMissing(UUID developerId, Collection<OffsetDateTime> startTimes) {
+        List<AvailabilitySlot> created = new ArrayList<>();
+        NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(developerId);
+        synchronized (calendar) {
+            for (OffsetDateTime startAt : startTimes) {
+                if (!calendar.containsKey(startAt)) {
+                    AvailabilitySlot slot = new AvailabilitySlot(UUID.randomUUID(), developerId, startAt, 30);
+                    calendar.put(startAt, slot);
+                    created.add(slot);
+                }
+            }
+        }
+        return created;
+    }
+
+    @Override
+    public void delete(AvailabilitySlot slot) {
+        NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(slot.getDeveloperId());
+        synchronized (calendar) {
+            calendar.remove(slot.getStartAt());
+        }
+    }
+
+    @Override
+    public int deleteStartTimes(UUID developerId, Collection<OffsetDateTime> startTimes) {
+        NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(developerId);
+        int deleted = 0;
+        synchronized (calendar) {
+            for (OffsetDateTime startAt : startTimes) {
+                if (calendar.remove(startAt) != null) {
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public int reserveRange(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(developerId);
+        synchronized (calendar) {
+            NavigableMap<OffsetDateTime, AvailabilitySlot> range = calendar.subMap(from, true, to, false);
+            int reserved = range.size();
+            range.clear();
+            return reserved;
+        }
+    }
+
+    public void clear(UUID developerId) {
+        NavigableMap<OffsetDateTime, AvailabilitySlot> calendar = calendar(developerId);
+        synchronized (calendar) {
+            calendar.clear();
+        }
+    }
+
+    private NavigableMap<OffsetDateTime, AvailabilitySlot> calendar(UUID developerId) {
+        return calendars.computeIfAbsent(developerId, ignored -> new TreeMap<>());
+    }
+}
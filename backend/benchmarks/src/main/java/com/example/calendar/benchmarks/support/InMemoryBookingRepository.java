@@ -0,0 +1,164 @@
+package com.example.calendar.benchmarks.support;
+
+import com.example.calendar.application.dto.BookingResponse;
+import com.example.calendar.application.dto.PublicBookingResponse;
+import com.example.calendar.application.port.out.BookingReadPort;
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.BookingStatus;
+import com.example.calendar.domain.model.KeysetCursor;
+import com.example.calendar.domain.model.ReminderType;
+import com.example.calendar.domain.model.Role;
+import com.example.calendar.domain.repository.BookingRepository;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class InMemoryBookingRepository implements BookingRepository, BookingReadPort {
+    private final Map<UUID, Booking> bookings = new ConcurrentHashMap<>();
+
+    @Override
+    public Booking save(Booking booking) {
+        if (booking.getId() == null) {
+            booking.setId(UUID.randomUUID());
+        }
+        bookings.put(booking.getId(), booking);
+        return booking;
+    }
+
+    @Override
+    public Optional<Booking> findById(UUID id) {
+        return Optional.ofNullable(bookings.get(id));
+    }
+
+    @Override
+    public Optional<Booking> findByIdAndDeveloperId(UUID id, UUID developerId) {
+        return findById(id).filter(booking -> booking.getDeveloperId().equals(developerId));
+    }
+
+    @Override
+    public List<Booking> findAllByIdInAndDeveloperId(Collection<UUID> ids, UUID developerId) {
+        return ids.stream()
+                .map(bookings::get)
+                .filter(booking -> booking != null && booking.getDeveloperId().equals(developerId))
+                .toList();
+    }
+
+    @Override
+    public List<BookingResponse> findPage(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, KeysetCursor after, int limit) {
+        return page(developerId, from, to, after, limit)
+                .map(booking -> new BookingResponse(
+                        booking.getId(),
+                        booking.getStartAt(),
+                        booking.getDurationMinutes(),
+                        booking.getStatus(),
+                        booking.getEventTypeName(),
+                        booking.getCompany(),
+                        booking.getHrName(),
+                        booking.getHrEmail(),
+                        booking.getMeetingLink(),
+                        booking.getCreatedByRole().name()))
+                .toList();
+    }
+
+    @Override
+    public List<PublicBookingResponse> findPublicPage(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Role viewer, KeysetCursor after, int limit) {
+        return page(developerId, from, to, after, limit)
+                .map(booking -> {
+                    boolean visible = booking.getCreatedByRole() == viewer;
+                    return new PublicBookingResponse(
+                            booking.getId(),
+                            booking.getStartAt(),
+                            booking.getDurationMinutes(),
+                            booking.getStatus(),
+                            visible ? booking.getEventTypeName() : null,
+                            visible ? booking.getCompany() : null,
+                            visible ? booking.getHrName() : null,
+                            visible ? booking.getHrEmail() : null,
+                            visible ? booking.getMeetingLink() : null,
+                            booking.getCreatedByRole().name(),
+                            !visible);
+                })
+                .toList();
+    }
+
+    @Override
+    public void forEachByDeveloperIdAndStartAtBetweenOrderByStartAt(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<Booking> action) {
+        startingBetween(from, to)
+                .filter(booking -> booking.getDeveloperId().equals(developerId))
+                .sorted(Comparator.comparing(Booking::getStartAt))
+                .forEach(action);
+    }
+
+    @Override
+    public List<Booking> findAllByDeveloperIdAndStatusInAndStartAtBetween(
+            UUID developerId, Collection<BookingStatus> statuses, OffsetDateTime from, OffsetDateTime to) {
+        return startingBetween(from, to)
+                .filter(booking -> booking.getDeveloperId().equals(developerId))
+                .filter(booking -> statuses.contains(booking.getStatus()))
+                .toList();
+    }
+
+    @Override
+    public List<Booking> findApprovedAwaitingReminder(ReminderType type, OffsetDateTime from, OffsetDateTime to) {
+        return startingBetween(from, to)
+                .filter(booking -> booking.getStatus() == BookingStatus.APPROVED)
+                .toList();
+    }
+
+    @Override
+    public int updateStatus(Collection<UUID> ids, BookingStatus status) {
+        int updated = 0;
+        for (UUID id : ids) {
+            Booking booking = bookings.get(id);
+            if (booking != null) {
+                booking.setStatus(status);
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public void updateStatuses(Collection<Booking> bookings) {
+        for (Booking booking : bookings) {
+            Booking stored = this.bookings.get(booking.getId());
+            if (stored != null) {
+                stored.setStatus(booking.getStatus());
+            }
+        }
+    }
+
+    /** Drops a booking so long benchmark runs keep a steady-state heap. */
+    public void remove(UUID id) {
+        bookings.remove(id);
+    }
+
+    private Stream<Booking> page(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, KeysetCursor after, int limit) {
+        return startingBetween(from, to)
+                .filter(booking -> booking.getDeveloperId().equals(developerId))
+                .filter(booking -> after == null || isAfter(booking, after))
+                .sorted(Comparator.comparing(Booking::getStartAt).thenComparing(Booking::getId))
+                .limit(limit);
+    }
+
+    private static boolean isAfter(Booking booking, KeysetCursor cursor) {
+        return booking.getStartAt().isAfter(cursor.startAt())
+                || (booking.getStartAt().isEqual(cursor.startAt()) && booking.getId().compareTo(cursor.id()) > 0);
+    }
+
+    private Stream<Booking> startingBetween(OffsetDateTime from, OffsetDateTime to) {
+        return bookings.values().stream()
+                .filter(booking -> !booking.getStartAt().isBefore(from) && !booking.getStartAt().isAfter(to));
+    }
+}
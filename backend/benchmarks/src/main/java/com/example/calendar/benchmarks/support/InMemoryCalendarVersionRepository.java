@@ -0,0 +1,20 @@
+package com.example.calendar.benchmarks.support;
+
+import com.example.calendar.domain.repository.CalendarVersionRepository;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryCalendarVersionRepository implements CalendarVersionRepository {
+    private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public long current(UUID developerId) {
+        return versions.getOrDefault(developerId, 0L);
+    }
+
+    @Override
+    public void bump(UUID developerId) {
+        versions.merge(developerId, 1L, Long::sum);
+    }
+}
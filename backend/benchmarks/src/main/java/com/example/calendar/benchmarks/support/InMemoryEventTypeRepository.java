@@ -0,0 +1,38 @@
+package com.example.calendar.benchmarks.support;
+
+import com.example.calendar.domain.model.EventType;
+import com.example.calendar.domain.repository.EventTypeRepository;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InMemoryEventTypeRepository implements EventTypeRepository {
+    private final Map<UUID, List<EventType>> eventTypes = new ConcurrentHashMap<>();
+
+    @Override
+    public List<EventType> findAllByDeveloperIdOrderByName(UUID developerId) {
+        return eventTypes.getOrDefault(developerId, List.of()).stream()
+                .sorted(Comparator.comparing(EventType::getName))
+                .toList();
+    }
+
+    @Override
+    public Optional<EventType> findByDeveloperIdAndNameIgnoreCase(UUID developerId, String name) {
+        return eventTypes.getOrDefault(developerId, List.of()).stream()
+                .filter(eventType -> eventType.getName().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+    @Override
+    public EventType save(EventType eventType) {
+        if (eventType.getId() == null) {
+            eventType.setId(UUID.randomUUID());
+        }
+        eventTypes.computeIfAbsent(eventType.getDeveloperId(), ignored -> new CopyOnWriteArrayList<>()).add(eventType);
+        return eventType;
+    }
+}
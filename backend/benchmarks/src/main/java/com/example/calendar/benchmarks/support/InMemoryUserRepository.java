@@ -0,0 +1,38 @@
+package com.example.calendar.benchmarks.support;
+
+import com.example.calendar.domain.model.User;
+import com.example.calendar.domain.repository.UserRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryUserRepository implements UserRepository {
+    private final Map<UUID, User> users = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return Optional.ofNullable(users.get(id));
+    }
+
+    @Override
+    public Optional<User> findByPublicToken(String token) {
+        return users.values().stream().filter(user -> token.equals(user.getPublicToken())).findFirst();
+    }
+
+    @Override
+    public List<User> findAllByPublicTokenIn(Collection<String> tokens) {
+        return users.values().stream().filter(user -> tokens.contains(user.getPublicToken())).toList();
+    }
+
+    @Override
+    public User save(User user) {
+        if (user.getId() == null) {
+            user.setId(UUID.randomUUID());
+        }
+        users.put(user.getId(), user);
+        return user;
+    }
+}
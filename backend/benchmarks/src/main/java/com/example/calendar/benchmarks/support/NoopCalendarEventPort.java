@@ -0,0 +1,21 @@
+package com.example.calendar.benchmarks.support;
+
+import com.example.calendar.application.port.out.CalendarEventPort;
+import com.example.calendar.domain.model.Booking;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class NoopCalendarEventPort implements CalendarEventPort {
+    @Override
+    public void bookingChanged(Booking booking) {
+    }
+
+    @Override
+    public void slotsAdded(UUID developerId, List<OffsetDateTime> slotStarts) {
+    }
+
+    @Override
+    public void slotsRemoved(UUID developerId, List<OffsetDateTime> slotStarts) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.calendar.benchmarks.support;
+
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/** Keeps the last message instead of talking SMTP, so only building and handing it over is measured. */
+public class NoopMailSender extends JavaMailSenderImpl {
+    private SimpleMailMessage lastMessage;
+
+    @Override
+    public void send(SimpleMailMessage simpleMessage) {
+        lastMessage = simpleMessage;
+    }
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) {
+        lastMessage = simpleMessages[simpleMessages.length - 1];
+    }
+
+    public SimpleMailMessage lastMessage() {
+        return lastMessage;
+    }
+}
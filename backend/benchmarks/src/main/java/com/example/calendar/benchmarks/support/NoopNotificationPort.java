@@ -0,0 +1,16 @@
+package com.example.calendar.benchmarks.support;
+
+import com.example.calendar.application.port.out.NotificationPort;
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.User;
+import java.time.Duration;
+
+public class NoopNotificationPort implements NotificationPort {
+    @Override
+    public void notifyBookingCreated(User developer, Booking booking) {
+    }
+
+    @Override
+    public void sendReminder(User developer, Booking booking, Duration untilStart) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.calendar.domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Availability of a single developer over a fixed window, stored as one 48-bit word per UTC day
+ * where bit {@code n} is the 30-minute slot starting at {@code n * 30} minutes after midnight.
+ */
+public final class AvailabilityIndex {
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 48;
+
+    private static final long SLOT_SECONDS = SLOT_MINUTES * 60L;
+    private static final long DAY_SECONDS = SLOTS_PER_DAY * SLOT_SECONDS;
+
+    private final long firstDay;
+    private final long[] days;
+
+    public AvailabilityIndex(OffsetDateTime from, OffsetDateTime to) {
+        long fromSecond = from.toEpochSecond();
+        long toSecond = to.toEpochSecond();
+        this.firstDay = Math.floorDiv(fromSecond, DAY_SECONDS);
+        long lastDay = Math.floorDiv(toSecond - 1, DAY_SECONDS);
+        this.days = new long[toSecond > fromSecond ? Math.toIntExact(lastDay - firstDay + 1) : 0];
+    }
+
+    public LocalDate firstDay() {
+        return LocalDate.ofEpochDay(firstDay);
+    }
+
+    public int dayCount() {
+        return days.length;
+    }
+
+    public long dayMask(LocalDate day) {
+        return word(day.toEpochDay());
+    }
+
+    public boolean covers(OffsetDateTime slotStart) {
+        long day = Math.floorDiv(slotOf(slotStart), SLOTS_PER_DAY) - firstDay;
+        return day >= 0 && day < days.length;
+    }
+
+    public void set(OffsetDateTime slotStart) {
+        long slot = slotOf(slotStart);
+        days[dayOffset(slot)] |= 1L << bitOf(slot);
+    }
+
+    public void clear(OffsetDateTime slotStart) {
+        long slot = slotOf(slotStart);
+        days[dayOffset(slot)] &= ~(1L << bitOf(slot));
+    }
+
+    public boolean contains(OffsetDateTime slotStart) {
+        long slot = slotOf(slotStart);
+        return (word(Math.floorDiv(slot, SLOTS_PER_DAY)) & (1L << bitOf(slot))) != 0;
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (long word : days) {
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        for (long word : days) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<OffsetDateTime> slotStarts() {
+        List<OffsetDateTime> starts = new ArrayList<>(cardinality());
+        for (int i = 0; i < days.length; i++) {
+            long word = days[i];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                starts.add(toDateTime((firstDay + i) * SLOTS_PER_DAY + bit));
+                word &= word - 1;
+            }
+        }
+        return starts;
+    }
+
+    /** Contiguous free time as half-open {@code [start, end)} ranges; runs crossing midnight are merged. */
+    public List<Range> ranges() {
+        List<Range> ranges = new ArrayList<>();
+        boolean inRun = false;
+        long runStart = 0;
+        for (int i = 0; i < days.length; i++) {
+            long word = days[i];
+            long base = (firstDay + i) * SLOTS_PER_DAY;
+            int bit = 0;
+            while (bit < SLOTS_PER_DAY) {
+                long remaining = (inRun ? ~word : word) >>> bit & runMask(SLOTS_PER_DAY - bit);
+                if (remaining == 0) {
+                    break;
+                }
+                bit += Long.numberOfTrailingZeros(remaining);
+                if (inRun) {
+                    ranges.add(new Range(toDateTime(runStart), toDateTime(base + bit)));
+                } else {
+                    runStart = base + bit;
+                }
+                inRun = !inRun;
+            }
+        }
+        if (inRun) {
+            ranges.add(new Range(toDateTime(runStart), toDateTime((firstDay + days.length) * SLOTS_PER_DAY)));
+        }
+        return ranges;
+    }
+
+    private long word(long day) {
+        long offset = day - firstDay;
+        return offset >= 0 && offset < days.length ? days[(int) offset] : 0L;
+    }
+
+    private int dayOffset(long slot) {
+        long offset = Math.floorDiv(slot, SLOTS_PER_DAY) - firstDay;
+        if (offset < 0 || offset >= days.length) {
+            throw new IllegalArgumentException("Slot is outside of the indexed window");
+        }
+        return (int) offset;
+    }
+
+    private static int bitOf(long slot) {
+        return Math.floorMod(slot, SLOTS_PER_DAY);
+    }
+
+    private static long runMask(int slots) {
+        return (1L << slots) - 1;
+    }
+
+    private static long slotOf(OffsetDateTime startAt) {
+        long second = startAt.toEpochSecond();
+        if (startAt.getNano() != 0 || Math.floorMod(second, SLOT_SECONDS) != 0) {
+            throw new IllegalArgumentException("Start time must align to 30-minute increments");
+        }
+        return Math.floorDiv(second, SLOT_SECONDS);
+    }
+
+    private static OffsetDateTime toDateTime(long slot) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(slot * SLOT_SECONDS), ZoneOffset.UTC);
+    }
+
+    public record Range(OffsetDateTime start, OffsetDateTime end) {
+    }
+}
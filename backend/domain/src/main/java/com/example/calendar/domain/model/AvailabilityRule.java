@@ -0,0 +1,148 @@
+package com.example.calendar.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Recurring availability, e.g. "weekdays 10:00-17:00 UTC from March to May". The 30-minute slots it stands
+ * for are evaluated on demand instead of being stored one row each.
+ */
+public class AvailabilityRule {
+    private UUID id;
+    private UUID developerId;
+    private Set<DayOfWeek> weekdays = EnumSet.noneOf(DayOfWeek.class);
+    private LocalTime dailyStart;
+    private LocalTime dailyEnd;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    public AvailabilityRule() {}
+
+    public AvailabilityRule(
+            UUID id,
+            UUID developerId,
+            Set<DayOfWeek> weekdays,
+            LocalTime dailyStart,
+            LocalTime dailyEnd,
+            LocalDate startDate,
+            LocalDate endDate) {
+        this.id = id;
+        this.developerId = developerId;
+        setWeekdays(weekdays);
+        this.dailyStart = dailyStart;
+        this.dailyEnd = dailyEnd;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /** Stable id for a slot produced by a rule, so keyset pages can mix rule slots with stored ones. */
+    public static UUID slotId(UUID developerId, OffsetDateTime startAt) {
+        String key = developerId + "/" + startAt.toInstant();
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean covers(OffsetDateTime slotStart) {
+        OffsetDateTime utc = slotStart.withOffsetSameInstant(ZoneOffset.UTC);
+        LocalDate day = utc.toLocalDate();
+        LocalTime time = utc.toLocalTime();
+        return !day.isBefore(startDate)
+                && !day.isAfter(endDate)
+                && weekdays.contains(day.getDayOfWeek())
+                && !time.isBefore(dailyStart)
+                && !time.isAfter(dailyEnd.minusMinutes(AvailabilityIndex.SLOT_MINUTES));
+    }
+
+    /** Marks every slot of this rule starting within {@code [from, to)} in an index built for that window. */
+    public void addTo(AvailabilityIndex index, OffsetDateTime from, OffsetDateTime to) {
+        LocalDate firstDay = max(startDate, from.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate());
+        LocalDate lastDay = min(endDate, to.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate());
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            if (!weekdays.contains(day.getDayOfWeek())) {
+                continue;
+            }
+            OffsetDateTime dayEnd = day.atTime(dailyEnd).atOffset(ZoneOffset.UTC);
+            for (OffsetDateTime start = day.atTime(dailyStart).atOffset(ZoneOffset.UTC);
+                    !start.plusMinutes(AvailabilityIndex.SLOT_MINUTES).isAfter(dayEnd);
+                    start = start.plusMinutes(AvailabilityIndex.SLOT_MINUTES)) {
+                if (!start.isBefore(from) && start.isBefore(to)) {
+                    index.set(start);
+                }
+            }
+        }
+    }
+
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return !endDate.isBefore(from) && !startDate.isAfter(to);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getDeveloperId() {
+        return developerId;
+    }
+
+    public void setDeveloperId(UUID developerId) {
+        this.developerId = developerId;
+    }
+
+    public Set<DayOfWeek> getWeekdays() {
+        return weekdays;
+    }
+
+    public void setWeekdays(Set<DayOfWeek> weekdays) {
+        this.weekdays = weekdays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekdays);
+    }
+
+    public LocalTime getDailyStart() {
+        return dailyStart;
+    }
+
+    public void setDailyStart(LocalTime dailyStart) {
+        this.dailyStart = dailyStart;
+    }
+
+    public LocalTime getDailyEnd() {
+        return dailyEnd;
+    }
+
+    public void setDailyEnd(LocalTime dailyEnd) {
+        this.dailyEnd = dailyEnd;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -148,14 +148,23 @@ public class Booking {
     }
 
     public void approve() {
+        ensureNotDeclined();
         this.status = BookingStatus.APPROVED;
     }
 
     public void unapprove() {
+        ensureNotDeclined();
         this.status = BookingStatus.NOT_APPROVED;
     }
 
     public void decline() {
         this.status = BookingStatus.DECLINED;
     }
+
+    /** A declined booking gave its slots back, and they may have been booked again since. */
+    private void ensureNotDeclined() {
+        if (status == BookingStatus.DECLINED) {
+            throw new IllegalStateException("Booking is declined");
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.calendar.domain.model;
+
+/** The requested time overlaps a booking that is not declined, or is no longer offered as free. */
+public class BookingConflictException extends IllegalStateException {
+    public BookingConflictException(String message) {
+        super(message);
+    }
+
+    public BookingConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
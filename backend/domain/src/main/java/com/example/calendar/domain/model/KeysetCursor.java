@@ -0,0 +1,8 @@
+package com.example.calendar.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/** Position after the last row of a page ordered by {@code (start_at, id)}. */
+public record KeysetCursor(OffsetDateTime startAt, UUID id) {
+}
@@ -0,0 +1,18 @@
+package com.example.calendar.domain.model;
+
+import java.time.Duration;
+
+public enum ReminderType {
+    HOURS_24(Duration.ofHours(24)),
+    HOUR_1(Duration.ofHours(1));
+
+    private final Duration leadTime;
+
+    ReminderType(Duration leadTime) {
+        this.leadTime = leadTime;
+    }
+
+    public Duration getLeadTime() {
+        return leadTime;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.calendar.domain.repository;
+
+import com.example.calendar.domain.model.AvailabilityRule;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Recurring availability rules and the rule slots taken out of them, either removed by the developer or
+ * consumed by a booking.
+ */
+public interface AvailabilityRuleRepository {
+    AvailabilityRule save(AvailabilityRule rule);
+
+    Optional<AvailabilityRule> findByIdAndDeveloperId(UUID id, UUID developerId);
+
+    List<AvailabilityRule> findAllByDeveloperId(UUID developerId);
+
+    /** Rules whose date range overlaps {@code [from, to]}. */
+    List<AvailabilityRule> findActiveBetween(Collection<UUID> developerIds, LocalDate from, LocalDate to);
+
+    void delete(AvailabilityRule rule);
+
+    /** Excepted slot starts within {@code [from, to)}, ordered by developer and then start time. */
+    void forEachExceptionStart(
+            Collection<UUID> developerIds,
+            OffsetDateTime from,
+            OffsetDateTime to,
+            BiConsumer<UUID, OffsetDateTime> action);
+
+    /** Records the given starts as exceptions and returns the ones that were not excepted yet. */
+    List<OffsetDateTime> addExceptions(UUID developerId, Collection<OffsetDateTime> startTimes);
+
+    /** Drops the given exceptions and returns the ones that existed. */
+    List<OffsetDateTime> removeExceptions(UUID developerId, Collection<OffsetDateTime> startTimes);
+}
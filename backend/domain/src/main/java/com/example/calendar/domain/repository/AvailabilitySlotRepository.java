@@ -1,16 +1,20 @@
 package com.example.calendar.domain.repository;
 
+import com.example.calendar.domain.model.AvailabilityIndex;
 import com.example.calendar.domain.model.AvailabilitySlot;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface AvailabilitySlotRepository {
-    List<AvailabilitySlot> findAllByDeveloperIdAndStartAtBetweenOrderByStartAt(
-            UUID developerId, OffsetDateTime from, OffsetDateTime to);
+    /** Hands the slots to {@code action} one by one while they are read, without collecting them. */
+    void forEachByDeveloperIdAndStartAtBetweenOrderByStartAt(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<AvailabilitySlot> action);
 
-    List<AvailabilitySlot> lockRange(UUID developerId, OffsetDateTime from, OffsetDateTime to);
+    AvailabilityIndex loadIndex(UUID developerId, OffsetDateTime from, OffsetDateTime to);
 
     boolean existsByDeveloperIdAndStartAt(UUID developerId, OffsetDateTime startAt);
 
@@ -18,7 +22,11 @@ public interface AvailabilitySlotRepository {
 
     AvailabilitySlot save(AvailabilitySlot slot);
 
+    List<AvailabilitySlot> insertMissing(UUID developerId, Collection<OffsetDateTime> startTimes);
+
     void delete(AvailabilitySlot slot);
 
-    void deleteAll(Iterable<AvailabilitySlot> slots);
+    int deleteStartTimes(UUID developerId, Collection<OffsetDateTime> startTimes);
+
+    int reserveRange(UUID developerId, OffsetDateTime from, OffsetDateTime to);
 }
@@ -1,26 +1,46 @@
 package com.example.calendar.domain.repository;
 
 import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.BookingConflictException;
 import com.example.calendar.domain.model.BookingStatus;
+import com.example.calendar.domain.model.ReminderType;
 import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface BookingRepository {
+    /**
+     * Writes the booking right away, so a {@link BookingConflictException} is thrown here when it would
+     * overlap another booking of the developer that is not declined.
+     */
     Booking save(Booking booking);
 
     Optional<Booking> findById(UUID id);
 
     Optional<Booking> findByIdAndDeveloperId(UUID id, UUID developerId);
 
-    List<Booking> findAllByDeveloperIdAndStartAtBetweenOrderByStartAt(
-            UUID developerId, OffsetDateTime from, OffsetDateTime to);
+    /** The developer's bookings among {@code ids}, from one query; ids of other developers are left out. */
+    List<Booking> findAllByIdInAndDeveloperId(Collection<UUID> ids, UUID developerId);
+
+    /** Hands the bookings to {@code action} one by one while they are read, without collecting them. */
+    void forEachByDeveloperIdAndStartAtBetweenOrderByStartAt(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<Booking> action);
 
     List<Booking> findAllByDeveloperIdAndStatusInAndStartAtBetween(
             UUID developerId, Collection<BookingStatus> statuses, OffsetDateTime from, OffsetDateTime to);
 
-    List<Booking> findAllByStatusInAndStartAtBetween(
-            Collection<BookingStatus> statuses, OffsetDateTime from, OffsetDateTime to);
+    /**
+     * Approved bookings starting within {@code [from, to]} for which no reminder of the given type has
+     * been recorded yet.
+     */
+    List<Booking> findApprovedAwaitingReminder(ReminderType type, OffsetDateTime from, OffsetDateTime to);
+
+    /** Sets the status of every booking in {@code ids} in one statement and returns how many were updated. */
+    int updateStatus(Collection<UUID> ids, BookingStatus status);
+
+    /** Writes the current status of every booking in one batch round trip. */
+    void updateStatuses(Collection<Booking> bookings);
 }
@@ -0,0 +1,11 @@
+package com.example.calendar.domain.repository;
+
+import java.util.UUID;
+
+public interface CalendarVersionRepository {
+    /** Returns the developer's calendar version, {@code 0} while nothing has been changed yet. */
+    long current(UUID developerId);
+
+    /** Increments the version inside the caller's transaction, so it becomes visible together with the change. */
+    void bump(UUID developerId);
+}
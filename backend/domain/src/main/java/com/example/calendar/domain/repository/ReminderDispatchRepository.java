@@ -0,0 +1,13 @@
+package com.example.calendar.domain.repository;
+
+import com.example.calendar.domain.model.ReminderType;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public interface ReminderDispatchRepository {
+    /**
+     * Records that the reminder was sent. Returns {@code false} when it had already been recorded, so
+     * concurrent or repeated runs send each reminder at most once.
+     */
+    boolean tryRecord(UUID bookingId, ReminderType type, OffsetDateTime sentAt);
+}
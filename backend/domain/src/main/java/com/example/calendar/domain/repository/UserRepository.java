@@ -1,6 +1,8 @@
 package com.example.calendar.domain.repository;
 
 import com.example.calendar.domain.model.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,5 +11,7 @@ public interface UserRepository {
 
     Optional<User> findByPublicToken(String token);
 
+    List<User> findAllByPublicTokenIn(Collection<String> tokens);
+
     User save(User user);
 }
@@ -0,0 +1,65 @@
+package com.example.calendar.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class AvailabilityIndexTest {
+    private static final OffsetDateTime MONDAY = OffsetDateTime.of(2025, 1, 6, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void setClearAndContainsAreSlotGranular() {
+        AvailabilityIndex index = new AvailabilityIndex(MONDAY, MONDAY.plusDays(7));
+
+        index.set(MONDAY.plusHours(9));
+        index.set(MONDAY.plusHours(9).plusMinutes(30));
+        index.clear(MONDAY.plusHours(9));
+
+        assertThat(index.contains(MONDAY.plusHours(9))).isFalse();
+        assertThat(index.contains(MONDAY.plusHours(9).plusMinutes(30))).isTrue();
+        assertThat(index.cardinality()).isEqualTo(1);
+        assertThat(index.dayCount()).isEqualTo(7);
+    }
+
+    @Test
+    void slotStartsAreOrderedAndNormalizedToUtc() {
+        AvailabilityIndex index = new AvailabilityIndex(MONDAY, MONDAY.plusDays(2));
+        index.set(MONDAY.plusDays(1).plusHours(8));
+        index.set(OffsetDateTime.of(2025, 1, 6, 12, 30, 0, 0, ZoneOffset.ofHours(3)));
+
+        assertThat(index.slotStarts())
+                .containsExactly(MONDAY.plusHours(9).plusMinutes(30), MONDAY.plusDays(1).plusHours(8));
+        assertThat(index.dayMask(MONDAY.toLocalDate())).isEqualTo(1L << 19);
+    }
+
+    @Test
+    void rangesMergeContiguousSlotsAcrossMidnight() {
+        AvailabilityIndex index = new AvailabilityIndex(MONDAY, MONDAY.plusDays(3));
+        index.set(MONDAY.plusHours(9));
+        index.set(MONDAY.plusHours(9).plusMinutes(30));
+        index.set(MONDAY.plusHours(11));
+        index.set(MONDAY.plusHours(23).plusMinutes(30));
+        index.set(MONDAY.plusDays(1));
+        index.set(MONDAY.plusDays(2).plusHours(23).plusMinutes(30));
+
+        assertThat(index.ranges()).containsExactly(
+                new AvailabilityIndex.Range(MONDAY.plusHours(9), MONDAY.plusHours(10)),
+                new AvailabilityIndex.Range(MONDAY.plusHours(11), MONDAY.plusHours(11).plusMinutes(30)),
+                new AvailabilityIndex.Range(MONDAY.plusHours(23).plusMinutes(30), MONDAY.plusDays(1).plusMinutes(30)),
+                new AvailabilityIndex.Range(MONDAY.plusDays(2).plusHours(23).plusMinutes(30), MONDAY.plusDays(3)));
+    }
+
+    @Test
+    void rejectsMisalignedOrOutOfWindowSlots() {
+        AvailabilityIndex index = new AvailabilityIndex(MONDAY, MONDAY.plusDays(1));
+
+        assertThatThrownBy(() -> index.set(MONDAY.plusMinutes(15)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.set(MONDAY.plusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(index.contains(MONDAY.plusDays(3))).isFalse();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.calendar.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AvailabilityRuleTest {
+    private static final OffsetDateTime MONDAY = OffsetDateTime.of(2025, 1, 6, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private final AvailabilityRule weekdays = new AvailabilityRule(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+            LocalTime.of(10, 0),
+            LocalTime.of(17, 0),
+            LocalDate.of(2025, 1, 6),
+            LocalDate.of(2025, 1, 31));
+
+    @Test
+    void coversSlotsInsideTheDailyWindowOnListedDays() {
+        assertThat(weekdays.covers(MONDAY.plusHours(10))).isTrue();
+        assertThat(weekdays.covers(MONDAY.plusHours(16).plusMinutes(30))).isTrue();
+        assertThat(weekdays.covers(MONDAY.plusHours(17))).isFalse();
+        assertThat(weekdays.covers(MONDAY.plusHours(9).plusMinutes(30))).isFalse();
+        assertThat(weekdays.covers(MONDAY.plusDays(5).plusHours(12))).isFalse();
+        assertThat(weekdays.covers(MONDAY.minusDays(7).plusHours(12))).isFalse();
+    }
+
+    @Test
+    void coversComparesInUtc() {
+        assertThat(weekdays.covers(MONDAY.plusHours(10).atZoneSameInstant(ZoneOffset.ofHours(3)).toOffsetDateTime()))
+                .isTrue();
+    }
+
+    @Test
+    void addToMarksOnlySlotsInsideTheWindow() {
+        OffsetDateTime from = MONDAY.plusHours(16);
+        OffsetDateTime to = MONDAY.plusDays(7);
+        AvailabilityIndex index = new AvailabilityIndex(from, to);
+
+        weekdays.addTo(index, from, to);
+
+        // two slots left on Monday, fourteen on each of Tuesday to Friday
+        assertThat(index.cardinality()).isEqualTo(2 + 4 * 14);
+        assertThat(index.contains(MONDAY.plusHours(15).plusMinutes(30))).isFalse();
+        assertThat(index.ranges().get(0)).isEqualTo(
+                new AvailabilityIndex.Range(MONDAY.plusHours(16), MONDAY.plusHours(17)));
+    }
+
+    @Test
+    void slotIdsAreStablePerDeveloperAndStart() {
+        UUID developerId = UUID.randomUUID();
+
+        assertThat(AvailabilityRule.slotId(developerId, MONDAY)).isEqualTo(AvailabilityRule.slotId(developerId, MONDAY));
+        assertThat(AvailabilityRule.slotId(developerId, MONDAY))
+                .isNotEqualTo(AvailabilityRule.slotId(developerId, MONDAY.plusMinutes(30)));
+    }
+}
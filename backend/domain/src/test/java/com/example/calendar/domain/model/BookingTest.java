@@ -0,0 +1,30 @@
+package com.example.calendar.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class BookingTest {
+    @Test
+    void approveAndUnapproveMoveAnActiveBookingBetweenStatuses() {
+        Booking booking = new Booking();
+
+        booking.approve();
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        booking.unapprove();
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.NOT_APPROVED);
+    }
+
+    @Test
+    void aDeclinedBookingCannotBeApprovedOrUnapproved() {
+        Booking booking = new Booking();
+        booking.decline();
+
+        assertThatThrownBy(booking::approve).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(booking::unapprove).isInstanceOf(IllegalStateException.class);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.DECLINED);
+        booking.decline();
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.DECLINED);
+    }
+}
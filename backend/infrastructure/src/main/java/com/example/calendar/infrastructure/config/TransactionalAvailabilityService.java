@@ -1,15 +1,60 @@
 package com.example.calendar.infrastructure.config;
 
 import com.example.calendar.application.availability.DefaultAvailabilityService;
+import com.example.calendar.application.dto.AvailabilityBitmaskResponse;
+import com.example.calendar.application.dto.AvailabilityRangesResponse;
+import com.example.calendar.application.dto.AvailabilitySlotDto;
+import com.example.calendar.application.dto.Page;
+import com.example.calendar.application.port.out.AvailabilityReadPort;
+import com.example.calendar.application.port.out.CalendarEventPort;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
 import com.example.calendar.domain.repository.AvailabilitySlotRepository;
+import com.example.calendar.domain.repository.BookingRepository;
+import com.example.calendar.domain.repository.CalendarVersionRepository;
 import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
 public class TransactionalAvailabilityService extends DefaultAvailabilityService {
-    public TransactionalAvailabilityService(AvailabilitySlotRepository availabilitySlotRepository, Clock clock) {
-        super(availabilitySlotRepository, clock);
+    public TransactionalAvailabilityService(
+            AvailabilitySlotRepository availabilitySlotRepository,
+            AvailabilityRuleRepository availabilityRuleRepository,
+            BookingRepository bookingRepository,
+            AvailabilityReadPort availabilityReadPort,
+            CalendarVersionRepository calendarVersionRepository,
+            CalendarEventPort calendarEventPort,
+            Clock clock) {
+        super(availabilitySlotRepository, availabilityRuleRepository, bookingRepository, availabilityReadPort,
+                calendarVersionRepository, calendarEventPort, clock);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AvailabilitySlotDto> list(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, String pageToken, Integer pageSize) {
+        return super.list(developerId, from, to, pageToken, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<AvailabilitySlotDto> sink) {
+        super.export(developerId, from, to, sink);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AvailabilityRangesResponse listRanges(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        return super.listRanges(developerId, from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AvailabilityBitmaskResponse listBitmask(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        return super.listBitmask(developerId, from, to);
     }
 }
@@ -1,11 +1,22 @@
 package com.example.calendar.infrastructure.config;
 
 import com.example.calendar.application.booking.DefaultBookingService;
+import com.example.calendar.application.dto.BookingResponse;
+import com.example.calendar.application.dto.Page;
+import com.example.calendar.application.dto.PublicBookingResponse;
+import com.example.calendar.application.port.out.BookingReadPort;
+import com.example.calendar.application.port.out.CalendarEventPort;
+import com.example.calendar.application.port.out.NotificationPort;
+import com.example.calendar.domain.model.Role;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
 import com.example.calendar.domain.repository.AvailabilitySlotRepository;
 import com.example.calendar.domain.repository.BookingRepository;
+import com.example.calendar.domain.repository.CalendarVersionRepository;
 import com.example.calendar.domain.repository.EventTypeRepository;
-import com.example.calendar.application.port.out.NotificationPort;
 import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,10 +25,36 @@ import org.springframework.transaction.annotation.Transactional;
 public class TransactionalBookingService extends DefaultBookingService {
     public TransactionalBookingService(
             BookingRepository bookingRepository,
+            BookingReadPort bookingReadPort,
             AvailabilitySlotRepository availabilitySlotRepository,
+            AvailabilityRuleRepository availabilityRuleRepository,
             EventTypeRepository eventTypeRepository,
+            CalendarVersionRepository calendarVersionRepository,
             NotificationPort notificationPort,
+            CalendarEventPort calendarEventPort,
             Clock clock) {
-        super(bookingRepository, availabilitySlotRepository, eventTypeRepository, notificationPort, clock);
+        super(bookingRepository, bookingReadPort, availabilitySlotRepository, availabilityRuleRepository,
+                eventTypeRepository, calendarVersionRepository, notificationPort, calendarEventPort, clock);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PublicBookingResponse> getPublicBookings(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Role viewer, String pageToken, Integer pageSize) {
+        return super.getPublicBookings(developerId, from, to, viewer, pageToken, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BookingResponse> getDeveloperBookings(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, String pageToken, Integer pageSize) {
+        return super.getDeveloperBookings(developerId, from, to, pageToken, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportDeveloperBookings(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<BookingResponse> sink) {
+        super.exportDeveloperBookings(developerId, from, to, sink);
     }
 }
@@ -0,0 +1,14 @@
+package com.example.calendar.infrastructure.config;
+
+import com.example.calendar.application.calendar.DefaultCalendarVersionService;
+import com.example.calendar.domain.repository.CalendarVersionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class TransactionalCalendarVersionService extends DefaultCalendarVersionService {
+    public TransactionalCalendarVersionService(CalendarVersionRepository calendarVersionRepository) {
+        super(calendarVersionRepository);
+    }
+}
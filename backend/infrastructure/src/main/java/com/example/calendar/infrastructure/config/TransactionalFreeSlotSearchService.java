@@ -0,0 +1,21 @@
+package com.example.calendar.infrastructure.config;
+
+import com.example.calendar.application.port.out.AvailabilityReadPort;
+import com.example.calendar.application.search.DefaultFreeSlotSearchService;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
+import com.example.calendar.domain.repository.UserRepository;
+import java.time.Clock;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class TransactionalFreeSlotSearchService extends DefaultFreeSlotSearchService {
+    public TransactionalFreeSlotSearchService(
+            UserRepository userRepository,
+            AvailabilityReadPort availabilityReadPort,
+            AvailabilityRuleRepository availabilityRuleRepository,
+            Clock clock) {
+        super(userRepository, availabilityReadPort, availabilityRuleRepository, clock);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.calendar.infrastructure.event;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record AvailabilityChangedEvent(UUID developerId, List<OffsetDateTime> added, List<OffsetDateTime> removed) {
+}
@@ -0,0 +1,6 @@
+package com.example.calendar.infrastructure.event;
+
+import com.example.calendar.domain.model.Booking;
+
+public record BookingChangedEvent(Booking booking) {
+}
@@ -0,0 +1,33 @@
+package com.example.calendar.infrastructure.event;
+
+import com.example.calendar.application.port.out.CalendarEventPort;
+import com.example.calendar.domain.model.Booking;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SpringCalendarEventAdapter implements CalendarEventPort {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SpringCalendarEventAdapter(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void bookingChanged(Booking booking) {
+        eventPublisher.publishEvent(new BookingChangedEvent(booking));
+    }
+
+    @Override
+    public void slotsAdded(UUID developerId, List<OffsetDateTime> slotStarts) {
+        eventPublisher.publishEvent(new AvailabilityChangedEvent(developerId, List.copyOf(slotStarts), List.of()));
+    }
+
+    @Override
+    public void slotsRemoved(UUID developerId, List<OffsetDateTime> slotStarts) {
+        eventPublisher.publishEvent(new AvailabilityChangedEvent(developerId, List.of(), List.copyOf(slotStarts)));
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.calendar.infrastructure.notification;
 
-import com.example.calendar.application.port.out.NotificationPort;
 import com.example.calendar.domain.model.Booking;
 import com.example.calendar.domain.model.User;
+import com.example.calendar.infrastructure.persistence.entity.NotificationOutboxEntity.Channel;
 import com.example.calendar.infrastructure.telegram.TelegramClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.mail.MailException;
@@ -15,51 +18,88 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 @Component
-public class NotificationAdapter implements NotificationPort {
+public class NotificationAdapter {
     private static final Logger log = LoggerFactory.getLogger(NotificationAdapter.class);
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm z");
 
     private final JavaMailSender mailSender;
     private final TelegramClient telegramClient;
+    private final MeterRegistry meterRegistry;
 
-    public NotificationAdapter(JavaMailSender mailSender, TelegramClient telegramClient) {
+    public NotificationAdapter(JavaMailSender mailSender, TelegramClient telegramClient, MeterRegistry meterRegistry) {
         this.mailSender = mailSender;
         this.telegramClient = telegramClient;
+        this.meterRegistry = meterRegistry;
     }
 
-    @Override
-    public void notifyBookingCreated(User developer, Booking booking) {
-        String subject = "New booking request: " + booking.getCompany();
+    /**
+     * Sends the new-booking notification on one channel. Email is sent before this returns and throws on
+     * failure; the Telegram future completes after a single attempt, as the outbox retries failed entries.
+     */
+    public CompletableFuture<Void> deliverBookingCreated(User developer, Booking booking, Channel channel) {
         String text = buildBookingText(developer, booking, "A new interview was requested.");
-        sendEmail(subject, text, developer.getEmail(), booking.getHrEmail());
-        sendTelegram(developer, text);
+        return switch (channel) {
+            case EMAIL -> {
+                String subject = "New booking request: " + booking.getCompany();
+                send("booking_created", buildEmail(subject, text, developer.getEmail(), booking.getHrEmail()));
+                yield CompletableFuture.completedFuture(null);
+            }
+            case TELEGRAM -> sendTelegram("booking_created", developer, text, false);
+        };
     }
 
-    @Override
-    public void sendReminder(User developer, Booking booking, Duration untilStart) {
+    /** Email failures are logged; the returned future tracks the Telegram message. */
+    public CompletableFuture<Void> sendReminder(User developer, Booking booking, Duration untilStart) {
         String subject = "Upcoming interview in " + untilStart.toHoursPart() + "h" + (untilStart.toMinutesPart() > 0 ? untilStart.toMinutesPart() + "m" : "");
         String text = buildBookingText(
                 developer, booking, "Reminder: interview starts in " + formatDuration(untilStart) + ".");
-        sendEmail(subject, text, developer.getEmail(), booking.getHrEmail());
-        sendTelegram(developer, text);
+        try {
+            send("reminder", buildEmail(subject, text, developer.getEmail(), booking.getHrEmail()));
+        } catch (MailException ex) {
+            log.warn("Failed to send email: {}", ex.getMessage());
+        }
+        return sendTelegram("reminder", developer, text, true);
     }
 
-    private void sendEmail(String subject, String text, String... recipients) {
+    private void send(String kind, SimpleMailMessage message) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            mailSender.send(message);
+            outcome = "success";
+        } finally {
+            sample.stop(sendTimer("email", kind, outcome));
+        }
+    }
+
+    private SimpleMailMessage buildEmail(String subject, String text, String... recipients) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(recipients);
         message.setSubject(subject);
         message.setText(text);
-        try {
-            mailSender.send(message);
-        } catch (MailException ex) {
-            log.warn("Failed to send email: {}", ex.getMessage());
-        }
+        return message;
     }
 
-    private void sendTelegram(User developer, String text) {
-        if (StringUtils.hasText(developer.getTelegramChatId())) {
-            telegramClient.sendMessage(developer.getTelegramChatId(), text);
+    private CompletableFuture<Void> sendTelegram(String kind, User developer, String text, boolean retry) {
+        if (!StringUtils.hasText(developer.getTelegramChatId())) {
+            return CompletableFuture.completedFuture(null);
         }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String chatId = developer.getTelegramChatId();
+        CompletableFuture<Void> sent = retry
+                ? telegramClient.sendMessage(chatId, text)
+                : telegramClient.sendMessageOnce(chatId, text);
+        return sent
+                .whenComplete((ignored, error) ->
+                        sample.stop(sendTimer("telegram", kind, error == null ? "success" : "failure")));
+    }
+
+    private Timer sendTimer(String channel, String kind, String outcome) {
+        return Timer.builder("calendar.notification.send")
+                .tag("channel", channel)
+                .tag("kind", kind)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     private String buildBookingText(User developer, Booking booking, String header) {
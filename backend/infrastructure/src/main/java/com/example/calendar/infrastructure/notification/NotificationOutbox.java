@@ -0,0 +1,94 @@
+package com.example.calendar.infrastructure.notification;
+
+import com.example.calendar.infrastructure.persistence.entity.NotificationOutboxEntity;
+import com.example.calendar.infrastructure.persistence.repository.JpaNotificationOutboxRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class NotificationOutbox {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JpaNotificationOutboxRepository outboxRepository;
+    private final Clock clock;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public NotificationOutbox(
+            JpaNotificationOutboxRepository outboxRepository,
+            Clock clock,
+            @Value("${notification.outbox.lease:PT5M}") Duration lease,
+            @Value("${notification.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${notification.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+            @Value("${notification.outbox.max-backoff:PT1H}") Duration maxBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.clock = clock;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Transactional
+    public void enqueueBookingCreated(UUID bookingId, NotificationOutboxEntity.Channel channel) {
+        NotificationOutboxEntity entry = new NotificationOutboxEntity();
+        entry.setKind(NotificationOutboxEntity.Kind.BOOKING_CREATED);
+        entry.setBookingId(bookingId);
+        entry.setChannel(channel);
+        outboxRepository.save(entry);
+    }
+
+    /**
+     * Locks up to {@code limit} due entries and pushes their next attempt past the lease, so another
+     * poller (or another instance) skips them while they are being delivered outside the transaction.
+     */
+    @Transactional
+    public List<NotificationOutboxEntity> claimDue(int limit) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        List<NotificationOutboxEntity> due = outboxRepository.lockDue(now, limit);
+        due.forEach(entry -> entry.setNextAttemptAt(now.plus(lease)));
+        return due;
+    }
+
+    @Transactional
+    public void markDelivered(UUID id) {
+        outboxRepository.deleteById(id);
+    }
+
+    @Transactional
+    public void markFailed(UUID id, String error) {
+        outboxRepository.findById(id).ifPresent(entry -> {
+            int attempts = entry.getAttempts() + 1;
+            entry.setAttempts(attempts);
+            entry.setLastError(truncate(error));
+            if (attempts >= maxAttempts) {
+                entry.setStatus(NotificationOutboxEntity.Status.FAILED);
+            } else {
+                entry.setNextAttemptAt(OffsetDateTime.now(clock).plus(backoff(attempts)));
+            }
+        });
+    }
+
+    private Duration backoff(int attempts) {
+        long base = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        long jitter = ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+        return Duration.ofMillis(capped - jitter);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
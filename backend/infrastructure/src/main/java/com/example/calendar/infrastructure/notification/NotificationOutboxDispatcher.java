@@ -0,0 +1,117 @@
+package com.example.calendar.infrastructure.notification;
+
+import com.example.calendar.application.user.UserService;
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.User;
+import com.example.calendar.domain.repository.BookingRepository;
+import com.example.calendar.infrastructure.persistence.entity.NotificationOutboxEntity;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationOutboxDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(NotificationOutboxDispatcher.class);
+
+    private final NotificationOutbox outbox;
+    private final BookingRepository bookingRepository;
+    private final UserService userService;
+    private final NotificationAdapter notificationAdapter;
+    private final Duration sendTimeout;
+    private final ThreadPoolExecutor workers;
+
+    public NotificationOutboxDispatcher(
+            NotificationOutbox outbox,
+            BookingRepository bookingRepository,
+            UserService userService,
+            NotificationAdapter notificationAdapter,
+            @Value("${notification.outbox.workers:4}") int workerCount,
+            @Value("${notification.outbox.queue-capacity:100}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${notification.outbox.send-timeout:PT1M}") Duration sendTimeout,
+            @Value("${notification.outbox.lease:PT5M}") Duration lease) {
+        // a send still running when the lease runs out would be claimed and sent a second time
+        if (sendTimeout.compareTo(lease) >= 0) {
+            throw new IllegalArgumentException("notification.outbox.send-timeout must be shorter than the lease");
+        }
+        this.outbox = outbox;
+        this.bookingRepository = bookingRepository;
+        this.userService = userService;
+        this.notificationAdapter = notificationAdapter;
+        this.sendTimeout = sendTimeout;
+        // the pool still caps concurrent sends at workerCount; virtual workers make a large cap cheap
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("notification-outbox-", 0).factory()
+                : new CustomizableThreadFactory("notification-outbox-");
+        this.workers = new ThreadPoolExecutor(
+                workerCount,
+                workerCount,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:PT2S}")
+    public void dispatch() {
+        int capacity = workers.getMaximumPoolSize() - workers.getActiveCount() + workers.getQueue().remainingCapacity();
+        if (capacity <= 0) {
+            return;
+        }
+        for (NotificationOutboxEntity entry : outbox.claimDue(capacity)) {
+            try {
+                workers.execute(() -> deliver(entry));
+            } catch (RejectedExecutionException ex) {
+                // the lease expires and the entry is picked up by a later poll
+                log.debug("Outbox worker pool is saturated, deferring {}", entry.getId());
+            }
+        }
+    }
+
+    private void deliver(NotificationOutboxEntity entry) {
+        try {
+            Optional<Booking> booking = bookingRepository.findById(entry.getBookingId());
+            if (booking.isPresent()) {
+                User developer = userService.getDeveloper(booking.get().getDeveloperId());
+                // the entry stays claimed until the channel answered, so a restart retries it
+                notificationAdapter.deliverBookingCreated(developer, booking.get(), entry.getChannel())
+                        .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            outbox.markDelivered(entry.getId());
+        } catch (InterruptedException ex) {
+            // shutting down: the lease expires and a later poll retries the entry
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException ex) {
+            fail(entry, "No answer within " + sendTimeout);
+        } catch (ExecutionException ex) {
+            fail(entry, ex.getCause().getMessage());
+        } catch (RuntimeException ex) {
+            fail(entry, ex.getMessage());
+        }
+    }
+
+    private void fail(NotificationOutboxEntity entry, String error) {
+        log.warn("Failed to deliver {} outbox notification {} (attempt {}): {}",
+                entry.getChannel(), entry.getId(), entry.getAttempts() + 1, error);
+        outbox.markFailed(entry.getId(), error);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.calendar.infrastructure.notification;
+
+import com.example.calendar.application.port.out.NotificationPort;
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.User;
+import com.example.calendar.infrastructure.persistence.entity.NotificationOutboxEntity;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+public class OutboxNotificationAdapter implements NotificationPort {
+    private final NotificationOutbox outbox;
+    private final NotificationAdapter notificationAdapter;
+
+    public OutboxNotificationAdapter(NotificationOutbox outbox, NotificationAdapter notificationAdapter) {
+        this.outbox = outbox;
+        this.notificationAdapter = notificationAdapter;
+    }
+
+    @Override
+    public void notifyBookingCreated(User developer, Booking booking) {
+        outbox.enqueueBookingCreated(booking.getId(), NotificationOutboxEntity.Channel.EMAIL);
+        if (StringUtils.hasText(developer.getTelegramChatId())) {
+            outbox.enqueueBookingCreated(booking.getId(), NotificationOutboxEntity.Channel.TELEGRAM);
+        }
+    }
+
+    /**
+     * Reminders are not retried: the dispatch is recorded before sending so it fires at most once, and a
+     * failed Telegram send is logged by the client.
+     */
+    @Override
+    public void sendReminder(User developer, Booking booking, Duration untilStart) {
+        notificationAdapter.sendReminder(developer, booking, untilStart);
+    }
+}
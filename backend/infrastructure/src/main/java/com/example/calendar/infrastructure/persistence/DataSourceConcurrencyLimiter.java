@@ -0,0 +1,45 @@
+package com.example.calendar.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the application's {@link DataSource} in a {@link ConcurrencyLimitedDataSource} when
+ * {@code calendar.datasource.max-concurrency} is positive. Off by default; the virtual-threads profile
+ * sets it to the pool size.
+ */
+@Component
+public class DataSourceConcurrencyLimiter implements BeanPostProcessor {
+    private final Environment environment;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public DataSourceConcurrencyLimiter(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        int maxConcurrency = environment.getProperty("calendar.datasource.max-concurrency", Integer.class, 0);
+        if (!(bean instanceof DataSource dataSource)
+                || bean instanceof ConcurrencyLimitedDataSource
+                || maxConcurrency <= 0) {
+            return bean;
+        }
+        Duration acquireTimeout =
+                environment.getProperty("calendar.datasource.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+        ConcurrencyLimitedDataSource limited =
+                new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeout);
+        meterRegistry.ifAvailable(registry -> Gauge.builder(
+                        "calendar.datasource.permits.available", limited, ConcurrencyLimitedDataSource::availablePermits)
+                .tag("name", beanName)
+                .register(registry));
+        return limited;
+    }
+}
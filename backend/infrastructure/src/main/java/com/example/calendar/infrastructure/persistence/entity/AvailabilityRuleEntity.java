@@ -0,0 +1,123 @@
+package com.example.calendar.infrastructure.persistence.entity;
+
+import com.example.calendar.domain.model.AvailabilityRule;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Entity
+@Table(name = "availability_rule")
+public class AvailabilityRuleEntity {
+    @Id
+    @GeneratedValue
+    @Column(columnDefinition = "uuid")
+    private UUID id;
+
+    @Column(name = "developer_id", nullable = false, columnDefinition = "uuid")
+    private UUID developerId;
+
+    @Column(nullable = false)
+    private int weekdays;
+
+    @Column(name = "daily_start", nullable = false)
+    private LocalTime dailyStart;
+
+    @Column(name = "daily_end", nullable = false)
+    private LocalTime dailyEnd;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getDeveloperId() {
+        return developerId;
+    }
+
+    public void setDeveloperId(UUID developerId) {
+        this.developerId = developerId;
+    }
+
+    public int getWeekdays() {
+        return weekdays;
+    }
+
+    public void setWeekdays(int weekdays) {
+        this.weekdays = weekdays;
+    }
+
+    public LocalTime getDailyStart() {
+        return dailyStart;
+    }
+
+    public void setDailyStart(LocalTime dailyStart) {
+        this.dailyStart = dailyStart;
+    }
+
+    public LocalTime getDailyEnd() {
+        return dailyEnd;
+    }
+
+    public void setDailyEnd(LocalTime dailyEnd) {
+        this.dailyEnd = dailyEnd;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public AvailabilityRule toDomain() {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((weekdays & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return new AvailabilityRule(id, developerId, days, dailyStart, dailyEnd, startDate, endDate);
+    }
+
+    public static AvailabilityRuleEntity fromDomain(AvailabilityRule rule) {
+        AvailabilityRuleEntity entity = new AvailabilityRuleEntity();
+        entity.setId(rule.getId());
+        entity.setDeveloperId(rule.getDeveloperId());
+        int mask = 0;
+        for (DayOfWeek day : rule.getWeekdays()) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        entity.setWeekdays(mask);
+        entity.setDailyStart(rule.getDailyStart());
+        entity.setDailyEnd(rule.getDailyEnd());
+        entity.setStartDate(rule.getStartDate());
+        entity.setEndDate(rule.getEndDate());
+        return entity;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import com.example.calendar.application.dto.AvailabilitySlotDto;
+import com.example.calendar.application.port.out.AvailabilityReadPort;
+import com.example.calendar.domain.model.AvailabilityRule;
+import com.example.calendar.domain.model.KeysetCursor;
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads {@code availability_range} as 30-minute slots expanded in the query. A developer has one slot per
+ * start, so pages continue after the cursor's start alone.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.availability.storage", havingValue = "ranges")
+public class AvailabilityRangeReadAdapter implements AvailabilityReadPort {
+    static final String PAGE_SQL = """
+            SELECT slot.start_at FROM availability_range r,
+              generate_series(lower(r.period), upper(r.period) - interval '30 minutes', interval '30 minutes')
+                AS slot(start_at)
+            WHERE r.developer_id = ? AND r.period && tstzrange(?::timestamptz, ?::timestamptz, '[]')
+              AND slot.start_at BETWEEN ? AND ?
+            ORDER BY slot.start_at
+            LIMIT ?
+            """;
+    static final String PAGE_AFTER_SQL = """
+            SELECT slot.start_at FROM availability_range r,
+              generate_series(lower(r.period), upper(r.period) - interval '30 minutes', interval '30 minutes')
+                AS slot(start_at)
+            WHERE r.developer_id = ? AND r.period && tstzrange(?::timestamptz, ?::timestamptz, '[]')
+              AND slot.start_at BETWEEN ? AND ? AND slot.start_at > ?
+            ORDER BY slot.start_at
+            LIMIT ?
+            """;
+    static final String SLOT_STARTS_SQL = """
+            SELECT r.developer_id, slot.start_at FROM availability_range r,
+              generate_series(lower(r.period), upper(r.period) - interval '30 minutes', interval '30 minutes')
+                AS slot(start_at)
+            WHERE r.developer_id = ANY(?) AND r.period && tstzrange(?::timestamptz, ?::timestamptz)
+              AND slot.start_at >= ? AND slot.start_at < ?
+            ORDER BY r.developer_id, slot.start_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AvailabilityRangeReadAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<AvailabilitySlotDto> findPage(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, KeysetCursor after, int limit) {
+        RowMapper<AvailabilitySlotDto> slot = (rs, rowNum) -> {
+            OffsetDateTime startAt = rs.getObject("start_at", OffsetDateTime.class);
+            return new AvailabilitySlotDto(AvailabilityRule.slotId(developerId, startAt), startAt, 30);
+        };
+        return after == null
+                ? jdbcTemplate.query(PAGE_SQL, slot, developerId, from, to, from, to, limit)
+                : jdbcTemplate.query(PAGE_AFTER_SQL, slot, developerId, from, to, from, to, after.startAt(), limit);
+    }
+
+    @Override
+    public void forEachSlotStart(
+            Collection<UUID> developerIds,
+            OffsetDateTime from,
+            OffsetDateTime to,
+            BiConsumer<UUID, OffsetDateTime> action) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SLOT_STARTS_SQL);
+                    statement.setArray(1, connection.createArrayOf("uuid", developerIds.toArray()));
+                    statement.setObject(2, from);
+                    statement.setObject(3, to);
+                    statement.setObject(4, from);
+                    statement.setObject(5, to);
+                    return statement;
+                },
+                rs -> {
+                    action.accept(rs.getObject("developer_id", UUID.class), rs.getObject("start_at", OffsetDateTime.class));
+                });
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import com.example.calendar.domain.model.AvailabilityIndex;
+import com.example.calendar.domain.model.AvailabilityRule;
+import com.example.calendar.domain.model.AvailabilitySlot;
+import com.example.calendar.domain.repository.AvailabilitySlotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a developer's free time in {@code availability_range} as merged, non-overlapping half-open
+ * intervals. Adding slots merges them with the intervals they touch and taking slots splits the interval
+ * they come from, each in one statement, so a booking rewrites at most three rows whatever its length.
+ * Slots handed out carry the same derived ids as rule slots. Writes take a per-developer transaction lock
+ * first, so concurrent merges and splits never read an interval the other one is replacing.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.availability.storage", havingValue = "ranges")
+public class AvailabilityRangeRepositoryAdapter implements AvailabilitySlotRepository {
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtextextended(?::text, 0))";
+    static final String RANGES_SQL = """
+            SELECT lower(period) AS lower_at, upper(period) AS upper_at FROM availability_range
+            WHERE developer_id = ? AND period && tstzrange(?::timestamptz, ?::timestamptz)
+            ORDER BY period
+            """;
+    static final String STREAM_SQL = """
+            SELECT slot.start_at FROM availability_range r,
+              generate_series(lower(r.period), upper(r.period) - interval '30 minutes', interval '30 minutes')
+                AS slot(start_at)
+            WHERE r.developer_id = ? AND r.period && tstzrange(?::timestamptz, ?::timestamptz, '[]')
+              AND slot.start_at BETWEEN ? AND ?
+            ORDER BY slot.start_at
+            """;
+    private static final String CONTAINS_SQL = """
+            SELECT EXISTS (SELECT 1 FROM availability_range WHERE developer_id = ? AND period @> ?::timestamptz)
+            """;
+    /** Inserts the missing slots merged with the intervals they touch; returns the starts that were missing. */
+    static final String ADD_SQL = """
+            WITH missing AS (
+              SELECT DISTINCT c.start_at, tstzrange(c.start_at, c.start_at + interval '30 minutes') AS period
+              FROM unnest(?::timestamptz[]) AS c(start_at)
+              WHERE NOT EXISTS (
+                SELECT 1 FROM availability_range r WHERE r.developer_id = ? AND r.period @> c.start_at)
+            ), added AS (
+              SELECT range_agg(period) AS periods FROM missing
+            ), absorbed AS (
+              DELETE FROM availability_range r USING added
+              WHERE r.developer_id = ?
+                AND EXISTS (SELECT 1 FROM unnest(added.periods) AS p(period) WHERE r.period -|- p.period)
+              RETURNING r.period
+            ), merged AS (
+              INSERT INTO availability_range (developer_id, period)
+              SELECT ?, unnest(range_agg(part)) FROM (
+                SELECT unnest(periods) FROM added
+                UNION ALL
+                SELECT period FROM absorbed) AS parts(part)
+            )
+            SELECT start_at FROM missing ORDER BY start_at
+            """;
+    /** Cuts the given slots out of the intervals they fall in; returns how many of them were free. */
+    static final String SUBTRACT_SQL = """
+            WITH removed AS (
+              SELECT range_agg(tstzrange(start_at, start_at + interval '30 minutes')) AS periods
+              FROM unnest(?::timestamptz[]) AS c(start_at)
+            ), cut AS (
+              DELETE FROM availability_range r USING removed
+              WHERE r.developer_id = ? AND r.period && removed.periods
+              RETURNING tstzmultirange(r.period) AS periods, removed.periods AS taken
+            ), kept AS (
+              INSERT INTO availability_range (developer_id, period)
+              SELECT ?, unnest(periods - taken) FROM cut
+            )
+            SELECT COALESCE(SUM(extract(epoch FROM upper(part) - lower(part)) / 1800), 0)::int
+            FROM cut, unnest(periods * taken) AS part
+            """;
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final int SLOT_MINUTES = 30;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter reservationConflicts;
+
+    public AvailabilityRangeRepositoryAdapter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reservationConflicts = Counter.builder("calendar.reservation.conflicts")
+                .description("Reservations that found fewer free slots than requested")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void forEachByDeveloperIdAndStartAtBetweenOrderByStartAt(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<AvailabilitySlot> action) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(STREAM_SQL);
+                    statement.setFetchSize(STREAM_FETCH_SIZE);
+                    statement.setObject(1, developerId);
+                    statement.setObject(2, from);
+                    statement.setObject(3, to);
+                    statement.setObject(4, from);
+                    statement.setObject(5, to);
+                    return statement;
+                },
+                rs -> {
+                    action.accept(slot(developerId, rs.getObject("start_at", OffsetDateTime.class)));
+                });
+    }
+
+    @Override
+    public AvailabilityIndex loadIndex(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        AvailabilityIndex index = new AvailabilityIndex(from, to);
+        jdbcTemplate.query(RANGES_SQL, rs -> {
+            OffsetDateTime lower = rs.getObject("lower_at", OffsetDateTime.class);
+            OffsetDateTime upper = rs.getObject("upper_at", OffsetDateTime.class);
+            OffsetDateTime start = lower;
+            if (start.isBefore(from)) {
+                long skipped = Math.ceilDiv(Duration.between(lower, from).toMinutes(), SLOT_MINUTES);
+                start = lower.plusMinutes(skipped * SLOT_MINUTES);
+            }
+            for (; start.isBefore(upper) && start.isBefore(to); start = start.plusMinutes(SLOT_MINUTES)) {
+                index.set(start);
+            }
+        }, developerId, from, to);
+        return index;
+    }
+
+    @Override
+    public boolean existsByDeveloperIdAndStartAt(UUID developerId, OffsetDateTime startAt) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(CONTAINS_SQL, Boolean.class, developerId, startAt));
+    }
+
+    @Override
+    public Optional<AvailabilitySlot> findByDeveloperIdAndStartAt(UUID developerId, OffsetDateTime startAt) {
+        return existsByDeveloperIdAndStartAt(developerId, startAt)
+                ? Optional.of(slot(developerId, startAt))
+                : Optional.empty();
+    }
+
+    @Override
+    public AvailabilitySlot save(AvailabilitySlot slot) {
+        insertMissing(slot.getDeveloperId(), List.of(slot.getStartAt()));
+        return slot(slot.getDeveloperId(), slot.getStartAt());
+    }
+
+    @Override
+    public List<AvailabilitySlot> insertMissing(UUID developerId, Collection<OffsetDateTime> startTimes) {
+        if (startTimes.isEmpty()) {
+            return List.of();
+        }
+        lock(developerId);
+        String[] starts = startTimes.stream().map(OffsetDateTime::toString).toArray(String[]::new);
+        return jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(ADD_SQL);
+                    statement.setArray(1, connection.createArrayOf("timestamptz", starts));
+                    statement.setObject(2, developerId);
+                    statement.setObject(3, developerId);
+                    statement.setObject(4, developerId);
+                    return statement;
+                },
+                (rs, rowNum) -> slot(developerId, rs.getObject("start_at", OffsetDateTime.class)));
+    }
+
+    @Override
+    public void delete(AvailabilitySlot slot) {
+        deleteStartTimes(slot.getDeveloperId(), List.of(slot.getStartAt()));
+    }
+
+    @Override
+    public int deleteStartTimes(UUID developerId, Collection<OffsetDateTime> startTimes) {
+        if (startTimes.isEmpty()) {
+            return 0;
+        }
+        lock(developerId);
+        String[] starts = startTimes.stream().map(OffsetDateTime::toString).toArray(String[]::new);
+        Integer removed = jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SUBTRACT_SQL);
+                    statement.setArray(1, connection.createArrayOf("timestamptz", starts));
+                    statement.setObject(2, developerId);
+                    statement.setObject(3, developerId);
+                    return statement;
+                },
+                rs -> rs.next() ? rs.getInt(1) : 0);
+        return removed == null ? 0 : removed;
+    }
+
+    @Override
+    public int reserveRange(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        List<OffsetDateTime> starts = new ArrayList<>();
+        for (OffsetDateTime start = from; start.isBefore(to); start = start.plusMinutes(SLOT_MINUTES)) {
+            starts.add(start);
+        }
+        int reserved = deleteStartTimes(developerId, starts);
+        if (reserved < starts.size()) {
+            reservationConflicts.increment();
+        }
+        return reserved;
+    }
+
+    private void lock(UUID developerId) {
+        jdbcTemplate.query(LOCK_SQL, rs -> {}, developerId);
+    }
+
+    private static AvailabilitySlot slot(UUID developerId, OffsetDateTime startAt) {
+        return new AvailabilitySlot(AvailabilityRule.slotId(developerId, startAt), developerId, startAt, SLOT_MINUTES);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import com.example.calendar.application.dto.AvailabilitySlotDto;
+import com.example.calendar.application.port.out.AvailabilityReadPort;
+import com.example.calendar.domain.model.KeysetCursor;
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+/** Maps rows straight into response records; nothing is loaded into the persistence context. */
+@Component
+@ConditionalOnProperty(name = "calendar.availability.storage", havingValue = "slots", matchIfMissing = true)
+public class AvailabilityReadAdapter implements AvailabilityReadPort {
+    static final String PAGE_SQL = """
+            SELECT id, start_at, duration_minutes FROM availability_slot
+            WHERE developer_id = ? AND start_at BETWEEN ? AND ?
+            ORDER BY start_at, id
+            LIMIT ?
+            """;
+    static final String PAGE_AFTER_SQL = """
+            SELECT id, start_at, duration_minutes FROM availability_slot
+            WHERE developer_id = ? AND start_at BETWEEN ? AND ?
+              AND (start_at > ? OR (start_at = ? AND id > ?))
+            ORDER BY start_at, id
+            LIMIT ?
+            """;
+    static final String SLOT_STARTS_SQL = """
+            SELECT developer_id, start_at FROM availability_slot
+            WHERE developer_id = ANY(?) AND start_at >= ? AND start_at < ?
+            ORDER BY developer_id, start_at
+            """;
+    static final RowMapper<AvailabilitySlotDto> SLOT = (rs, rowNum) -> new AvailabilitySlotDto(
+            rs.getObject("id", UUID.class),
+            rs.getObject("start_at", OffsetDateTime.class),
+            rs.getInt("duration_minutes"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AvailabilityReadAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<AvailabilitySlotDto> findPage(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, KeysetCursor after, int limit) {
+        return after == null
+                ? jdbcTemplate.query(PAGE_SQL, SLOT, developerId, from, to, limit)
+                : jdbcTemplate.query(
+                        PAGE_AFTER_SQL, SLOT, developerId, from, to, after.startAt(), after.startAt(), after.id(), limit);
+    }
+
+    @Override
+    public void forEachSlotStart(
+            Collection<UUID> developerIds,
+            OffsetDateTime from,
+            OffsetDateTime to,
+            BiConsumer<UUID, OffsetDateTime> action) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SLOT_STARTS_SQL);
+                    statement.setArray(1, connection.createArrayOf("uuid", developerIds.toArray()));
+                    statement.setObject(2, from);
+                    statement.setObject(3, to);
+                    return statement;
+                },
+                rs -> {
+                    action.accept(rs.getObject("developer_id", UUID.class), rs.getObject("start_at", OffsetDateTime.class));
+                });
+    }
+}
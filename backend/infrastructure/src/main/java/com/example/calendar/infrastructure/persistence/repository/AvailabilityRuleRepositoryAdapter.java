@@ -0,0 +1,120 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import com.example.calendar.domain.model.AvailabilityRule;
+import com.example.calendar.domain.repository.AvailabilityRuleRepository;
+import com.example.calendar.infrastructure.persistence.entity.AvailabilityRuleEntity;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AvailabilityRuleRepositoryAdapter implements AvailabilityRuleRepository {
+    static final String EXCEPTIONS_SQL = """
+            SELECT developer_id, start_at FROM availability_exception
+            WHERE developer_id = ANY(?) AND start_at >= ? AND start_at < ?
+            ORDER BY developer_id, start_at
+            """;
+    private static final String ADD_EXCEPTIONS_SQL = """
+            INSERT INTO availability_exception (developer_id, start_at)
+            SELECT ?, start_at FROM unnest(?::timestamptz[]) AS candidate(start_at)
+            ON CONFLICT (developer_id, start_at) DO NOTHING
+            RETURNING start_at
+            """;
+    private static final String REMOVE_EXCEPTIONS_SQL = """
+            DELETE FROM availability_exception
+            WHERE developer_id = ? AND start_at = ANY(?::timestamptz[])
+            RETURNING start_at
+            """;
+    private static final RowMapper<OffsetDateTime> START_AT = (rs, rowNum) -> rs.getObject("start_at", OffsetDateTime.class);
+
+    private final JpaAvailabilityRuleRepository availabilityRuleRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public AvailabilityRuleRepositoryAdapter(
+            JpaAvailabilityRuleRepository availabilityRuleRepository, JdbcTemplate jdbcTemplate) {
+        this.availabilityRuleRepository = availabilityRuleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public AvailabilityRule save(AvailabilityRule rule) {
+        return availabilityRuleRepository.save(AvailabilityRuleEntity.fromDomain(rule)).toDomain();
+    }
+
+    @Override
+    public Optional<AvailabilityRule> findByIdAndDeveloperId(UUID id, UUID developerId) {
+        return availabilityRuleRepository.findByIdAndDeveloperId(id, developerId).map(AvailabilityRuleEntity::toDomain);
+    }
+
+    @Override
+    public List<AvailabilityRule> findAllByDeveloperId(UUID developerId) {
+        return availabilityRuleRepository.findAllByDeveloperIdOrderByStartDate(developerId).stream()
+                .map(AvailabilityRuleEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<AvailabilityRule> findActiveBetween(Collection<UUID> developerIds, LocalDate from, LocalDate to) {
+        return availabilityRuleRepository.findActiveBetween(developerIds, from, to).stream()
+                .map(AvailabilityRuleEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void delete(AvailabilityRule rule) {
+        availabilityRuleRepository.deleteById(rule.getId());
+    }
+
+    @Override
+    public void forEachExceptionStart(
+            Collection<UUID> developerIds,
+            OffsetDateTime from,
+            OffsetDateTime to,
+            BiConsumer<UUID, OffsetDateTime> action) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(EXCEPTIONS_SQL);
+                    statement.setArray(1, connection.createArrayOf("uuid", developerIds.toArray()));
+                    statement.setObject(2, from);
+                    statement.setObject(3, to);
+                    return statement;
+                },
+                rs -> {
+                    action.accept(rs.getObject("developer_id", UUID.class), rs.getObject("start_at", OffsetDateTime.class));
+                });
+    }
+
+    @Override
+    public List<OffsetDateTime> addExceptions(UUID developerId, Collection<OffsetDateTime> startTimes) {
+        return update(ADD_EXCEPTIONS_SQL, developerId, startTimes);
+    }
+
+    @Override
+    public List<OffsetDateTime> removeExceptions(UUID developerId, Collection<OffsetDateTime> startTimes) {
+        return update(REMOVE_EXCEPTIONS_SQL, developerId, startTimes);
+    }
+
+    private List<OffsetDateTime> update(String sql, UUID developerId, Collection<OffsetDateTime> startTimes) {
+        if (startTimes.isEmpty()) {
+            return List.of();
+        }
+        String[] starts = startTimes.stream().map(OffsetDateTime::toString).toArray(String[]::new);
+        List<OffsetDateTime> changed = jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql);
+                    statement.setObject(1, developerId);
+                    statement.setArray(2, connection.createArrayOf("timestamptz", starts));
+                    return statement;
+                },
+                START_AT);
+        return changed.stream().sorted().toList();
+    }
+}
@@ -1,40 +1,87 @@
 package com.example.calendar.infrastructure.persistence.repository;
 
+import com.example.calendar.domain.model.AvailabilityIndex;
 import com.example.calendar.domain.model.AvailabilitySlot;
 import com.example.calendar.domain.repository.AvailabilitySlotRepository;
 import com.example.calendar.infrastructure.persistence.entity.AvailabilitySlotEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.PreparedStatement;
+import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "calendar.availability.storage", havingValue = "slots", matchIfMissing = true)
 public class AvailabilitySlotRepositoryAdapter implements AvailabilitySlotRepository {
+    private static final String INSERT_MISSING_SQL = """
+            INSERT INTO availability_slot (developer_id, start_at, duration_minutes)
+            SELECT ?, start_at, 30 FROM unnest(?::timestamptz[]) AS candidate(start_at)
+            ON CONFLICT (developer_id, start_at) DO NOTHING
+            RETURNING id, start_at, duration_minutes
+            """;
+    private static final String DELETE_START_TIMES_SQL = """
+            DELETE FROM availability_slot WHERE developer_id = ? AND start_at = ANY(?::timestamptz[])
+            """;
+    static final String STREAM_SQL = """
+            SELECT id, start_at, duration_minutes FROM availability_slot
+            WHERE developer_id = ? AND start_at BETWEEN ? AND ?
+            ORDER BY start_at
+            """;
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final JpaAvailabilitySlotRepository availabilitySlotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter reservationConflicts;
 
-    public AvailabilitySlotRepositoryAdapter(JpaAvailabilitySlotRepository availabilitySlotRepository) {
+    public AvailabilitySlotRepositoryAdapter(
+            JpaAvailabilitySlotRepository availabilitySlotRepository,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry) {
         this.availabilitySlotRepository = availabilitySlotRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.reservationConflicts = Counter.builder("calendar.reservation.conflicts")
+                .description("Reservations that found fewer free slots than requested")
+                .register(meterRegistry);
     }
 
     @Override
-    public List<AvailabilitySlot> findAllByDeveloperIdAndStartAtBetweenOrderByStartAt(
-            UUID developerId, OffsetDateTime from, OffsetDateTime to) {
-        return availabilitySlotRepository
-                .findAllByDeveloperIdAndStartAtBetweenOrderByStartAt(developerId, from, to)
-                .stream()
-                .map(AvailabilitySlotEntity::toDomain)
-                .toList();
+    public void forEachByDeveloperIdAndStartAtBetweenOrderByStartAt(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<AvailabilitySlot> action) {
+        // the driver only uses a cursor inside a transaction; otherwise it buffers the whole result
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(STREAM_SQL);
+                    statement.setFetchSize(STREAM_FETCH_SIZE);
+                    statement.setObject(1, developerId);
+                    statement.setObject(2, from);
+                    statement.setObject(3, to);
+                    return statement;
+                },
+                rs -> {
+                    action.accept(new AvailabilitySlot(
+                            rs.getObject("id", UUID.class),
+                            developerId,
+                            rs.getObject("start_at", OffsetDateTime.class),
+                            rs.getInt("duration_minutes")));
+                });
     }
 
     @Override
-    public List<AvailabilitySlot> lockRange(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
-        return availabilitySlotRepository
-                .lockRange(developerId, from, to)
-                .stream()
-                .map(AvailabilitySlotEntity::toDomain)
-                .toList();
+    public AvailabilityIndex loadIndex(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        AvailabilityIndex index = new AvailabilityIndex(from, to);
+        for (OffsetDateTime startAt : availabilitySlotRepository.findStartTimes(developerId, from, to)) {
+            index.set(startAt);
+        }
+        return index;
     }
 
     @Override
@@ -54,6 +101,27 @@ public class AvailabilitySlotRepositoryAdapter implements AvailabilitySlotReposi
         return saved.toDomain();
     }
 
+    @Override
+    public List<AvailabilitySlot> insertMissing(UUID developerId, Collection<OffsetDateTime> startTimes) {
+        if (startTimes.isEmpty()) {
+            return List.of();
+        }
+        String[] starts = startTimes.stream().map(OffsetDateTime::toString).toArray(String[]::new);
+        List<AvailabilitySlot> inserted = jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(INSERT_MISSING_SQL);
+                    statement.setObject(1, developerId);
+                    statement.setArray(2, connection.createArrayOf("timestamptz", starts));
+                    return statement;
+                },
+                (rs, rowNum) -> new AvailabilitySlot(
+                        rs.getObject("id", UUID.class),
+                        developerId,
+                        rs.getObject("start_at", OffsetDateTime.class),
+                        rs.getInt("duration_minutes")));
+        return inserted.stream().sorted(Comparator.comparing(AvailabilitySlot::getStartAt)).toList();
+    }
+
     @Override
     public void delete(AvailabilitySlot slot) {
         if (slot.getId() != null) {
@@ -64,21 +132,25 @@ public class AvailabilitySlotRepositoryAdapter implements AvailabilitySlotReposi
     }
 
     @Override
-    public void deleteAll(Iterable<AvailabilitySlot> slots) {
-        List<UUID> ids = new ArrayList<>();
-        List<AvailabilitySlotEntity> entities = new ArrayList<>();
-        for (AvailabilitySlot slot : slots) {
-            if (slot.getId() != null) {
-                ids.add(slot.getId());
-            } else {
-                entities.add(AvailabilitySlotEntity.fromDomain(slot));
-            }
-        }
-        if (!ids.isEmpty()) {
-            availabilitySlotRepository.deleteAllById(ids);
+    public int deleteStartTimes(UUID developerId, Collection<OffsetDateTime> startTimes) {
+        if (startTimes.isEmpty()) {
+            return 0;
         }
-        if (!entities.isEmpty()) {
-            availabilitySlotRepository.deleteAll(entities);
+        String[] starts = startTimes.stream().map(OffsetDateTime::toString).toArray(String[]::new);
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE_START_TIMES_SQL);
+            statement.setObject(1, developerId);
+            statement.setArray(2, connection.createArrayOf("timestamptz", starts));
+            return statement;
+        });
+    }
+
+    @Override
+    public int reserveRange(UUID developerId, OffsetDateTime from, OffsetDateTime to) {
+        int reserved = availabilitySlotRepository.deleteRange(developerId, from, to);
+        if (reserved < Duration.between(from, to).toMinutes() / 30) {
+            reservationConflicts.increment();
         }
+        return reserved;
     }
 }
@@ -0,0 +1,118 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import com.example.calendar.application.dto.BookingResponse;
+import com.example.calendar.application.dto.PublicBookingResponse;
+import com.example.calendar.application.port.out.BookingReadPort;
+import com.example.calendar.domain.model.BookingStatus;
+import com.example.calendar.domain.model.KeysetCursor;
+import com.example.calendar.domain.model.Role;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps rows straight into response records; nothing is loaded into the persistence context. Details of
+ * bookings the public viewer may not see are blanked in SQL, so they never leave the database, and the
+ * public mapper drops them again so a change to the query alone cannot expose them.
+ */
+@Component
+public class BookingReadAdapter implements BookingReadPort {
+    private static final String RESPONSE_COLUMNS = """
+            SELECT b.id, b.start_at, b.duration_minutes, b.status, b.event_type_name, b.company, b.hr_name,
+              b.hr_email, b.meeting_link, b.created_by_role
+            FROM booking b
+            """;
+    private static final String PUBLIC_COLUMNS = """
+            SELECT b.id, b.start_at, b.duration_minutes, b.status, b.created_by_role,
+              CASE WHEN b.created_by_role = v.role THEN b.event_type_name END AS event_type_name,
+              CASE WHEN b.created_by_role = v.role THEN b.company END AS company,
+              CASE WHEN b.created_by_role = v.role THEN b.hr_name END AS hr_name,
+              CASE WHEN b.created_by_role = v.role THEN b.hr_email END AS hr_email,
+              CASE WHEN b.created_by_role = v.role THEN b.meeting_link END AS meeting_link
+            FROM booking b CROSS JOIN (SELECT CAST(? AS text) AS role) v
+            """;
+    private static final String FIRST_PAGE = """
+            WHERE b.developer_id = ? AND b.start_at BETWEEN ? AND ?
+            ORDER BY b.start_at, b.id
+            LIMIT ?
+            """;
+    private static final String NEXT_PAGE = """
+            WHERE b.developer_id = ? AND b.start_at BETWEEN ? AND ?
+              AND (b.start_at > ? OR (b.start_at = ? AND b.id > ?))
+            ORDER BY b.start_at, b.id
+            LIMIT ?
+            """;
+    static final String PAGE_SQL = RESPONSE_COLUMNS + FIRST_PAGE;
+    static final String PAGE_AFTER_SQL = RESPONSE_COLUMNS + NEXT_PAGE;
+    static final String PUBLIC_PAGE_SQL = PUBLIC_COLUMNS + FIRST_PAGE;
+    static final String PUBLIC_PAGE_AFTER_SQL = PUBLIC_COLUMNS + NEXT_PAGE;
+
+    static final RowMapper<BookingResponse> BOOKING = (rs, rowNum) -> new BookingResponse(
+            rs.getObject("id", UUID.class),
+            rs.getObject("start_at", OffsetDateTime.class),
+            rs.getInt("duration_minutes"),
+            BookingStatus.valueOf(rs.getString("status")),
+            rs.getString("event_type_name"),
+            rs.getString("company"),
+            rs.getString("hr_name"),
+            rs.getString("hr_email"),
+            rs.getString("meeting_link"),
+            rs.getString("created_by_role"));
+    static RowMapper<PublicBookingResponse> publicBooking(Role viewer) {
+        return (rs, rowNum) -> {
+            String createdByRole = rs.getString("created_by_role");
+            // an anonymous viewer sees no details at all
+            boolean visible = viewer != null && viewer.name().equals(createdByRole);
+            return new PublicBookingResponse(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("start_at", OffsetDateTime.class),
+                    rs.getInt("duration_minutes"),
+                    BookingStatus.valueOf(rs.getString("status")),
+                    visible ? rs.getString("event_type_name") : null,
+                    visible ? rs.getString("company") : null,
+                    visible ? rs.getString("hr_name") : null,
+                    visible ? rs.getString("hr_email") : null,
+                    visible ? rs.getString("meeting_link") : null,
+                    createdByRole,
+                    !visible);
+        };
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookingReadAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<BookingResponse> findPage(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, KeysetCursor after, int limit) {
+        return after == null
+                ? jdbcTemplate.query(PAGE_SQL, BOOKING, developerId, from, to, limit)
+                : jdbcTemplate.query(
+                        PAGE_AFTER_SQL, BOOKING, developerId, from, to, after.startAt(), after.startAt(), after.id(), limit);
+    }
+
+    @Override
+    public List<PublicBookingResponse> findPublicPage(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Role viewer, KeysetCursor after, int limit) {
+        String role = viewer == null ? null : viewer.name();
+        RowMapper<PublicBookingResponse> mapper = publicBooking(viewer);
+        return after == null
+                ? jdbcTemplate.query(PUBLIC_PAGE_SQL, mapper, role, developerId, from, to, limit)
+                : jdbcTemplate.query(
+                        PUBLIC_PAGE_AFTER_SQL,
+                        mapper,
+                        role,
+                        developerId,
+                        from,
+                        to,
+                        after.startAt(),
+                        after.startAt(),
+                        after.id(),
+                        limit);
+    }
+}
@@ -1,28 +1,61 @@
 package com.example.calendar.infrastructure.persistence.repository;
 
 import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.BookingConflictException;
 import com.example.calendar.domain.model.BookingStatus;
+import com.example.calendar.domain.model.Role;
+import com.example.calendar.domain.model.ReminderType;
 import com.example.calendar.domain.repository.BookingRepository;
 import com.example.calendar.infrastructure.persistence.entity.BookingEntity;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 public class BookingRepositoryAdapter implements BookingRepository {
+    static final String STREAM_SQL = """
+            SELECT id, developer_id, created_by_role, event_type_name, start_at, duration_minutes, status,
+              company, hr_name, hr_email, meeting_link, created_at
+            FROM booking
+            WHERE developer_id = ? AND start_at BETWEEN ? AND ?
+            ORDER BY start_at
+            """;
+    private static final String UPDATE_STATUS_SQL = """
+            UPDATE booking SET status = ?::booking_status WHERE id = ANY(?)
+            """;
+    private static final String UPDATE_ONE_STATUS_SQL = """
+            UPDATE booking SET status = ?::booking_status WHERE id = ?
+            """;
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final JpaBookingRepository bookingRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public BookingRepositoryAdapter(JpaBookingRepository bookingRepository) {
+    public BookingRepositoryAdapter(JpaBookingRepository bookingRepository, JdbcTemplate jdbcTemplate) {
         this.bookingRepository = bookingRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public Booking save(Booking booking) {
-        BookingEntity saved = bookingRepository.save(BookingEntity.fromDomain(booking));
-        return saved.toDomain();
+        try {
+            // flushed here rather than at commit so an overlap surfaces as a conflict from this call
+            BookingEntity saved = bookingRepository.saveAndFlush(BookingEntity.fromDomain(booking));
+            return saved.toDomain();
+        } catch (DataIntegrityViolationException ex) {
+            throw conflictOr(ex);
+        }
     }
 
     @Override
@@ -36,15 +69,33 @@ public class BookingRepositoryAdapter implements BookingRepository {
     }
 
     @Override
-    public List<Booking> findAllByDeveloperIdAndStartAtBetweenOrderByStartAt(
-            UUID developerId, OffsetDateTime from, OffsetDateTime to) {
-        return bookingRepository
-                .findAllByDeveloperIdAndStartAtBetweenOrderByStartAt(developerId, from, to)
-                .stream()
+    public List<Booking> findAllByIdInAndDeveloperId(Collection<UUID> ids, UUID developerId) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return bookingRepository.findAllByIdInAndDeveloperId(ids, developerId).stream()
                 .map(BookingEntity::toDomain)
                 .toList();
     }
 
+    @Override
+    public void forEachByDeveloperIdAndStartAtBetweenOrderByStartAt(
+            UUID developerId, OffsetDateTime from, OffsetDateTime to, Consumer<Booking> action) {
+        // the driver only uses a cursor inside a transaction; otherwise it buffers the whole result
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(STREAM_SQL);
+                    statement.setFetchSize(STREAM_FETCH_SIZE);
+                    statement.setObject(1, developerId);
+                    statement.setObject(2, from);
+                    statement.setObject(3, to);
+                    return statement;
+                },
+                rs -> {
+                    action.accept(toBooking(rs));
+                });
+    }
+
     @Override
     public List<Booking> findAllByDeveloperIdAndStatusInAndStartAtBetween(
             UUID developerId, Collection<BookingStatus> statuses, OffsetDateTime from, OffsetDateTime to) {
@@ -56,12 +107,69 @@ public class BookingRepositoryAdapter implements BookingRepository {
     }
 
     @Override
-    public List<Booking> findAllByStatusInAndStartAtBetween(
-            Collection<BookingStatus> statuses, OffsetDateTime from, OffsetDateTime to) {
+    public List<Booking> findApprovedAwaitingReminder(ReminderType type, OffsetDateTime from, OffsetDateTime to) {
         return bookingRepository
-                .findAllByStatusInAndStartAtBetween(statuses, from, to)
+                .findApprovedAwaitingReminder(type.name(), from, to)
                 .stream()
                 .map(BookingEntity::toDomain)
                 .toList();
     }
+
+    @Override
+    public int updateStatus(Collection<UUID> ids, BookingStatus status) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPDATE_STATUS_SQL);
+            statement.setString(1, status.name());
+            statement.setArray(2, connection.createArrayOf("uuid", ids.toArray()));
+            return statement;
+        });
+    }
+
+    @Override
+    public void updateStatuses(Collection<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(
+                    UPDATE_ONE_STATUS_SQL,
+                    bookings,
+                    bookings.size(),
+                    (statement, booking) -> {
+                        statement.setString(1, booking.getStatus().name());
+                        statement.setObject(2, booking.getId());
+                    });
+        } catch (DataIntegrityViolationException ex) {
+            // reactivating a declined booking can overlap one made since
+            throw conflictOr(ex);
+        }
+    }
+
+    private static RuntimeException conflictOr(DataIntegrityViolationException ex) {
+        if (NestedExceptionUtils.getMostSpecificCause(ex) instanceof SQLException sqlException
+                && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+            return new BookingConflictException("Requested time overlaps another booking", ex);
+        }
+        return ex;
+    }
+
+    private static Booking toBooking(ResultSet rs) throws SQLException {
+        Booking booking = new Booking();
+        booking.setId(rs.getObject("id", UUID.class));
+        booking.setDeveloperId(rs.getObject("developer_id", UUID.class));
+        booking.setCreatedByRole(Role.valueOf(rs.getString("created_by_role")));
+        booking.setEventTypeName(rs.getString("event_type_name"));
+        booking.setStartAt(rs.getObject("start_at", OffsetDateTime.class));
+        booking.setDurationMinutes(rs.getInt("duration_minutes"));
+        booking.setStatus(BookingStatus.valueOf(rs.getString("status")));
+        booking.setCompany(rs.getString("company"));
+        booking.setHrName(rs.getString("hr_name"));
+        booking.setHrEmail(rs.getString("hr_email"));
+        booking.setMeetingLink(rs.getString("meeting_link"));
+        booking.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+        return booking;
+    }
 }
@@ -0,0 +1,33 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import com.example.calendar.domain.repository.CalendarVersionRepository;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CalendarVersionRepositoryAdapter implements CalendarVersionRepository {
+    private static final String CURRENT_SQL = "SELECT version FROM calendar_version WHERE developer_id = ?";
+    private static final String BUMP_SQL = """
+            INSERT INTO calendar_version (developer_id, version) VALUES (?, 1)
+            ON CONFLICT (developer_id) DO UPDATE SET version = calendar_version.version + 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CalendarVersionRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long current(UUID developerId) {
+        List<Long> versions = jdbcTemplate.queryForList(CURRENT_SQL, Long.class, developerId);
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+
+    @Override
+    public void bump(UUID developerId) {
+        jdbcTemplate.update(BUMP_SQL, developerId);
+    }
+}
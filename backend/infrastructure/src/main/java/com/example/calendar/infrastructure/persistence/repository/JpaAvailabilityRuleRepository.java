@@ -0,0 +1,23 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import com.example.calendar.infrastructure.persistence.entity.AvailabilityRuleEntity;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaAvailabilityRuleRepository extends JpaRepository<AvailabilityRuleEntity, UUID> {
+    Optional<AvailabilityRuleEntity> findByIdAndDeveloperId(UUID id, UUID developerId);
+
+    List<AvailabilityRuleEntity> findAllByDeveloperIdOrderByStartDate(UUID developerId);
+
+    @Query("select r from AvailabilityRuleEntity r where r.developerId in :developerIds and r.endDate >= :from and r.startDate <= :to")
+    List<AvailabilityRuleEntity> findActiveBetween(
+            @Param("developerIds") Collection<UUID> developerIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+}
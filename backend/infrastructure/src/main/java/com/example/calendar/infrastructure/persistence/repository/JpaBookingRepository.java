@@ -8,16 +8,25 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JpaBookingRepository extends JpaRepository<BookingEntity, UUID> {
-    List<BookingEntity> findAllByDeveloperIdAndStartAtBetweenOrderByStartAt(
-            UUID developerId, OffsetDateTime from, OffsetDateTime to);
-
     Optional<BookingEntity> findByIdAndDeveloperId(UUID id, UUID developerId);
 
+    List<BookingEntity> findAllByIdInAndDeveloperId(Collection<UUID> ids, UUID developerId);
+
     List<BookingEntity> findAllByDeveloperIdAndStatusInAndStartAtBetween(
             UUID developerId, Collection<BookingStatus> statuses, OffsetDateTime from, OffsetDateTime to);
 
-    List<BookingEntity> findAllByStatusInAndStartAtBetween(
-            Collection<BookingStatus> statuses, OffsetDateTime from, OffsetDateTime to);
+    @Query(value = """
+            select b.* from booking b
+            where b.status = 'APPROVED'
+              and b.start_at between :from and :to
+              and not exists (
+                select 1 from reminder_dispatch d
+                where d.booking_id = b.id and d.reminder_type = :type)
+            """, nativeQuery = true)
+    List<BookingEntity> findApprovedAwaitingReminder(
+            @Param("type") String type, @Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
 }
@@ -0,0 +1,16 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import com.example.calendar.infrastructure.persistence.entity.NotificationOutboxEntity;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaNotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, UUID> {
+    @Query(
+            value = "select * from notification_outbox where status = 'PENDING' and next_attempt_at <= :now order by next_attempt_at limit :limit for update skip locked",
+            nativeQuery = true)
+    List<NotificationOutboxEntity> lockDue(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+}
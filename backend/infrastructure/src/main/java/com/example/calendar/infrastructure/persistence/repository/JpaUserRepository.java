@@ -1,10 +1,14 @@
 package com.example.calendar.infrastructure.persistence.repository;
 
 import com.example.calendar.infrastructure.persistence.entity.UserEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface JpaUserRepository extends JpaRepository<UserEntity, UUID> {
     Optional<UserEntity> findByPublicToken(String publicToken);
+
+    List<UserEntity> findAllByPublicTokenIn(Collection<String> publicTokens);
 }
@@ -0,0 +1,28 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import com.example.calendar.domain.model.ReminderType;
+import com.example.calendar.domain.repository.ReminderDispatchRepository;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReminderDispatchRepositoryAdapter implements ReminderDispatchRepository {
+    private static final String RECORD_SQL = """
+            INSERT INTO reminder_dispatch (booking_id, reminder_type, sent_at)
+            VALUES (?, ?, ?)
+            ON CONFLICT (booking_id, reminder_type) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReminderDispatchRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean tryRecord(UUID bookingId, ReminderType type, OffsetDateTime sentAt) {
+        return jdbcTemplate.update(RECORD_SQL, bookingId, type.name(), sentAt) == 1;
+    }
+}
@@ -3,6 +3,8 @@ package com.example.calendar.infrastructure.persistence.repository;
 import com.example.calendar.domain.model.User;
 import com.example.calendar.domain.repository.UserRepository;
 import com.example.calendar.infrastructure.persistence.entity.UserEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.stereotype.Component;
@@ -25,6 +27,11 @@ public class UserRepositoryAdapter implements UserRepository {
         return userRepository.findByPublicToken(token).map(UserEntity::toDomain);
     }
 
+    @Override
+    public List<User> findAllByPublicTokenIn(Collection<String> tokens) {
+        return userRepository.findAllByPublicTokenIn(tokens).stream().map(UserEntity::toDomain).toList();
+    }
+
     @Override
     public User save(User user) {
         UserEntity saved = userRepository.save(UserEntity.fromDomain(user));
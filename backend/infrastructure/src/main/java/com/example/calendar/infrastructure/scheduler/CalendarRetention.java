@@ -0,0 +1,133 @@
+package com.example.calendar.infrastructure.scheduler;
+
+import com.example.calendar.application.port.out.CalendarEventPort;
+import com.example.calendar.domain.repository.CalendarVersionRepository;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * One bounded batch of retention work per call, each in its own short transaction. Rows are picked per
+ * developer, oldest first, so every statement runs on the {@code (developer_id, start_at)} indexes.
+ */
+@Component
+public class CalendarRetention {
+    static final String DEVELOPERS_SQL = "SELECT id FROM app_user WHERE role = 'DEV'";
+    static final String COMPACT_AVAILABILITY_SQL = """
+            DELETE FROM availability_slot WHERE id IN (
+              SELECT id FROM availability_slot
+              WHERE developer_id = ? AND start_at < ?
+              ORDER BY start_at
+              LIMIT ?)
+            RETURNING start_at
+            """;
+    static final String EXPIRE_RANGES_SQL = """
+            DELETE FROM availability_range WHERE developer_id = ? AND period << tstzrange(?::timestamptz, NULL)
+            RETURNING lower(period) AS lower_at, upper(period) AS upper_at
+            """;
+    static final String EXPIRE_RULES_SQL = """
+            DELETE FROM availability_rule WHERE developer_id = ? AND end_date < ?
+            """;
+    static final String DROP_UNCOVERED_EXCEPTIONS_SQL = """
+            DELETE FROM availability_exception e
+            WHERE e.developer_id = ? AND e.start_at < ?
+              AND NOT EXISTS (
+                SELECT 1 FROM availability_rule r
+                WHERE r.developer_id = e.developer_id
+                  AND (e.start_at AT TIME ZONE 'UTC')::date BETWEEN r.start_date AND r.end_date)
+            """;
+    static final String ARCHIVE_BOOKINGS_SQL = """
+            WITH moved AS (
+              DELETE FROM booking WHERE id IN (
+                SELECT id FROM booking
+                WHERE developer_id = ? AND start_at < ?
+                ORDER BY start_at
+                LIMIT ?)
+              RETURNING *)
+            INSERT INTO booking_archive (id, developer_id, created_by_role, event_type_name, start_at,
+              duration_minutes, status, company, hr_name, hr_email, meeting_link, created_at)
+            SELECT id, developer_id, created_by_role, event_type_name, start_at,
+              duration_minutes, status, company, hr_name, hr_email, meeting_link, created_at
+            FROM moved
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CalendarVersionRepository calendarVersionRepository;
+    private final CalendarEventPort calendarEventPort;
+
+    public CalendarRetention(
+            JdbcTemplate jdbcTemplate,
+            CalendarVersionRepository calendarVersionRepository,
+            CalendarEventPort calendarEventPort) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.calendarVersionRepository = calendarVersionRepository;
+        this.calendarEventPort = calendarEventPort;
+    }
+
+    public List<UUID> developerIds() {
+        return jdbcTemplate.queryForList(DEVELOPERS_SQL, UUID.class);
+    }
+
+    @Transactional
+    public int compactAvailability(UUID developerId, OffsetDateTime before, int limit) {
+        List<OffsetDateTime> removed = jdbcTemplate.queryForList(
+                COMPACT_AVAILABILITY_SQL, OffsetDateTime.class, developerId, before, limit);
+        if (!removed.isEmpty()) {
+            calendarVersionRepository.bump(developerId);
+            calendarEventPort.slotsRemoved(developerId, removed);
+        }
+        return removed.size();
+    }
+
+    /**
+     * Deletes the free intervals of {@code availability_range} that ended before {@code before}; one that is
+     * still running is left whole. Empty unless availability is stored as ranges.
+     */
+    @Transactional
+    public int expireRanges(UUID developerId, OffsetDateTime before) {
+        List<OffsetDateTime> removed = new ArrayList<>();
+        jdbcTemplate.query(EXPIRE_RANGES_SQL, rs -> {
+            OffsetDateTime upper = rs.getObject("upper_at", OffsetDateTime.class);
+            for (OffsetDateTime start = rs.getObject("lower_at", OffsetDateTime.class);
+                    start.isBefore(upper);
+                    start = start.plusMinutes(30)) {
+                removed.add(start);
+            }
+        }, developerId, before);
+        if (!removed.isEmpty()) {
+            calendarVersionRepository.bump(developerId);
+            calendarEventPort.slotsRemoved(developerId, removed);
+        }
+        return removed.size();
+    }
+
+    /**
+     * Deletes availability rules that ended before {@code before}, and the exceptions in the past that no
+     * remaining rule covers. A developer has few rules, so this is not batched.
+     */
+    @Transactional
+    public int expireRules(UUID developerId, OffsetDateTime before) {
+        int expired = jdbcTemplate.update(
+                EXPIRE_RULES_SQL, developerId, before.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate());
+        jdbcTemplate.update(DROP_UNCOVERED_EXCEPTIONS_SQL, developerId, before);
+        if (expired > 0) {
+            calendarVersionRepository.bump(developerId);
+        }
+        return expired;
+    }
+
+    /** Moves bookings into {@code booking_archive}; their outbox and reminder rows go with the cascade. */
+    @Transactional
+    public int archiveBookings(UUID developerId, OffsetDateTime before, int limit) {
+        int archived = jdbcTemplate.update(ARCHIVE_BOOKINGS_SQL, developerId, before, limit);
+        if (archived > 0) {
+            calendarVersionRepository.bump(developerId);
+        }
+        return archived;
+    }
+}
@@ -4,76 +4,204 @@ import com.example.calendar.application.port.out.NotificationPort;
 import com.example.calendar.application.user.UserService;
 import com.example.calendar.domain.model.Booking;
 import com.example.calendar.domain.model.BookingStatus;
+import com.example.calendar.domain.model.ReminderType;
 import com.example.calendar.domain.model.User;
 import com.example.calendar.domain.repository.BookingRepository;
+import com.example.calendar.domain.repository.ReminderDispatchRepository;
+import com.example.calendar.infrastructure.event.BookingChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.EnumSet;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * Keeps one delayed task per upcoming reminder and fires it at its exact instant. The database is read
+ * by {@link #reconcile()} (on startup and then periodically) and once per fired reminder to confirm the
+ * booking is still approved; booking changes made through this instance update the queue directly.
+ * With several instances each one only loads the shards it leases; the dispatch log keeps a reminder
+ * that was also queued by a booking change on another node from being sent twice.
+ */
 @Component
 public class ReminderScheduler {
+    private static final Logger log = LoggerFactory.getLogger(ReminderScheduler.class);
+
     private final BookingRepository bookingRepository;
+    private final ReminderDispatchRepository reminderDispatchRepository;
+    private final ReminderShardLeases shardLeases;
     private final UserService userService;
     private final NotificationPort notificationPort;
     private final Clock clock;
-    private final Map<UUID, EnumSet<ReminderType>> dispatched = new ConcurrentHashMap<>();
+    private final Duration horizon;
+    private final Duration grace;
+    private final ScheduledThreadPoolExecutor timer;
+    private final Executor sender;
+    private final Timer reconcileTimer;
+    private final Timer fireTimer;
+    private final Map<ReminderKey, Pending> pending = new ConcurrentHashMap<>();
 
     public ReminderScheduler(
             BookingRepository bookingRepository,
+            ReminderDispatchRepository reminderDispatchRepository,
+            ReminderShardLeases shardLeases,
             UserService userService,
             NotificationPort notificationPort,
-            Clock clock) {
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${reminder.reconcile-interval:PT10M}") Duration reconcileInterval,
+            @Value("${reminder.grace:PT15M}") Duration grace,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
         this.bookingRepository = bookingRepository;
+        this.reminderDispatchRepository = reminderDispatchRepository;
+        this.shardLeases = shardLeases;
         this.userService = userService;
         this.notificationPort = notificationPort;
         this.clock = clock;
+        // look two intervals ahead so a late reconcile never leaves a gap
+        this.horizon = reconcileInterval.multipliedBy(2);
+        this.grace = grace;
+        this.timer = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("reminder-"));
+        this.timer.setRemoveOnCancelPolicy(true);
+        // sending blocks on the database and SMTP; on virtual threads reminders due together go out in
+        // parallel instead of queueing behind the single timer thread
+        this.sender = virtualThreads ? Executors.newVirtualThreadPerTaskExecutor() : Runnable::run;
+        this.reconcileTimer = meterRegistry.timer("calendar.reminder.run", "phase", "reconcile");
+        this.fireTimer = meterRegistry.timer("calendar.reminder.run", "phase", "fire");
+    }
+
+    @Scheduled(fixedDelayString = "${reminder.lease.renew-interval:PT10S}")
+    public void renewLeases() {
+        if (shardLeases.refresh()) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reminder.reconcile-interval:PT10M}")
+    public void reconcile() {
+        if (!shardLeases.ownedShards().isEmpty()) {
+            reconcileTimer.record(this::loadOwnedReminders);
+        }
     }
 
-    @Scheduled(cron = "0 */15 * * * *")
-    public void run() {
+    private void loadOwnedReminders() {
         OffsetDateTime now = OffsetDateTime.now(clock);
-        cleanup(now);
-        processReminder(now, Duration.ofHours(24), ReminderType.HOURS_24);
-        processReminder(now, Duration.ofHours(1), ReminderType.HOUR_1);
+        for (ReminderType type : ReminderType.values()) {
+            OffsetDateTime from = now.minus(grace).plus(type.getLeadTime());
+            OffsetDateTime to = now.plus(horizon).plus(type.getLeadTime());
+            for (Booking booking : bookingRepository.findApprovedAwaitingReminder(type, from, to)) {
+                if (shardLeases.owns(booking.getDeveloperId())) {
+                    schedule(booking, type, now, false);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        Booking booking = event.booking();
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        for (ReminderType type : ReminderType.values()) {
+            if (booking.getStatus() == BookingStatus.APPROVED) {
+                OffsetDateTime fireAt = booking.getStartAt().minus(type.getLeadTime());
+                if (fireAt.isBefore(now.plus(horizon))) {
+                    schedule(booking, type, now, true);
+                }
+            } else {
+                cancel(new ReminderKey(booking.getId(), type));
+            }
+        }
     }
 
-    private void processReminder(OffsetDateTime now, Duration target, ReminderType type) {
-        OffsetDateTime windowStart = now.plus(target).minusMinutes(15);
-        OffsetDateTime windowEnd = now.plus(target).plusMinutes(15);
-        List<Booking> bookings = bookingRepository.findAllByStatusInAndStartAtBetween(
-                EnumSet.of(BookingStatus.APPROVED), windowStart, windowEnd);
-        for (Booking booking : bookings) {
+    private void schedule(Booking booking, ReminderType type, OffsetDateTime now, boolean local) {
+        ReminderKey key = new ReminderKey(booking.getId(), type);
+        OffsetDateTime startAt = booking.getStartAt();
+        OffsetDateTime fireAt = startAt.minus(type.getLeadTime());
+        if (fireAt.isBefore(now.minus(grace))) {
+            return;
+        }
+        pending.compute(key, (ignored, existing) -> {
+            if (existing != null) {
+                if (existing.startAt().isEqual(startAt) && (existing.local() || !local)) {
+                    return existing;
+                }
+                existing.future().cancel(false);
+            }
+            long delayMillis = Math.max(0, Duration.between(now, fireAt).toMillis());
+            ScheduledFuture<?> future = timer.schedule(
+                    () -> sender.execute(() -> fireTimer.record(() -> fire(key, startAt, local))),
+                    delayMillis,
+                    TimeUnit.MILLISECONDS);
+            return new Pending(startAt, future, local);
+        });
+    }
+
+    private void cancel(ReminderKey key) {
+        Pending removed = pending.remove(key);
+        if (removed != null) {
+            removed.future().cancel(false);
+        }
+    }
+
+    private void fire(ReminderKey key, OffsetDateTime expectedStart, boolean local) {
+        pending.computeIfPresent(key, (ignored, existing) -> existing.startAt().isEqual(expectedStart) ? null : existing);
+        try {
+            // the booking may have been changed by another instance since it was queued
+            Optional<Booking> current = bookingRepository.findById(key.bookingId());
+            if (current.isEmpty()
+                    || current.get().getStatus() != BookingStatus.APPROVED
+                    || !current.get().getStartAt().isEqual(expectedStart)) {
+                return;
+            }
+            Booking booking = current.get();
+            // reminders queued by a booking change on this node fire regardless of the shard owner
+            if (!local && !shardLeases.owns(booking.getDeveloperId())) {
+                return;
+            }
+            OffsetDateTime now = OffsetDateTime.now(clock);
             Duration until = Duration.between(now, booking.getStartAt());
             if (until.isNegative()) {
-                continue;
+                return;
             }
-            EnumSet<ReminderType> sent = dispatched.computeIfAbsent(booking.getId(), key -> EnumSet.noneOf(ReminderType.class));
-            if (sent.contains(type)) {
-                continue;
+            if (!reminderDispatchRepository.tryRecord(booking.getId(), key.type(), now)) {
+                return;
             }
             User developer = userService.getDeveloper(booking.getDeveloperId());
             notificationPort.sendReminder(developer, booking, until);
-            sent.add(type);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to send {} reminder for booking {}: {}", key.type(), key.bookingId(), ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        if (sender instanceof ExecutorService executor) {
+            executor.shutdownNow();
         }
     }
 
-    private void cleanup(OffsetDateTime now) {
-        dispatched.entrySet().removeIf(entry ->
-                bookingRepository
-                        .findById(entry.getKey())
-                        .map(booking -> booking.getStartAt().isBefore(now.minusMinutes(30)))
-                        .orElse(true));
+    private record ReminderKey(UUID bookingId, ReminderType type) {
     }
 
-    private enum ReminderType {
-        HOURS_24,
-        HOUR_1
+    private record Pending(OffsetDateTime startAt, ScheduledFuture<?> future, boolean local) {
     }
 }
@@ -0,0 +1,133 @@
+package com.example.calendar.infrastructure.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Splits reminder work between backend instances. Developers are hashed into {@link #SHARD_COUNT} shards
+ * and every live node leases an equal share of them from {@code reminder_shard_lease}; free or expired
+ * shards are claimed with {@code FOR UPDATE SKIP LOCKED} so concurrent nodes never contend on a row.
+ */
+@Component
+public class ReminderShardLeases {
+    /** Matches the rows seeded into {@code reminder_shard_lease}. */
+    static final int SHARD_COUNT = 16;
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderShardLeases.class);
+    private static final String HEARTBEAT_SQL = """
+            INSERT INTO reminder_node (node_id, heartbeat_at) VALUES (?, now())
+            ON CONFLICT (node_id) DO UPDATE SET heartbeat_at = excluded.heartbeat_at
+            """;
+    private static final String PRUNE_NODES_SQL = """
+            DELETE FROM reminder_node WHERE heartbeat_at < now() - make_interval(secs => ?)
+            """;
+    private static final String LIVE_NODES_SQL = """
+            SELECT count(*) FROM reminder_node WHERE heartbeat_at >= now() - make_interval(secs => ?)
+            """;
+    private static final String RELEASE_EXCESS_SQL = """
+            UPDATE reminder_shard_lease SET owner = NULL, lease_until = '-infinity'
+            WHERE shard IN (
+              SELECT shard FROM reminder_shard_lease
+              WHERE owner = ? AND lease_until > now()
+              ORDER BY shard
+              OFFSET ?)
+            """;
+    private static final String RENEW_SQL = """
+            UPDATE reminder_shard_lease SET lease_until = now() + make_interval(secs => ?)
+            WHERE owner = ? AND lease_until > now()
+            RETURNING shard
+            """;
+    private static final String CLAIM_SQL = """
+            UPDATE reminder_shard_lease lease
+            SET owner = ?, lease_until = now() + make_interval(secs => ?)
+            FROM (
+              SELECT shard FROM reminder_shard_lease
+              WHERE lease_until <= now()
+              ORDER BY shard
+              LIMIT ?
+              FOR UPDATE SKIP LOCKED) free
+            WHERE lease.shard = free.shard
+            RETURNING lease.shard
+            """;
+    private static final String RELEASE_ALL_SQL = """
+            UPDATE reminder_shard_lease SET owner = NULL, lease_until = '-infinity' WHERE owner = ?
+            """;
+    private static final String REMOVE_NODE_SQL = "DELETE FROM reminder_node WHERE node_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId;
+    private final double ttlSeconds;
+    private volatile Set<Integer> owned = Set.of();
+
+    public ReminderShardLeases(
+            JdbcTemplate jdbcTemplate,
+            @Value("${reminder.node-id:}") String nodeId,
+            @Value("${reminder.lease.ttl:PT30S}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.ttlSeconds = ttl.toMillis() / 1000.0;
+    }
+
+    public static int shardOf(UUID developerId) {
+        return Math.floorMod(developerId.hashCode(), SHARD_COUNT);
+    }
+
+    public boolean owns(UUID developerId) {
+        return owned.contains(shardOf(developerId));
+    }
+
+    public Set<Integer> ownedShards() {
+        return owned;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Heartbeats, gives back shards above this node's fair share, renews the rest and claims free ones up
+     * to the share. Returns {@code true} when a shard was gained and its reminders need loading.
+     */
+    public synchronized boolean refresh() {
+        try {
+            jdbcTemplate.update(HEARTBEAT_SQL, nodeId);
+            jdbcTemplate.update(PRUNE_NODES_SQL, ttlSeconds * 10);
+            Long live = jdbcTemplate.queryForObject(LIVE_NODES_SQL, Long.class, ttlSeconds);
+            int share = (int) Math.ceil((double) SHARD_COUNT / Math.max(1, live == null ? 1 : live));
+            jdbcTemplate.update(RELEASE_EXCESS_SQL, nodeId, share);
+            Set<Integer> leased = new HashSet<>(jdbcTemplate.queryForList(RENEW_SQL, Integer.class, ttlSeconds, nodeId));
+            if (leased.size() < share) {
+                leased.addAll(jdbcTemplate.queryForList(
+                        CLAIM_SQL, Integer.class, nodeId, ttlSeconds, share - leased.size()));
+            }
+            boolean gained = !owned.containsAll(leased);
+            owned = Set.copyOf(leased);
+            return gained;
+        } catch (RuntimeException ex) {
+            // without a renewed lease another node may take over, so stop treating the shards as ours
+            log.warn("Failed to refresh reminder shard leases for node {}: {}", nodeId, ex.getMessage());
+            owned = Set.of();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void release() {
+        owned = Set.of();
+        try {
+            jdbcTemplate.update(RELEASE_ALL_SQL, nodeId);
+            jdbcTemplate.update(REMOVE_NODE_SQL, nodeId);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to release reminder shard leases for node {}: {}", nodeId, ex.getMessage());
+        }
+    }
+}
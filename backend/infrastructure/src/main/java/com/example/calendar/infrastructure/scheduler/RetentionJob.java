@@ -0,0 +1,132 @@
+package com.example.calendar.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes availability that has started and archives bookings past the retention horizon. Work runs on
+ * its own thread in small batches with a pause after each one, so it neither holds the shared scheduler
+ * nor keeps database connections and locks away from requests for long. Several instances may run it at
+ * once: a row is only ever deleted by one of them.
+ */
+@Component
+public class RetentionJob {
+    private static final Logger log = LoggerFactory.getLogger(RetentionJob.class);
+
+    private final CalendarRetention retention;
+    private final Clock clock;
+    private final Duration availabilityAge;
+    private final Duration bookingAge;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final ExecutorService worker =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("retention-"));
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Timer runTimer;
+    private final DistributionSummary availabilityRows;
+    private final DistributionSummary ruleRows;
+    private final DistributionSummary bookingRows;
+
+    public RetentionJob(
+            CalendarRetention retention,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${retention.availability-age:P1D}") Duration availabilityAge,
+            @Value("${retention.booking-age:P365D}") Duration bookingAge,
+            @Value("${retention.batch-size:500}") int batchSize,
+            @Value("${retention.batch-pause:PT0.2S}") Duration batchPause) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("retention.batch-size must be positive");
+        }
+        this.retention = retention;
+        this.clock = clock;
+        this.availabilityAge = availabilityAge;
+        this.bookingAge = bookingAge;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.runTimer = meterRegistry.timer("calendar.retention.run");
+        this.availabilityRows = meterRegistry.summary("calendar.retention.rows", "table", "availability_slot");
+        this.ruleRows = meterRegistry.summary("calendar.retention.rows", "table", "availability_rule");
+        this.bookingRows = meterRegistry.summary("calendar.retention.rows", "table", "booking");
+    }
+
+    @Scheduled(
+            initialDelayString = "${retention.initial-delay:PT5M}",
+            fixedDelayString = "${retention.interval:PT1H}")
+    public void trigger() {
+        if (running.compareAndSet(false, true)) {
+            worker.execute(() -> {
+                try {
+                    runTimer.record(this::run);
+                } finally {
+                    running.set(false);
+                }
+            });
+        }
+    }
+
+    private void run() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        OffsetDateTime availabilityBefore = now.minus(availabilityAge);
+        OffsetDateTime bookingBefore = now.minus(bookingAge);
+        long compacted = 0;
+        long expired = 0;
+        long archived = 0;
+        try {
+            for (UUID developerId : retention.developerIds()) {
+                int batch;
+                do {
+                    batch = retention.compactAvailability(developerId, availabilityBefore, batchSize);
+                    compacted += batch;
+                    pauseAfter(batch);
+                } while (batch == batchSize);
+                compacted += retention.expireRanges(developerId, availabilityBefore);
+                expired += retention.expireRules(developerId, availabilityBefore);
+                do {
+                    batch = retention.archiveBookings(developerId, bookingBefore, batchSize);
+                    archived += batch;
+                    pauseAfter(batch);
+                } while (batch == batchSize);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            // whatever is left over is picked up by the next run
+            log.warn("Retention run stopped early: {}", ex.getMessage());
+        } finally {
+            availabilityRows.record(compacted);
+            ruleRows.record(expired);
+            bookingRows.record(archived);
+        }
+        log.info("Retention run removed {} availability slots and {} rules and archived {} bookings",
+                compacted, expired, archived);
+    }
+
+    private void pauseAfter(int batch) throws InterruptedException {
+        if (batch > 0) {
+            Thread.sleep(batchPause.toMillis());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        worker.shutdownNow();
+        worker.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -1,39 +1,195 @@
 package com.example.calendar.infrastructure.telegram;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
-
-import java.util.Map;
 
 @Component
 public class TelegramClient {
     private static final Logger log = LoggerFactory.getLogger(TelegramClient.class);
+    private static final long BASE_BACKOFF_MILLIS = 500;
+    private static final long MAX_JITTER_MILLIS = 500;
+    private static final Duration IDLE_BUCKET_SWEEP = Duration.ofMinutes(1);
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final URI sendMessageUri;
+    private final Duration readTimeout;
+    private final int maxAttempts;
+    private final double perChatPerSecond;
+    private final Semaphore pending;
+    private final TokenBucket globalBucket;
+    private final Map<String, TokenBucket> chatBuckets = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    public TelegramClient(TelegramProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.sendMessageUri = StringUtils.hasText(properties.getBotToken())
+                ? URI.create(properties.getBaseUrl() + "/bot" + properties.getBotToken() + "/sendMessage")
+                : null;
+        this.readTimeout = properties.getReadTimeout();
+        this.maxAttempts = properties.getMaxAttempts();
+        this.perChatPerSecond = properties.getPerChatPerSecond();
+        this.pending = new Semaphore(properties.getQueueCapacity());
+        this.globalBucket = new TokenBucket(
+                properties.getGlobalPerSecond(),
+                (int) Math.max(1, properties.getGlobalPerSecond()),
+                System.nanoTime());
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("telegram-");
+        threadFactory.setDaemon(true);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        long sweepMillis = IDLE_BUCKET_SWEEP.toMillis();
+        this.scheduler.scheduleWithFixedDelay(this::evictIdleBuckets, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
 
-    private final RestTemplate restTemplate;
-    private final String botToken;
+    /**
+     * Queues a message for delivery. The returned future completes once Telegram accepted the message and
+     * fails when the queue is full, the request is rejected or retries are exhausted.
+     */
+    public CompletableFuture<Void> sendMessage(String chatId, String message) {
+        return send(chatId, message, maxAttempts);
+    }
 
-    public TelegramClient(RestTemplateBuilder builder, @Value("${telegram.bot-token:}") String botToken) {
-        this.restTemplate = builder.build();
-        this.botToken = botToken;
+    /**
+     * Queues a message for a single attempt, for callers that retry on their own schedule: the future
+     * fails on the first error, including a 429, instead of waiting out {@code retry_after} here.
+     */
+    public CompletableFuture<Void> sendMessageOnce(String chatId, String message) {
+        return send(chatId, message, 1);
     }
 
-    public void sendMessage(String chatId, String message) {
-        if (!StringUtils.hasText(botToken) || !StringUtils.hasText(chatId)) {
+    private CompletableFuture<Void> send(String chatId, String message, int attempts) {
+        if (sendMessageUri == null || !StringUtils.hasText(chatId)) {
             log.info("Skipping Telegram notification: bot token or chat id not configured");
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!pending.tryAcquire()) {
+            log.warn("Telegram send queue is full, dropping message for chat {}", chatId);
+            return CompletableFuture.failedFuture(new IllegalStateException("Telegram send queue is full"));
+        }
+        Delivery delivery;
+        try {
+            delivery = new Delivery(chatId, payload(chatId, message), attempts);
+        } catch (RuntimeException ex) {
+            pending.release();
+            return CompletableFuture.failedFuture(ex);
+        }
+        delivery.result.whenComplete((ignored, error) -> pending.release());
+        schedule(delivery, 0);
+        return delivery.result;
+    }
+
+    private String payload(String chatId, String message) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("chat_id", chatId, "text", message));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Failed to serialize Telegram message", ex);
+        }
+    }
+
+    private void schedule(Delivery delivery, long delayMillis) {
+        long now = System.nanoTime();
+        long notBefore = now + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        long sendAt = globalBucket.reserve(chatBucket(delivery.chatId).reserve(notBefore));
+        scheduler.schedule(() -> attempt(delivery), sendAt - now, TimeUnit.NANOSECONDS);
+    }
+
+    private TokenBucket chatBucket(String chatId) {
+        return chatBuckets.computeIfAbsent(chatId, ignored -> new TokenBucket(perChatPerSecond, 1, System.nanoTime()));
+    }
+
+    private void attempt(Delivery delivery) {
+        delivery.attempts++;
+        HttpRequest request = HttpRequest.newBuilder(sendMessageUri)
+                .timeout(readTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(delivery.payload))
+                .build();
+        try {
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> handle(delivery, response, error));
+        } catch (RuntimeException ex) {
+            handle(delivery, null, ex);
+        }
+    }
+
+    private void handle(Delivery delivery, HttpResponse<String> response, Throwable error) {
+        if (error == null && response.statusCode() / 100 == 2) {
+            delivery.result.complete(null);
             return;
         }
-        String url = "https://api.telegram.org/bot" + botToken + "/sendMessage";
-        Map<String, Object> payload = Map.of("chat_id", chatId, "text", message);
+        String failure = error != null ? error.getMessage() : "HTTP " + response.statusCode();
+        boolean retryable = error != null || response.statusCode() == 429 || response.statusCode() >= 500;
+        if (!retryable || delivery.attempts >= delivery.maxAttempts) {
+            log.warn("Failed to send Telegram notification to chat {} after {} attempt(s): {}",
+                    delivery.chatId, delivery.attempts, failure);
+            delivery.result.completeExceptionally(new IllegalStateException("Telegram request failed: " + failure));
+            return;
+        }
+        long delayMillis = error == null && response.statusCode() == 429
+                ? retryAfterMillis(response)
+                : BASE_BACKOFF_MILLIS << Math.min(delivery.attempts - 1, 10);
+        long jitter = ThreadLocalRandom.current().nextLong(MAX_JITTER_MILLIS + 1);
+        log.debug("Retrying Telegram notification to chat {} in {} ms: {}", delivery.chatId, delayMillis + jitter, failure);
         try {
-            restTemplate.postForObject(url, payload, Void.class);
-        } catch (RestClientException ex) {
-            log.warn("Failed to send Telegram notification: {}", ex.getMessage());
+            schedule(delivery, delayMillis + jitter);
+        } catch (RuntimeException ex) {
+            delivery.result.completeExceptionally(ex);
+        }
+    }
+
+    private long retryAfterMillis(HttpResponse<String> response) {
+        try {
+            long seconds = objectMapper.readTree(response.body()).path("parameters").path("retry_after").asLong(1);
+            return TimeUnit.SECONDS.toMillis(Math.max(seconds, 1));
+        } catch (JsonProcessingException ex) {
+            return TimeUnit.SECONDS.toMillis(1);
+        }
+    }
+
+    private void evictIdleBuckets() {
+        long now = System.nanoTime();
+        chatBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static final class Delivery {
+        private final String chatId;
+        private final String payload;
+        private final int maxAttempts;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private int attempts;
+
+        private Delivery(String chatId, String payload, int maxAttempts) {
+            this.chatId = chatId;
+            this.payload = payload;
+            this.maxAttempts = maxAttempts;
         }
     }
 }
@@ -0,0 +1,82 @@
+package com.example.calendar.infrastructure.telegram;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "telegram")
+public class TelegramProperties {
+    private String botToken = "";
+    private String baseUrl = "https://api.telegram.org";
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    private int queueCapacity = 500;
+    private int maxAttempts = 5;
+    private double globalPerSecond = 30;
+    private double perChatPerSecond = 1;
+
+    public String getBotToken() {
+        return botToken;
+    }
+
+    public void setBotToken(String botToken) {
+        this.botToken = botToken;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public double getGlobalPerSecond() {
+        return globalPerSecond;
+    }
+
+    public void setGlobalPerSecond(double globalPerSecond) {
+        this.globalPerSecond = globalPerSecond;
+    }
+
+    public double getPerChatPerSecond() {
+        return perChatPerSecond;
+    }
+
+    public void setPerChatPerSecond(double perChatPerSecond) {
+        this.perChatPerSecond = perChatPerSecond;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.calendar.infrastructure.telegram;
+
+/**
+ * Token bucket expressed as a generic cell rate algorithm: instead of blocking, {@link #reserve(long)}
+ * hands out the earliest {@link System#nanoTime()} at which the caller may proceed.
+ */
+final class TokenBucket {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private long theoreticalArrival;
+
+    TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.toleranceNanos = intervalNanos * Math.max(0, burst - 1);
+        this.theoreticalArrival = nowNanos;
+    }
+
+    synchronized long reserve(long atNanos) {
+        long allowedAt = Math.max(atNanos, theoreticalArrival - toleranceNanos);
+        theoreticalArrival = Math.max(theoreticalArrival, allowedAt) + intervalNanos;
+        return allowedAt;
+    }
+
+    synchronized boolean isIdle(long nowNanos) {
+        return theoreticalArrival - nowNanos <= 0;
+    }
+}
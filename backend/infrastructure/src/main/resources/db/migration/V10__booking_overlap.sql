@@ -0,0 +1,21 @@
+-- Bookings that are not declined may not overlap for the same developer, whatever the availability
+-- tables say. This is the authoritative conflict check; violations surface as 23P01.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Adding whole minutes does not depend on the session time zone, so the expression is immutable even
+-- though timestamptz + interval is only declared stable.
+CREATE FUNCTION booking_period(start_at TIMESTAMPTZ, duration_minutes INT) RETURNS TSTZRANGE
+  LANGUAGE sql IMMUTABLE PARALLEL SAFE
+  AS $$ SELECT tstzrange(start_at, start_at + make_interval(mins => duration_minutes)) $$;
+
+ALTER TABLE booking
+  ADD COLUMN period TSTZRANGE GENERATED ALWAYS AS (booking_period(start_at, duration_minutes)) STORED;
+
+ALTER TABLE booking
+  ADD CONSTRAINT booking_no_overlap
+  EXCLUDE USING gist (developer_id WITH =, period WITH &&) WHERE (status <> 'DECLINED');
+
+-- The exclusion covers every live booking; the old unique key only added that a declined booking kept
+-- its start time blocked. Lookups by developer and start keep a plain index.
+ALTER TABLE booking DROP CONSTRAINT booking_developer_id_start_at_key;
+CREATE INDEX booking_developer_start_idx ON booking (developer_id, start_at);
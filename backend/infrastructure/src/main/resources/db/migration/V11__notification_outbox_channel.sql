@@ -0,0 +1,11 @@
+-- One outbox entry per channel, so a Telegram retry does not send the email again.
+ALTER TABLE notification_outbox
+  ADD COLUMN channel TEXT NOT NULL DEFAULT 'EMAIL' CHECK (channel IN ('EMAIL','TELEGRAM'));
+
+-- Entries still waiting were going to send both; give the Telegram half its own entry.
+INSERT INTO notification_outbox (kind, booking_id, channel, status, attempts, next_attempt_at, last_error, created_at)
+SELECT kind, booking_id, 'TELEGRAM', status, attempts, next_attempt_at, last_error, created_at
+FROM notification_outbox
+WHERE status = 'PENDING';
+
+ALTER TABLE notification_outbox ALTER COLUMN channel DROP DEFAULT;
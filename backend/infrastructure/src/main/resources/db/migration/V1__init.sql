@@ -15,10 +15,11 @@ CREATE TABLE app_user (
 CREATE TABLE event_type (
   id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
   developer_id UUID NOT NULL REFERENCES app_user(id) ON DELETE CASCADE,
-  name TEXT NOT NULL CHECK (char_length(name) <= 18),
-  UNIQUE (developer_id, LOWER(name))
+  name TEXT NOT NULL CHECK (char_length(name) <= 18)
 );
 
+CREATE UNIQUE INDEX event_type_developer_name_idx ON event_type (developer_id, LOWER(name));
+
 CREATE TABLE availability_slot (
   id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
   developer_id UUID NOT NULL REFERENCES app_user(id) ON DELETE CASCADE,
@@ -0,0 +1,6 @@
+CREATE TABLE reminder_dispatch (
+  booking_id UUID NOT NULL REFERENCES booking(id) ON DELETE CASCADE,
+  reminder_type TEXT NOT NULL CHECK (reminder_type IN ('HOURS_24','HOUR_1')),
+  sent_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+  PRIMARY KEY (booking_id, reminder_type)
+);
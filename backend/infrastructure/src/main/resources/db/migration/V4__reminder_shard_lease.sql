@@ -0,0 +1,13 @@
+CREATE TABLE reminder_node (
+  node_id TEXT PRIMARY KEY,
+  heartbeat_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE reminder_shard_lease (
+  shard INT PRIMARY KEY,
+  owner TEXT,
+  lease_until TIMESTAMPTZ NOT NULL DEFAULT '-infinity'
+);
+
+INSERT INTO reminder_shard_lease (shard)
+SELECT generate_series(0, 15);
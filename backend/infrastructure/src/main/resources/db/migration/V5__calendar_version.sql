@@ -0,0 +1,4 @@
+CREATE TABLE calendar_version (
+  developer_id UUID PRIMARY KEY REFERENCES app_user(id) ON DELETE CASCADE,
+  version BIGINT NOT NULL
+);
@@ -0,0 +1,7 @@
+-- Built concurrently so existing tables stay writable; Flyway runs this script outside a transaction.
+
+-- Reminder selection looks for approved bookings of every developer by start time.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS booking_approved_start_idx ON booking (start_at) WHERE status = 'APPROVED';
+
+-- Deleting a booking cascades to its outbox rows, which are found by booking.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS notification_outbox_booking_idx ON notification_outbox (booking_id);
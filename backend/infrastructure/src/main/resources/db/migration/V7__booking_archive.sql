@@ -0,0 +1,19 @@
+-- Bookings past the retention horizon leave the hot table; the archive has no uniqueness or
+-- reservation constraints because nothing is booked against it.
+CREATE TABLE booking_archive (
+  id UUID PRIMARY KEY,
+  developer_id UUID NOT NULL REFERENCES app_user(id) ON DELETE CASCADE,
+  created_by_role TEXT NOT NULL,
+  event_type_name TEXT NOT NULL,
+  start_at TIMESTAMPTZ NOT NULL,
+  duration_minutes INT NOT NULL,
+  status booking_status NOT NULL,
+  company TEXT NOT NULL,
+  hr_name TEXT NOT NULL,
+  hr_email TEXT NOT NULL,
+  meeting_link TEXT,
+  created_at TIMESTAMPTZ NOT NULL,
+  archived_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX booking_archive_developer_start_idx ON booking_archive (developer_id, start_at);
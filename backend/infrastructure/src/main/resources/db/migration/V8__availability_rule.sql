@@ -0,0 +1,23 @@
+-- Recurring availability evaluated on read. Bit n of weekdays is ISO day n + 1 (bit 0 = Monday); times
+-- and dates are UTC, like the slots they produce.
+CREATE TABLE availability_rule (
+  id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+  developer_id UUID NOT NULL REFERENCES app_user(id) ON DELETE CASCADE,
+  weekdays INT NOT NULL CHECK (weekdays BETWEEN 1 AND 127),
+  daily_start TIME NOT NULL,
+  daily_end TIME NOT NULL,
+  start_date DATE NOT NULL,
+  end_date DATE NOT NULL,
+  CHECK (daily_start < daily_end),
+  CHECK (start_date <= end_date)
+);
+
+CREATE INDEX availability_rule_developer_idx ON availability_rule (developer_id, end_date);
+
+-- Rule slots that are not free: removed by the developer or consumed by a booking. The primary key is
+-- what makes taking a rule slot atomic.
+CREATE TABLE availability_exception (
+  developer_id UUID NOT NULL REFERENCES app_user(id) ON DELETE CASCADE,
+  start_at TIMESTAMPTZ NOT NULL,
+  PRIMARY KEY (developer_id, start_at)
+);
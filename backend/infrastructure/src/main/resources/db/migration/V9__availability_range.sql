@@ -0,0 +1,14 @@
+-- Free time as merged half-open intervals: one row per contiguous run instead of one per half hour. Used
+-- instead of availability_slot when calendar.availability.storage=ranges.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE TABLE availability_range (
+  developer_id UUID NOT NULL REFERENCES app_user(id) ON DELETE CASCADE,
+  period TSTZRANGE NOT NULL,
+  CHECK (NOT isempty(period) AND lower_inc(period) AND NOT upper_inc(period)
+    AND NOT lower_inf(period) AND NOT upper_inf(period)),
+  CHECK (extract(epoch FROM lower(period))::bigint % 1800 = 0
+    AND extract(epoch FROM upper(period))::bigint % 1800 = 0),
+  -- the constraint's GiST index on (developer_id, period) also serves every lookup
+  CONSTRAINT availability_range_no_overlap EXCLUDE USING gist (developer_id WITH =, period WITH &&)
+);
@@ -0,0 +1,204 @@
+package com.example.calendar.infrastructure.notification;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.calendar.application.user.UserService;
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.User;
+import com.example.calendar.domain.repository.BookingRepository;
+import com.example.calendar.infrastructure.persistence.entity.NotificationOutboxEntity;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxDispatcherTest {
+    private static final long TIMEOUT_MILLIS = 2000;
+    private static final Duration SEND_TIMEOUT = Duration.ofMillis(300);
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock private NotificationOutbox outbox;
+    @Mock private BookingRepository bookingRepository;
+    @Mock private UserService userService;
+    @Mock private NotificationAdapter notificationAdapter;
+
+    private NotificationOutboxDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void deliversClaimedEntriesAndRemovesThem() {
+        dispatcher = dispatcher(2, 10);
+        Booking booking = booking();
+        NotificationOutboxEntity entry = entry(booking.getId());
+        when(outbox.claimDue(12)).thenReturn(List.of(entry));
+        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+        User developer = new User();
+        when(userService.getDeveloper(booking.getDeveloperId())).thenReturn(developer);
+        when(notificationAdapter.deliverBookingCreated(developer, booking, NotificationOutboxEntity.Channel.EMAIL))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        dispatcher.dispatch();
+
+        verify(outbox, timeout(TIMEOUT_MILLIS)).markDelivered(entry.getId());
+        verify(notificationAdapter).deliverBookingCreated(developer, booking, NotificationOutboxEntity.Channel.EMAIL);
+        verify(outbox, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void aFailedDeliveryIsRecordedForRetry() {
+        dispatcher = dispatcher(2, 10);
+        Booking booking = booking();
+        NotificationOutboxEntity entry = entry(booking.getId());
+        when(outbox.claimDue(anyInt())).thenReturn(List.of(entry));
+        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+        when(userService.getDeveloper(any())).thenReturn(new User());
+        doThrow(new IllegalStateException("SMTP down"))
+                .when(notificationAdapter)
+                .deliverBookingCreated(any(), any(), any());
+
+        dispatcher.dispatch();
+
+        verify(outbox, timeout(TIMEOUT_MILLIS)).markFailed(entry.getId(), "SMTP down");
+        verify(outbox, never()).markDelivered(any());
+    }
+
+    @Test
+    void aTelegramEntryIsMarkedOnlyOnceTelegramAnswered() {
+        dispatcher = dispatcher(2, 10);
+        Booking booking = booking();
+        NotificationOutboxEntity entry = entry(booking.getId());
+        entry.setChannel(NotificationOutboxEntity.Channel.TELEGRAM);
+        CompletableFuture<Void> telegram = new CompletableFuture<>();
+        when(outbox.claimDue(anyInt())).thenReturn(List.of(entry));
+        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+        when(userService.getDeveloper(any())).thenReturn(new User());
+        when(notificationAdapter.deliverBookingCreated(any(), any(), eq(NotificationOutboxEntity.Channel.TELEGRAM)))
+                .thenReturn(telegram);
+
+        dispatcher.dispatch();
+
+        verify(notificationAdapter, timeout(TIMEOUT_MILLIS))
+                .deliverBookingCreated(any(), any(), eq(NotificationOutboxEntity.Channel.TELEGRAM));
+        verify(outbox, after(200).never()).markDelivered(any());
+        telegram.completeExceptionally(new IllegalStateException("Telegram request failed: HTTP 429"));
+        verify(outbox, timeout(TIMEOUT_MILLIS)).markFailed(entry.getId(), "Telegram request failed: HTTP 429");
+        verify(outbox, never()).markDelivered(any());
+    }
+
+    @Test
+    void aSendThatOutlastsTheTimeoutIsRecordedForRetryBeforeTheLeaseEnds() {
+        dispatcher = dispatcher(2, 10);
+        Booking booking = booking();
+        NotificationOutboxEntity entry = entry(booking.getId());
+        entry.setChannel(NotificationOutboxEntity.Channel.TELEGRAM);
+        when(outbox.claimDue(anyInt())).thenReturn(List.of(entry));
+        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+        when(userService.getDeveloper(any())).thenReturn(new User());
+        when(notificationAdapter.deliverBookingCreated(any(), any(), any())).thenReturn(new CompletableFuture<>());
+
+        dispatcher.dispatch();
+
+        verify(outbox, timeout(TIMEOUT_MILLIS)).markFailed(entry.getId(), "No answer within PT0.3S");
+        verify(outbox, never()).markDelivered(any());
+    }
+
+    @Test
+    void aSendTimeoutAsLongAsTheLeaseIsRejected() {
+        assertThatThrownBy(() -> new NotificationOutboxDispatcher(
+                        outbox, bookingRepository, userService, notificationAdapter, 1, 1, false, LEASE, LEASE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("send-timeout");
+    }
+
+    @Test
+    void anEntryWhoseBookingIsGoneIsDropped() {
+        dispatcher = dispatcher(2, 10);
+        NotificationOutboxEntity entry = entry(UUID.randomUUID());
+        when(outbox.claimDue(anyInt())).thenReturn(List.of(entry));
+        when(bookingRepository.findById(entry.getBookingId())).thenReturn(Optional.empty());
+
+        dispatcher.dispatch();
+
+        verify(outbox, timeout(TIMEOUT_MILLIS)).markDelivered(entry.getId());
+        verify(notificationAdapter, never()).deliverBookingCreated(any(), any(), any());
+    }
+
+    @Test
+    void aSaturatedPoolLeavesEntriesToTheirLease() throws InterruptedException {
+        dispatcher = dispatcher(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Booking booking = booking();
+        NotificationOutboxEntity running = entry(booking.getId());
+        NotificationOutboxEntity queued = entry(booking.getId());
+        NotificationOutboxEntity rejected = entry(booking.getId());
+        // one worker plus one queue slot, but the outbox hands over one entry more than asked for
+        when(outbox.claimDue(2)).thenReturn(List.of(running, queued, rejected));
+        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+        when(userService.getDeveloper(any())).thenReturn(new User());
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return CompletableFuture.completedFuture(null);
+        }).when(notificationAdapter).deliverBookingCreated(any(), any(), any());
+
+        dispatcher.dispatch();
+        started.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        dispatcher.dispatch();
+        release.countDown();
+
+        verify(outbox, timeout(TIMEOUT_MILLIS)).markDelivered(running.getId());
+        verify(outbox, timeout(TIMEOUT_MILLIS)).markDelivered(queued.getId());
+        verify(outbox, times(1)).claimDue(anyInt());
+        verify(outbox, never()).markDelivered(rejected.getId());
+        verify(outbox, never()).markFailed(any(), any());
+    }
+
+    private NotificationOutboxDispatcher dispatcher(int workers, int queueCapacity) {
+        return new NotificationOutboxDispatcher(
+                outbox, bookingRepository, userService, notificationAdapter, workers, queueCapacity, false,
+                SEND_TIMEOUT, LEASE);
+    }
+
+    private static Booking booking() {
+        Booking booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setDeveloperId(UUID.randomUUID());
+        return booking;
+    }
+
+    private static NotificationOutboxEntity entry(UUID bookingId) {
+        NotificationOutboxEntity entry = new NotificationOutboxEntity();
+        entry.setId(UUID.randomUUID());
+        entry.setKind(NotificationOutboxEntity.Kind.BOOKING_CREATED);
+        entry.setBookingId(bookingId);
+        entry.setChannel(NotificationOutboxEntity.Channel.EMAIL);
+        return entry;
+    }
+}
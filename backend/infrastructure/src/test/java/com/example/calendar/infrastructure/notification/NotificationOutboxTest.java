@@ -0,0 +1,127 @@
+package com.example.calendar.infrastructure.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.calendar.infrastructure.persistence.entity.NotificationOutboxEntity;
+import com.example.calendar.infrastructure.persistence.repository.JpaNotificationOutboxRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxTest {
+    private static final OffsetDateTime NOW = OffsetDateTime.ofInstant(Instant.parse("2025-01-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    @Mock private JpaNotificationOutboxRepository outboxRepository;
+
+    private NotificationOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new NotificationOutbox(
+                outboxRepository,
+                Clock.fixed(NOW.toInstant(), ZoneOffset.UTC),
+                LEASE,
+                3,
+                INITIAL_BACKOFF,
+                MAX_BACKOFF);
+    }
+
+    @Test
+    void claimDueLeasesEveryClaimedEntry() {
+        NotificationOutboxEntity first = entry(0);
+        NotificationOutboxEntity second = entry(1);
+        when(outboxRepository.lockDue(NOW, 10)).thenReturn(List.of(first, second));
+
+        List<NotificationOutboxEntity> claimed = outbox.claimDue(10);
+
+        assertThat(claimed).containsExactly(first, second);
+        // another poller sees them again only once the lease has run out
+        assertThat(claimed).extracting(NotificationOutboxEntity::getNextAttemptAt).containsOnly(NOW.plus(LEASE));
+    }
+
+    @Test
+    void markDeliveredDeletesTheEntry() {
+        UUID id = UUID.randomUUID();
+
+        outbox.markDelivered(id);
+
+        verify(outboxRepository).deleteById(id);
+    }
+
+    @Test
+    void markFailedBacksOffExponentiallyWithJitter() {
+        for (int attempts = 0; attempts < 2; attempts++) {
+            NotificationOutboxEntity entry = entry(attempts);
+            when(outboxRepository.findById(entry.getId())).thenReturn(Optional.of(entry));
+
+            outbox.markFailed(entry.getId(), "SMTP timeout");
+
+            Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << attempts);
+            assertThat(entry.getAttempts()).isEqualTo(attempts + 1);
+            assertThat(entry.getStatus()).isEqualTo(NotificationOutboxEntity.Status.PENDING);
+            assertThat(entry.getLastError()).isEqualTo("SMTP timeout");
+            // up to a fifth of the delay is taken off so retries of one outage spread out
+            assertThat(entry.getNextAttemptAt())
+                    .isBetween(NOW.plus(backoff.minus(backoff.dividedBy(5))), NOW.plus(backoff));
+        }
+    }
+
+    @Test
+    void markFailedCapsTheBackoff() {
+        NotificationOutbox patient = new NotificationOutbox(
+                outboxRepository,
+                Clock.fixed(NOW.toInstant(), ZoneOffset.UTC),
+                LEASE,
+                100,
+                INITIAL_BACKOFF,
+                MAX_BACKOFF);
+        NotificationOutboxEntity entry = entry(40);
+        when(outboxRepository.findById(entry.getId())).thenReturn(Optional.of(entry));
+
+        patient.markFailed(entry.getId(), "SMTP timeout");
+
+        assertThat(entry.getNextAttemptAt())
+                .isBetween(NOW.plus(MAX_BACKOFF.multipliedBy(4).dividedBy(5)), NOW.plus(MAX_BACKOFF));
+    }
+
+    @Test
+    void markFailedGivesUpAfterMaxAttempts() {
+        NotificationOutboxEntity entry = entry(2);
+        OffsetDateTime leasedUntil = entry.getNextAttemptAt();
+        when(outboxRepository.findById(entry.getId())).thenReturn(Optional.of(entry));
+
+        outbox.markFailed(entry.getId(), "x".repeat(5000));
+
+        assertThat(entry.getAttempts()).isEqualTo(3);
+        assertThat(entry.getStatus()).isEqualTo(NotificationOutboxEntity.Status.FAILED);
+        assertThat(entry.getNextAttemptAt()).isEqualTo(leasedUntil);
+        assertThat(entry.getLastError()).hasSize(1000);
+    }
+
+    private static NotificationOutboxEntity entry(int attempts) {
+        NotificationOutboxEntity entry = new NotificationOutboxEntity();
+        entry.setId(UUID.randomUUID());
+        entry.setKind(NotificationOutboxEntity.Kind.BOOKING_CREATED);
+        entry.setBookingId(UUID.randomUUID());
+        entry.setChannel(NotificationOutboxEntity.Channel.EMAIL);
+        entry.setAttempts(attempts);
+        entry.setNextAttemptAt(NOW.plus(LEASE));
+        return entry;
+    }
+}
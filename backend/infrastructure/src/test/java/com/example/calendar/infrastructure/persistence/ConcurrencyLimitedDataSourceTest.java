@@ -0,0 +1,81 @@
+package com.example.calendar.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofMillis(50);
+
+    @Mock private DataSource target;
+    @Mock private Connection connection;
+
+    @Test
+    void closingTheConnectionReleasesItsPermit() throws SQLException {
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, ACQUIRE_TIMEOUT);
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection checkedOut = dataSource.getConnection();
+
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        checkedOut.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+        verify(connection).close();
+    }
+
+    @Test
+    void closingTwiceReleasesThePermitOnce() throws SQLException {
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, ACQUIRE_TIMEOUT);
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection checkedOut = dataSource.getConnection();
+        checkedOut.close();
+        checkedOut.close();
+
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+        // the second close still reaches the pool, which ignores it
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void aFailedCheckoutReleasesItsPermit() throws SQLException {
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, ACQUIRE_TIMEOUT);
+        SQLException poolFailure = new SQLException("Connection refused");
+        when(target.getConnection()).thenThrow(poolFailure).thenReturn(connection);
+
+        assertThatThrownBy(dataSource::getConnection).isSameAs(poolFailure);
+
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void waitingPastTheAcquireTimeoutFailsTransiently() throws SQLException {
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, ACQUIRE_TIMEOUT);
+        when(target.getConnection()).thenReturn(connection);
+        Connection held = dataSource.getConnection();
+
+        long started = System.nanoTime();
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("Timed out");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(ACQUIRE_TIMEOUT);
+        verify(target).getConnection();
+        held.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.calendar.domain.model.AvailabilitySlot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Checks that the range adapter merges and splits intervals against Postgres, e.g.
+ * {@code CALENDAR_TEST_DB_URL=jdbc:postgresql://localhost:5432/calendar mvn test}.
+ */
+@EnabledIfEnvironmentVariable(named = "CALENDAR_TEST_DB_URL", matches = ".+")
+class AvailabilityRangeRepositoryAdapterTest {
+    private static final String SCHEMA = "availability_range_test";
+    private static final OffsetDateTime DAY = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS).plusDays(1);
+
+    private JdbcTemplate jdbcTemplate;
+    private AvailabilityRangeRepositoryAdapter adapter;
+    private UUID developerId;
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getenv("CALENDAR_TEST_DB_URL");
+        String username = System.getenv().getOrDefault("CALENDAR_TEST_DB_USER", "calendar");
+        String password = System.getenv().getOrDefault("CALENDAR_TEST_DB_PASSWORD", "calendar");
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, username, password)
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, username, password);
+        dataSource.setSchema(SCHEMA);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        adapter = new AvailabilityRangeRepositoryAdapter(jdbcTemplate, new SimpleMeterRegistry());
+
+        developerId = jdbcTemplate.queryForObject("SELECT id FROM app_user WHERE public_token = 'demo-token'", UUID.class);
+    }
+
+    @Test
+    void addingSlotsMergesThemWithTheIntervalsTheyTouch() {
+        adapter.insertMissing(developerId, starts(DAY.plusHours(9), 2));
+        adapter.insertMissing(developerId, starts(DAY.plusHours(11), 2));
+
+        List<AvailabilitySlot> added = adapter.insertMissing(developerId, starts(DAY.plusHours(9), 6));
+
+        assertThat(added)
+                .extracting(AvailabilitySlot::getStartAt)
+                .containsExactly(DAY.plusHours(10), DAY.plusHours(10).plusMinutes(30));
+        assertThat(periods()).containsExactly(period(DAY.plusHours(9), DAY.plusHours(12)));
+    }
+
+    @Test
+    void addingSlotsOnSeveralDaysMergesEachWithItsOwnDay() {
+        List<OffsetDateTime> extensions = new ArrayList<>();
+        for (int day = 0; day < 3; day++) {
+            adapter.insertMissing(developerId, starts(DAY.plusDays(day).plusHours(9), 2));
+            extensions.add(DAY.plusDays(day).plusHours(10));
+        }
+
+        // in one call, so each day's new slot is only one part of the added multirange
+        adapter.insertMissing(developerId, extensions);
+
+        assertThat(periods()).containsExactly(
+                period(DAY.plusHours(9), DAY.plusHours(10).plusMinutes(30)),
+                period(DAY.plusDays(1).plusHours(9), DAY.plusDays(1).plusHours(10).plusMinutes(30)),
+                period(DAY.plusDays(2).plusHours(9), DAY.plusDays(2).plusHours(10).plusMinutes(30)));
+    }
+
+    @Test
+    void reservingSplitsTheIntervalAndReleasingMergesItBack() {
+        adapter.insertMissing(developerId, starts(DAY.plusHours(9), 6));
+
+        int reserved = adapter.reserveRange(developerId, DAY.plusHours(10), DAY.plusHours(11));
+
+        assertThat(reserved).isEqualTo(2);
+        assertThat(periods()).containsExactly(
+                period(DAY.plusHours(9), DAY.plusHours(10)), period(DAY.plusHours(11), DAY.plusHours(12)));
+        assertThat(adapter.existsByDeveloperIdAndStartAt(developerId, DAY.plusHours(10))).isFalse();
+
+        adapter.insertMissing(developerId, starts(DAY.plusHours(10), 2));
+
+        assertThat(periods()).containsExactly(period(DAY.plusHours(9), DAY.plusHours(12)));
+    }
+
+    @Test
+    void reservingTimeThatIsOnlyPartlyFreeCountsTheFreePart() {
+        adapter.insertMissing(developerId, starts(DAY.plusHours(9), 2));
+
+        int reserved = adapter.reserveRange(
+                developerId, DAY.plusHours(9).plusMinutes(30), DAY.plusHours(10).plusMinutes(30));
+
+        assertThat(reserved).isEqualTo(1);
+        assertThat(adapter.loadIndex(developerId, DAY, DAY.plusDays(1)).slotStarts()).containsExactly(DAY.plusHours(9));
+    }
+
+    @Test
+    void aMonthOfWorkingDaysIsOneRowPerDay() {
+        for (int day = 0; day < 30; day++) {
+            adapter.insertMissing(developerId, starts(DAY.plusDays(day).plusHours(8), 16));
+        }
+
+        assertThat(jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM availability_range WHERE developer_id = ?", Integer.class, developerId))
+                .isEqualTo(30);
+        assertThat(adapter.loadIndex(developerId, DAY, DAY.plusDays(30)).cardinality()).isEqualTo(30 * 16);
+    }
+
+    private List<String> periods() {
+        return jdbcTemplate.queryForList("""
+                SELECT lower(period) || '/' || upper(period) FROM availability_range
+                WHERE developer_id = ? ORDER BY period
+                """, String.class, developerId);
+    }
+
+    private String period(OffsetDateTime lower, OffsetDateTime upper) {
+        return jdbcTemplate.queryForObject(
+                "SELECT ?::timestamptz || '/' || ?::timestamptz", String.class, lower, upper);
+    }
+
+    private static List<OffsetDateTime> starts(OffsetDateTime first, int count) {
+        List<OffsetDateTime> starts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            starts.add(first.plusMinutes(30L * i));
+        }
+        return starts;
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs without a database: replays the steps of the range adapter's add and subtract statements on an
+ * in-memory table, in minutes of the day, and holds the SQL to those steps.
+ * {@link AvailabilityRangeRepositoryAdapterTest} runs the statements themselves against Postgres.
+ */
+class AvailabilityRangeSqlTest {
+    private static final int SLOT = 30;
+    private static final int DAY = 24 * 60;
+
+    @Test
+    void addSqlAbsorbsEveryIntervalTouchingOneOfTheAddedParts() {
+        String sql = AvailabilityRangeRepositoryAdapter.ADD_SQL;
+
+        // slots already inside an interval are not missing, so nothing added can overlap the table
+        assertThat(sql).contains("WHERE NOT EXISTS (").contains("r.period @> c.start_at");
+        // adjacency is tested per part: the multirange as a whole only touches the outermost intervals
+        assertThat(sql).contains("unnest(added.periods) AS p(period) WHERE r.period -|- p.period");
+        assertThat(sql).doesNotContain("r.period -|- added.periods");
+        assertThat(sql).contains("unnest(range_agg(part))");
+    }
+
+    @Test
+    void subtractSqlKeepsTheRestOfEachIntervalAndCountsOnlyTheFreePart() {
+        String sql = AvailabilityRangeRepositoryAdapter.SUBTRACT_SQL;
+
+        assertThat(sql).contains("r.period && removed.periods");
+        assertThat(sql).contains("unnest(periods - taken)");
+        assertThat(sql).contains("unnest(periods * taken)");
+    }
+
+    @Test
+    void aSlotTouchingIntervalsOnBothSidesJoinsThemIntoOne() {
+        RangeTable table = new RangeTable();
+        table.add(starts(9 * 60, 2));
+        table.add(starts(10 * 60 + 30, 2));
+
+        assertThat(table.add(List.of(10 * 60))).containsExactly(10 * 60);
+
+        assertThat(table.periods()).containsExactly(period(9 * 60, 11 * 60 + 30));
+    }
+
+    @Test
+    void eachPartOfTheAddedSlotsMergesWithItsOwnNeighbours() {
+        RangeTable table = new RangeTable();
+        List<Integer> extensions = new ArrayList<>();
+        for (int day = 0; day < 3; day++) {
+            table.add(starts(day * DAY + 9 * 60, 2));
+            extensions.add(day * DAY + 10 * 60);
+        }
+
+        // the middle day's slot is an inner part of the multirange, adjacent to neither of its bounds
+        table.add(extensions);
+
+        assertThat(table.periods()).containsExactly(
+                period(9 * 60, 10 * 60 + 30),
+                period(DAY + 9 * 60, DAY + 10 * 60 + 30),
+                period(2 * DAY + 9 * 60, 2 * DAY + 10 * 60 + 30));
+    }
+
+    @Test
+    void addingSlotsAlreadyFreeOrGivenTwiceAddsEachMissingOneOnce() {
+        RangeTable table = new RangeTable();
+        table.add(starts(9 * 60, 4));
+
+        List<Integer> added = table.add(List.of(9 * 60 + 30, 11 * 60, 11 * 60, 12 * 60));
+
+        assertThat(added).containsExactly(11 * 60, 12 * 60);
+        assertThat(table.periods()).containsExactly(period(9 * 60, 11 * 60 + 30), period(12 * 60, 12 * 60 + 30));
+    }
+
+    @Test
+    void addingAcrossGapsFillsThemAndMergesEverything() {
+        RangeTable table = new RangeTable();
+        table.add(List.of(9 * 60));
+        table.add(List.of(10 * 60));
+        table.add(List.of(11 * 60));
+
+        table.add(starts(8 * 60, 10));
+
+        assertThat(table.periods()).containsExactly(period(8 * 60, 13 * 60));
+    }
+
+    @Test
+    void subtractingFromTheMiddleSplitsTheInterval() {
+        RangeTable table = new RangeTable();
+        table.add(starts(9 * 60, 6));
+
+        assertThat(table.subtract(starts(10 * 60, 2))).isEqualTo(2);
+
+        assertThat(table.periods()).containsExactly(period(9 * 60, 10 * 60), period(11 * 60, 12 * 60));
+    }
+
+    @Test
+    void subtractingAcrossAGapCountsOnlyTheFreeSlots() {
+        RangeTable table = new RangeTable();
+        table.add(starts(9 * 60, 2));
+        table.add(starts(11 * 60, 2));
+
+        assertThat(table.subtract(starts(9 * 60 + 30, 4))).isEqualTo(2);
+
+        assertThat(table.periods()).containsExactly(period(9 * 60, 9 * 60 + 30), period(11 * 60 + 30, 12 * 60));
+    }
+
+    @Test
+    void subtractingAWholeIntervalLeavesNothingOfIt() {
+        RangeTable table = new RangeTable();
+        table.add(starts(9 * 60, 2));
+        table.add(starts(14 * 60, 2));
+
+        assertThat(table.subtract(starts(9 * 60, 2))).isEqualTo(2);
+        assertThat(table.subtract(starts(9 * 60, 2))).isZero();
+
+        assertThat(table.periods()).containsExactly(period(14 * 60, 15 * 60));
+    }
+
+    @Test
+    void subtractingThenAddingBackRestoresOneInterval() {
+        RangeTable table = new RangeTable();
+        table.add(starts(9 * 60, 6));
+        table.subtract(List.of(9 * 60 + 30, 11 * 60));
+
+        table.add(List.of(11 * 60, 9 * 60 + 30));
+
+        assertThat(table.periods()).containsExactly(period(9 * 60, 12 * 60));
+    }
+
+    private static List<Integer> starts(int first, int count) {
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            starts.add(first + SLOT * i);
+        }
+        return starts;
+    }
+
+    private static String period(int lower, int upper) {
+        return lower + "/" + upper;
+    }
+
+    /**
+     * One developer's rows of {@code availability_range}, lower bound to upper bound. Every write checks the
+     * table's exclusion constraint and that no two rows are left touching.
+     */
+    private static final class RangeTable {
+        private final TreeMap<Integer, Integer> rows = new TreeMap<>();
+
+        List<Integer> add(Collection<Integer> startTimes) {
+            // missing
+            TreeSet<Integer> missing = new TreeSet<>();
+            for (int start : startTimes) {
+                if (!contains(start)) {
+                    missing.add(start);
+                }
+            }
+            // added
+            TreeMap<Integer, Integer> added = rangeAgg(slots(missing));
+            // absorbed
+            TreeMap<Integer, Integer> absorbed = new TreeMap<>();
+            for (Map.Entry<Integer, Integer> row : rows.entrySet()) {
+                for (Map.Entry<Integer, Integer> part : added.entrySet()) {
+                    if (adjacent(row, part)) {
+                        absorbed.put(row.getKey(), row.getValue());
+                    }
+                }
+            }
+            absorbed.keySet().forEach(rows::remove);
+            // merged
+            TreeMap<Integer, Integer> parts = new TreeMap<>(added);
+            absorbed.forEach(parts::put);
+            insert(rangeAgg(parts));
+            return List.copyOf(missing);
+        }
+
+        int subtract(Collection<Integer> startTimes) {
+            // removed
+            TreeMap<Integer, Integer> removed = rangeAgg(slots(startTimes));
+            // cut
+            TreeMap<Integer, Integer> cut = new TreeMap<>();
+            rows.forEach((lower, upper) -> {
+                if (removed.entrySet().stream().anyMatch(part -> lower < part.getValue() && part.getKey() < upper)) {
+                    cut.put(lower, upper);
+                }
+            });
+            cut.keySet().forEach(rows::remove);
+            // kept, and the count of slots taken
+            TreeMap<Integer, Integer> kept = new TreeMap<>();
+            int taken = 0;
+            for (Map.Entry<Integer, Integer> row : cut.entrySet()) {
+                int cursor = row.getKey();
+                for (Map.Entry<Integer, Integer> part : removed.entrySet()) {
+                    int lower = Math.max(part.getKey(), row.getKey());
+                    int upper = Math.min(part.getValue(), row.getValue());
+                    if (lower >= upper) {
+                        continue;
+                    }
+                    taken += (upper - lower) / SLOT;
+                    if (cursor < lower) {
+                        kept.put(cursor, lower);
+                    }
+                    cursor = upper;
+                }
+                if (cursor < row.getValue()) {
+                    kept.put(cursor, row.getValue());
+                }
+            }
+            insert(kept);
+            return taken;
+        }
+
+        List<String> periods() {
+            return rows.entrySet().stream().map(row -> period(row.getKey(), row.getValue())).toList();
+        }
+
+        private boolean contains(int start) {
+            Map.Entry<Integer, Integer> row = rows.floorEntry(start);
+            return row != null && start < row.getValue();
+        }
+
+        private void insert(Map<Integer, Integer> periods) {
+            periods.forEach((lower, upper) -> {
+                Map.Entry<Integer, Integer> before = rows.lowerEntry(upper);
+                assertThat(before == null || before.getValue() <= lower)
+                        .as("availability_range_no_overlap for %s", period(lower, upper))
+                        .isTrue();
+                rows.put(lower, upper);
+            });
+            Integer previousUpper = null;
+            for (Map.Entry<Integer, Integer> row : rows.entrySet()) {
+                assertThat(row.getKey()).as("rows left touching").isNotEqualTo(previousUpper);
+                previousUpper = row.getValue();
+            }
+        }
+
+        private static boolean adjacent(Map.Entry<Integer, Integer> a, Map.Entry<Integer, Integer> b) {
+            return a.getValue().equals(b.getKey()) || b.getValue().equals(a.getKey());
+        }
+
+        private static TreeMap<Integer, Integer> slots(Collection<Integer> starts) {
+            TreeMap<Integer, Integer> slots = new TreeMap<>();
+            starts.forEach(start -> slots.put(start, start + SLOT));
+            return slots;
+        }
+
+        /** Unions sorted periods, joining those that overlap or touch, as {@code range_agg} does. */
+        private static TreeMap<Integer, Integer> rangeAgg(TreeMap<Integer, Integer> periods) {
+            TreeMap<Integer, Integer> merged = new TreeMap<>();
+            Map.Entry<Integer, Integer> last = null;
+            for (Map.Entry<Integer, Integer> period : periods.entrySet()) {
+                if (last != null && period.getKey() <= last.getValue()) {
+                    merged.put(last.getKey(), Math.max(last.getValue(), period.getValue()));
+                } else {
+                    merged.put(period.getKey(), period.getValue());
+                }
+                last = merged.lastEntry();
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Checks the booking overlap exclusion constraint against Postgres, e.g.
+ * {@code CALENDAR_TEST_DB_URL=jdbc:postgresql://localhost:5432/calendar mvn test}.
+ */
+@EnabledIfEnvironmentVariable(named = "CALENDAR_TEST_DB_URL", matches = ".+")
+class BookingOverlapConstraintTest {
+    private static final String SCHEMA = "booking_overlap_test";
+    private static final OffsetDateTime START = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS).plusDays(1);
+
+    private JdbcTemplate jdbcTemplate;
+    private UUID developerId;
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getenv("CALENDAR_TEST_DB_URL");
+        String username = System.getenv().getOrDefault("CALENDAR_TEST_DB_USER", "calendar");
+        String password = System.getenv().getOrDefault("CALENDAR_TEST_DB_PASSWORD", "calendar");
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, username, password)
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, username, password);
+        dataSource.setSchema(SCHEMA);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        developerId = jdbcTemplate.queryForObject("SELECT id FROM app_user WHERE public_token = 'demo-token'", UUID.class);
+    }
+
+    @Test
+    void rejectsABookingStartingInsideAnotherOne() {
+        insertBooking(START.plusHours(10), 120, "NOT_APPROVED");
+
+        assertThatThrownBy(() -> insertBooking(START.plusHours(11), 30, "NOT_APPROVED"))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(ex -> assertThat(((SQLException) NestedExceptionUtils.getMostSpecificCause(ex)).getSQLState())
+                        .isEqualTo("23P01"));
+    }
+
+    @Test
+    void allowsBackToBackBookingsAndOverlapsWithDeclinedOnes() {
+        insertBooking(START.plusHours(10), 60, "APPROVED");
+        insertBooking(START.plusHours(11), 60, "NOT_APPROVED");
+        insertBooking(START.plusHours(12), 60, "DECLINED");
+        insertBooking(START.plusHours(12), 30, "NOT_APPROVED");
+
+        assertThat(jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM booking WHERE developer_id = ?", Integer.class, developerId))
+                .isEqualTo(4);
+    }
+
+    @Test
+    void rejectsReactivatingADeclinedBookingThatNowOverlaps() {
+        UUID declined = insertBooking(START.plusHours(10), 60, "DECLINED");
+        insertBooking(START.plusHours(10).plusMinutes(30), 30, "NOT_APPROVED");
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                        "UPDATE booking SET status = 'APPROVED' WHERE id = ?", declined))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private UUID insertBooking(OffsetDateTime startAt, int durationMinutes, String status) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO booking (developer_id, created_by_role, event_type_name, start_at, duration_minutes,
+                  status, company, hr_name, hr_email)
+                VALUES (?, 'HR', 'Screening', ?, ?, ?::booking_status, 'Acme', 'Alice', 'alice@example.com')
+                RETURNING id
+                """, UUID.class, developerId, startAt, durationMinutes, status);
+    }
+}
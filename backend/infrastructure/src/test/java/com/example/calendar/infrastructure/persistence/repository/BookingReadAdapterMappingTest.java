@@ -0,0 +1,88 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import com.example.calendar.application.dto.PublicBookingResponse;
+import com.example.calendar.domain.model.BookingStatus;
+import com.example.calendar.domain.model.Role;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Runs without a database: the public mapper over a row that still carries every detail, and the blanking
+ * in the public SQL itself. {@link BookingReadAdapterTest} checks the same rule against Postgres.
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingReadAdapterMappingTest {
+    private static final UUID ID = UUID.randomUUID();
+    private static final OffsetDateTime START = OffsetDateTime.of(2025, 1, 2, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock private ResultSet row;
+
+    @Test
+    void publicBookingsHideDetailsForNonMatchingViewerRole() throws SQLException {
+        stubHrBooking();
+
+        PublicBookingResponse response = BookingReadAdapter.publicBooking(Role.DEV).mapRow(row, 0);
+
+        assertThat(response).isEqualTo(new PublicBookingResponse(
+                ID, START, 60, BookingStatus.NOT_APPROVED, null, null, null, null, null, "HR", true));
+    }
+
+    @Test
+    void publicBookingsHideDetailsFromAnonymousViewers() throws SQLException {
+        stubHrBooking();
+
+        PublicBookingResponse response = BookingReadAdapter.publicBooking(null).mapRow(row, 0);
+
+        assertThat(response.company()).isNull();
+        assertThat(response.hrEmail()).isNull();
+        assertThat(response.meetingLink()).isNull();
+        assertThat(response.occupied()).isTrue();
+    }
+
+    @Test
+    void publicBookingsShowDetailsToTheCreatingRole() throws SQLException {
+        stubHrBooking();
+
+        PublicBookingResponse response = BookingReadAdapter.publicBooking(Role.HR).mapRow(row, 0);
+
+        assertThat(response).isEqualTo(new PublicBookingResponse(
+                ID, START, 60, BookingStatus.NOT_APPROVED, "Screening", "Acme", "Alice", "alice@example.com",
+                "https://meet.example.com/abc", "HR", false));
+    }
+
+    @Test
+    void publicSqlBlanksEveryDetailColumn() {
+        for (String sql : new String[] {BookingReadAdapter.PUBLIC_PAGE_SQL, BookingReadAdapter.PUBLIC_PAGE_AFTER_SQL}) {
+            for (String column : new String[] {"event_type_name", "company", "hr_name", "hr_email", "meeting_link"}) {
+                assertThat(sql).contains("CASE WHEN b.created_by_role = v.role THEN b." + column + " END AS " + column);
+            }
+            // and selects none of them unguarded
+            assertThat(sql).doesNotContainPattern("b\\.(event_type_name|company|hr_name|hr_email|meeting_link)\\s*,");
+        }
+    }
+
+    private void stubHrBooking() throws SQLException {
+        when(row.getObject("id", UUID.class)).thenReturn(ID);
+        when(row.getObject("start_at", OffsetDateTime.class)).thenReturn(START);
+        when(row.getInt("duration_minutes")).thenReturn(60);
+        when(row.getString("status")).thenReturn("NOT_APPROVED");
+        when(row.getString("created_by_role")).thenReturn("HR");
+        // only read for a viewer who may see them
+        lenient().when(row.getString("event_type_name")).thenReturn("Screening");
+        lenient().when(row.getString("company")).thenReturn("Acme");
+        lenient().when(row.getString("hr_name")).thenReturn("Alice");
+        lenient().when(row.getString("hr_email")).thenReturn("alice@example.com");
+        lenient().when(row.getString("meeting_link")).thenReturn("https://meet.example.com/abc");
+    }
+}
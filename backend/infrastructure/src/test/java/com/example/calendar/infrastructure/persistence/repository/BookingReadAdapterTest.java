@@ -0,0 +1,88 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.calendar.application.dto.BookingResponse;
+import com.example.calendar.application.dto.PublicBookingResponse;
+import com.example.calendar.domain.model.KeysetCursor;
+import com.example.calendar.domain.model.Role;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Checks the projection SQL against Postgres, e.g.
+ * {@code CALENDAR_TEST_DB_URL=jdbc:postgresql://localhost:5432/calendar mvn test}.
+ */
+@EnabledIfEnvironmentVariable(named = "CALENDAR_TEST_DB_URL", matches = ".+")
+class BookingReadAdapterTest {
+    private static final String SCHEMA = "booking_read_test";
+    private static final OffsetDateTime START = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS).plusDays(1);
+
+    private JdbcTemplate jdbcTemplate;
+    private BookingReadAdapter adapter;
+    private UUID developerId;
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getenv("CALENDAR_TEST_DB_URL");
+        String username = System.getenv().getOrDefault("CALENDAR_TEST_DB_USER", "calendar");
+        String password = System.getenv().getOrDefault("CALENDAR_TEST_DB_PASSWORD", "calendar");
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, username, password)
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, username, password);
+        dataSource.setSchema(SCHEMA);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        adapter = new BookingReadAdapter(jdbcTemplate);
+
+        developerId = jdbcTemplate.queryForObject("SELECT id FROM app_user WHERE public_token = 'demo-token'", UUID.class);
+        insertBooking(START.plusHours(9), "HR");
+        insertBooking(START.plusHours(11), "DEV");
+    }
+
+    @Test
+    void publicPageOnlyShowsDetailsOfBookingsCreatedByTheViewerRole() {
+        List<PublicBookingResponse> asHr = adapter.findPublicPage(developerId, START, START.plusDays(1), Role.HR, null, 10);
+        List<PublicBookingResponse> anonymous =
+                adapter.findPublicPage(developerId, START, START.plusDays(1), null, null, 10);
+
+        assertThat(asHr).extracting(PublicBookingResponse::company).containsExactly("Acme", null);
+        assertThat(asHr).extracting(PublicBookingResponse::occupied).containsExactly(false, true);
+        assertThat(asHr).extracting(PublicBookingResponse::createdByRole).containsExactly("HR", "DEV");
+        assertThat(anonymous).extracting(PublicBookingResponse::hrEmail).containsOnlyNulls();
+        assertThat(anonymous).extracting(PublicBookingResponse::occupied).containsOnly(true);
+    }
+
+    @Test
+    void pageAfterCursorContinuesInStartOrder() {
+        List<BookingResponse> first = adapter.findPage(developerId, START, START.plusDays(1), null, 1);
+        List<BookingResponse> second = adapter.findPage(
+                developerId, START, START.plusDays(1), new KeysetCursor(first.get(0).startAt(), first.get(0).id()), 1);
+
+        assertThat(first).extracting(BookingResponse::startAt).containsExactly(START.plusHours(9));
+        assertThat(first.get(0).hrEmail()).isEqualTo("alice@example.com");
+        assertThat(second).extracting(BookingResponse::startAt).containsExactly(START.plusHours(11));
+    }
+
+    private void insertBooking(OffsetDateTime startAt, String createdByRole) {
+        jdbcTemplate.update("""
+                INSERT INTO booking (developer_id, created_by_role, event_type_name, start_at, duration_minutes,
+                  company, hr_name, hr_email)
+                VALUES (?, ?, 'Screening', ?, 60, 'Acme', 'Alice', 'alice@example.com')
+                """, developerId, createdByRole, startAt);
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.calendar.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Array;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Seeds a year of calendars for a few hundred developers into a scratch schema and checks that no
+ * repository query plans a sequential scan over the large tables, e.g.
+ * {@code CALENDAR_TEST_DB_URL=jdbc:postgresql://localhost:5432/calendar mvn test}. Queries derived by Spring
+ * Data are written out as the SQL Hibernate issues for them; JDBC adapters share their statements.
+ */
+@EnabledIfEnvironmentVariable(named = "CALENDAR_TEST_DB_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+    private static final String SCHEMA = "query_plan_test";
+    private static final int DEVELOPERS = 200;
+    private static final int DAYS = 365;
+    private static final Set<String> LARGE_TABLES =
+            Set.of("availability_slot", "availability_range", "booking", "notification_outbox", "reminder_dispatch");
+    private static final OffsetDateTime NOW = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JdbcTemplate jdbcTemplate;
+    private UUID developerId;
+    private UUID bookingId;
+
+    @BeforeAll
+    void seed() {
+        String url = System.getenv("CALENDAR_TEST_DB_URL");
+        String username = System.getenv().getOrDefault("CALENDAR_TEST_DB_USER", "calendar");
+        String password = System.getenv().getOrDefault("CALENDAR_TEST_DB_PASSWORD", "calendar");
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, username, password)
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, username, password);
+        dataSource.setSchema(SCHEMA);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.update("""
+                INSERT INTO app_user (role, display_name, email, public_token)
+                SELECT 'DEV', 'Dev ' || n, 'dev' || n || '@example.com', 'token-' || n
+                FROM generate_series(1, ?) AS n
+                """, DEVELOPERS);
+        // sixteen half-hour slots a day between 08:00 and 16:00 over the year around now
+        jdbcTemplate.update("""
+                INSERT INTO availability_slot (developer_id, start_at, duration_minutes)
+                SELECT u.id, ?::timestamptz + make_interval(days => d, hours => 8, mins => 30 * s), 30
+                FROM app_user u, generate_series(0, ?) AS d, generate_series(0, 15) AS s
+                WHERE u.role = 'DEV'
+                """, NOW.minusDays(DAYS / 2), DAYS - 1);
+        // the same free time as one merged range a day
+        jdbcTemplate.update("""
+                INSERT INTO availability_range (developer_id, period)
+                SELECT u.id, tstzrange(?::timestamptz + make_interval(days => d, hours => 8),
+                  ?::timestamptz + make_interval(days => d, hours => 16))
+                FROM app_user u, generate_series(0, ?) AS d
+                WHERE u.role = 'DEV'
+                """, NOW.minusDays(DAYS / 2), NOW.minusDays(DAYS / 2), DAYS - 1);
+        // two bookings a day in the evening, a third of them approved
+        jdbcTemplate.update("""
+                INSERT INTO booking (developer_id, created_by_role, event_type_name, start_at, duration_minutes,
+                  status, company, hr_name, hr_email)
+                SELECT u.id, 'HR', 'Screening', ?::timestamptz + make_interval(days => d, hours => 17 + b), 60,
+                  (ARRAY['NOT_APPROVED', 'APPROVED', 'DECLINED'])[1 + (d + b) % 3]::booking_status,
+                  'Acme', 'HR', 'hr@example.com'
+                FROM app_user u, generate_series(0, ?) AS d, generate_series(0, 1) AS b
+                WHERE u.role = 'DEV'
+                """, NOW.minusDays(DAYS / 2), DAYS - 1);
+        jdbcTemplate.update("""
+                INSERT INTO reminder_dispatch (booking_id, reminder_type, sent_at)
+                SELECT id, t, start_at - interval '1 hour' FROM booking, unnest(ARRAY['HOURS_24', 'HOUR_1']) AS t
+                WHERE status = 'APPROVED' AND start_at < now()
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO notification_outbox (kind, booking_id, channel, status, attempts, next_attempt_at)
+                SELECT 'BOOKING_CREATED', id, 'EMAIL',
+                  CASE WHEN random() < 0.02 THEN 'PENDING' ELSE 'FAILED' END, 10, created_at
+                FROM booking
+                """);
+        jdbcTemplate.execute("ANALYZE");
+
+        developerId = jdbcTemplate.queryForObject(
+                "SELECT id FROM app_user WHERE public_token = 'token-" + DEVELOPERS / 2 + "'", UUID.class);
+        bookingId = jdbcTemplate.queryForObject(
+                "SELECT id FROM booking WHERE developer_id = ? ORDER BY start_at OFFSET 200 LIMIT 1",
+                UUID.class,
+                developerId);
+    }
+
+    Stream<Arguments> repositoryQueries() {
+        OffsetDateTime weekStart = NOW.plusDays(3);
+        OffsetDateTime weekEnd = weekStart.plusDays(7);
+        UUID anyId = UUID.randomUUID();
+        List<Arguments> queries = new ArrayList<>();
+        queries.add(query("AvailabilityReadAdapter.PAGE_SQL",
+                AvailabilityReadAdapter.PAGE_SQL, developerId, weekStart, weekEnd, 501));
+        queries.add(query("AvailabilityReadAdapter.PAGE_AFTER_SQL",
+                AvailabilityReadAdapter.PAGE_AFTER_SQL,
+                developerId, weekStart, weekEnd, weekStart.plusDays(2), weekStart.plusDays(2), anyId, 501));
+        List<UUID> searchedIds = jdbcTemplate.queryForList(
+                "SELECT id FROM app_user WHERE role = 'DEV' ORDER BY id LIMIT 50", UUID.class);
+        Array searched = jdbcTemplate.execute(
+                (ConnectionCallback<Array>) connection -> connection.createArrayOf("uuid", searchedIds.toArray()));
+        queries.add(query("AvailabilityReadAdapter.SLOT_STARTS_SQL",
+                AvailabilityReadAdapter.SLOT_STARTS_SQL, searched, weekStart, weekStart.plusHours(12)));
+        queries.add(query("AvailabilityRangeReadAdapter.PAGE_SQL",
+                AvailabilityRangeReadAdapter.PAGE_SQL, developerId, weekStart, weekEnd, weekStart, weekEnd, 501));
+        queries.add(query("AvailabilityRangeReadAdapter.PAGE_AFTER_SQL",
+                AvailabilityRangeReadAdapter.PAGE_AFTER_SQL,
+                developerId, weekStart, weekEnd, weekStart, weekEnd, weekStart.plusDays(2), 501));
+        queries.add(query("AvailabilityRangeReadAdapter.SLOT_STARTS_SQL",
+                AvailabilityRangeReadAdapter.SLOT_STARTS_SQL,
+                searched, weekStart, weekStart.plusHours(12), weekStart, weekStart.plusHours(12)));
+        queries.add(query("AvailabilityRangeRepositoryAdapter.RANGES_SQL",
+                AvailabilityRangeRepositoryAdapter.RANGES_SQL, developerId, weekStart, weekEnd));
+        queries.add(query("AvailabilityRangeRepositoryAdapter.STREAM_SQL",
+                AvailabilityRangeRepositoryAdapter.STREAM_SQL,
+                developerId, NOW.minusDays(DAYS), NOW.plusDays(DAYS), NOW.minusDays(DAYS), NOW.plusDays(DAYS)));
+        queries.add(query("JpaAvailabilitySlotRepository.deleteRange", """
+                delete from availability_slot where developer_id = ? and start_at >= ? and start_at < ?
+                """, developerId, weekStart.plusHours(9), weekStart.plusHours(10)));
+        queries.add(query("JpaAvailabilitySlotRepository.findStartTimes", """
+                select start_at from availability_slot where developer_id = ? and start_at >= ? and start_at < ?
+                """, developerId, weekStart, weekEnd));
+        queries.add(query("JpaAvailabilitySlotRepository.existsByDeveloperIdAndStartAt", """
+                select id from availability_slot where developer_id = ? and start_at = ? fetch first 1 rows only
+                """, developerId, weekStart.plusHours(9)));
+        queries.add(query("JpaAvailabilitySlotRepository.findByDeveloperIdAndStartAt", """
+                select * from availability_slot where developer_id = ? and start_at = ?
+                """, developerId, weekStart.plusHours(9)));
+        queries.add(query("AvailabilitySlotRepositoryAdapter.STREAM_SQL",
+                AvailabilitySlotRepositoryAdapter.STREAM_SQL, developerId, NOW.minusDays(DAYS), NOW.plusDays(DAYS)));
+        queries.add(query("BookingReadAdapter.PAGE_SQL",
+                BookingReadAdapter.PAGE_SQL, developerId, weekStart, weekEnd, 501));
+        queries.add(query("BookingReadAdapter.PAGE_AFTER_SQL",
+                BookingReadAdapter.PAGE_AFTER_SQL,
+                developerId, weekStart, weekEnd, weekStart.plusDays(2), weekStart.plusDays(2), anyId, 501));
+        queries.add(query("BookingReadAdapter.PUBLIC_PAGE_SQL",
+                BookingReadAdapter.PUBLIC_PAGE_SQL, "HR", developerId, weekStart, weekEnd, 501));
+        queries.add(query("BookingReadAdapter.PUBLIC_PAGE_AFTER_SQL",
+                BookingReadAdapter.PUBLIC_PAGE_AFTER_SQL,
+                "HR", developerId, weekStart, weekEnd, weekStart.plusDays(2), weekStart.plusDays(2), anyId, 501));
+        queries.add(query("JpaBookingRepository.findByIdAndDeveloperId", """
+                select * from booking where id = ? and developer_id = ?
+                """, bookingId, developerId));
+        queries.add(query("JpaBookingRepository.findAllByDeveloperIdAndStatusInAndStartAtBetween", """
+                select * from booking where developer_id = ? and status in ('APPROVED') and start_at between ? and ?
+                """, developerId, weekStart, weekEnd));
+        queries.add(query("JpaBookingRepository.findApprovedAwaitingReminder", """
+                select b.* from booking b
+                where b.status = 'APPROVED'
+                  and b.start_at between ? and ?
+                  and not exists (
+                    select 1 from reminder_dispatch d
+                    where d.booking_id = b.id and d.reminder_type = 'HOURS_24')
+                """, NOW.plusHours(23).plusMinutes(45), NOW.plusHours(24).plusMinutes(20)));
+        queries.add(query("BookingRepositoryAdapter.STREAM_SQL",
+                BookingRepositoryAdapter.STREAM_SQL, developerId, NOW.minusDays(DAYS), NOW.plusDays(DAYS)));
+        queries.add(query("JpaNotificationOutboxRepository.lockDue", """
+                select * from notification_outbox where status = 'PENDING' and next_attempt_at <= ?
+                order by next_attempt_at limit 100 for update skip locked
+                """, NOW));
+        queries.add(query("booking delete cascading to notification_outbox", """
+                select id from notification_outbox where booking_id = ?
+                """, bookingId));
+        queries.add(query("booking delete cascading to reminder_dispatch", """
+                select booking_id from reminder_dispatch where booking_id = ?
+                """, bookingId));
+        queries.add(query("CalendarRetention.compactAvailability", """
+                delete from availability_slot where id in (
+                  select id from availability_slot where developer_id = ? and start_at < ? order by start_at limit 500)
+                returning start_at
+                """, developerId, NOW.minusDays(1)));
+        queries.add(query("CalendarRetention.expireRanges", """
+                delete from availability_range where developer_id = ? and period << tstzrange(?::timestamptz, null)
+                returning lower(period), upper(period)
+                """, developerId, NOW.minusDays(1)));
+        queries.add(query("CalendarRetention.archiveBookings", """
+                delete from booking where id in (
+                  select id from booking where developer_id = ? and start_at < ? order by start_at limit 500)
+                returning *
+                """, developerId, NOW.minusDays(DAYS / 3)));
+        return queries.stream();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void queryAvoidsSequentialScansOnLargeTables(String name, String sql, Object[] parameters) throws Exception {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, parameters);
+
+        List<String> scanned = new ArrayList<>();
+        collectSequentialScans(objectMapper.readTree(plan).get(0).get("Plan"), scanned);
+
+        assertThat(scanned).as("sequential scans in plan:%n%s", plan).isEmpty();
+    }
+
+    private static Arguments query(String name, String sql, Object... parameters) {
+        return Arguments.of(name, sql, parameters);
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> scanned) {
+        String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && LARGE_TABLES.contains(relation)) {
+            scanned.add(relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, scanned);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.calendar.infrastructure.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+import com.example.calendar.application.port.out.NotificationPort;
+import com.example.calendar.application.user.UserService;
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.domain.model.BookingStatus;
+import com.example.calendar.domain.model.ReminderType;
+import com.example.calendar.domain.model.Role;
+import com.example.calendar.domain.model.User;
+import com.example.calendar.domain.repository.BookingRepository;
+import com.example.calendar.infrastructure.event.BookingChangedEvent;
+import com.example.calendar.infrastructure.persistence.repository.ReminderDispatchRepositoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.mockito.invocation.Invocation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Runs several scheduler nodes against one Postgres database, e.g.
+ * {@code CALENDAR_TEST_DB_URL=jdbc:postgresql://localhost:5432/calendar mvn test}. The test migrates and
+ * cleans its own schema, so it never touches the application's tables.
+ */
+@EnabledIfEnvironmentVariable(named = "CALENDAR_TEST_DB_URL", matches = ".+")
+class ReminderSchedulerMultiNodeTest {
+    private static final String SCHEMA = "reminder_multi_node_test";
+    private static final int NODES = 3;
+    private static final int BOOKINGS = 64;
+
+    private JdbcTemplate jdbcTemplate;
+    private Map<UUID, Booking> bookings;
+    private final List<Node> nodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getenv("CALENDAR_TEST_DB_URL");
+        String username = System.getenv().getOrDefault("CALENDAR_TEST_DB_USER", "calendar");
+        String password = System.getenv().getOrDefault("CALENDAR_TEST_DB_PASSWORD", "calendar");
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, username, password)
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, username, password);
+        dataSource.setSchema(SCHEMA);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        bookings = seedApprovedBookings();
+
+        BookingRepository bookingRepository = mock(BookingRepository.class);
+        when(bookingRepository.findApprovedAwaitingReminder(any(), any(), any())).thenAnswer(invocation -> {
+            OffsetDateTime from = invocation.getArgument(1);
+            OffsetDateTime to = invocation.getArgument(2);
+            return bookings.values().stream()
+                    .filter(booking -> !booking.getStartAt().isBefore(from) && !booking.getStartAt().isAfter(to))
+                    .toList();
+        });
+        when(bookingRepository.findById(any())).thenAnswer(invocation ->
+                Optional.ofNullable(bookings.get(invocation.<UUID>getArgument(0))));
+        UserService userService = mock(UserService.class);
+        when(userService.getDeveloper(any())).thenReturn(new User());
+
+        for (int i = 0; i < NODES; i++) {
+            ReminderShardLeases leases = new ReminderShardLeases(jdbcTemplate, "node-" + i, Duration.ofSeconds(30));
+            NotificationPort notificationPort = mock(NotificationPort.class);
+            ReminderScheduler scheduler = new ReminderScheduler(
+                    bookingRepository,
+                    new ReminderDispatchRepositoryAdapter(jdbcTemplate),
+                    leases,
+                    userService,
+                    notificationPort,
+                    Clock.systemUTC(),
+                    new SimpleMeterRegistry(),
+                    Duration.ofMinutes(10),
+                    Duration.ofMinutes(15),
+                    false);
+            nodes.add(new Node(leases, scheduler, notificationPort));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(node -> {
+            node.scheduler().shutdown();
+            node.leases().release();
+        });
+    }
+
+    @Test
+    void shardsArePartitionedEvenlyBetweenNodes() {
+        refreshAll();
+
+        Set<Integer> union = new HashSet<>();
+        for (Node node : nodes) {
+            Set<Integer> owned = node.leases().ownedShards();
+            assertThat(owned).hasSizeBetween(1, (ReminderShardLeases.SHARD_COUNT + NODES - 1) / NODES);
+            for (Integer shard : owned) {
+                assertThat(union.add(shard)).as("shard %d leased twice", shard).isTrue();
+            }
+        }
+        assertThat(union).hasSize(ReminderShardLeases.SHARD_COUNT);
+    }
+
+    @Test
+    void releasedShardsAreTakenOverBySurvivors() {
+        refreshAll();
+        Node leaving = nodes.remove(NODES - 1);
+        leaving.scheduler().shutdown();
+        leaving.leases().release();
+
+        refreshAll();
+
+        Set<Integer> union = nodes.stream()
+                .flatMap(node -> node.leases().ownedShards().stream())
+                .collect(Collectors.toSet());
+        assertThat(union).hasSize(ReminderShardLeases.SHARD_COUNT);
+    }
+
+    @Test
+    void reconcileSplitsRemindersByShardOwner() throws InterruptedException {
+        refreshAll();
+
+        runConcurrently(node -> {
+            node.scheduler().reconcile();
+            return null;
+        });
+        awaitSent(BOOKINGS);
+
+        for (Node node : nodes) {
+            List<Booking> sent = sentBookings(node);
+            assertThat(sent).isNotEmpty();
+            assertThat(sent).allMatch(booking -> node.leases().owns(booking.getDeveloperId()));
+        }
+    }
+
+    @Test
+    void eachReminderIsSentOnceAcrossNodes() throws InterruptedException {
+        refreshAll();
+
+        // every node also sees every booking change, so all of them race for each reminder
+        runConcurrently(node -> {
+            node.scheduler().reconcile();
+            bookings.values().forEach(booking -> node.scheduler().onBookingChanged(new BookingChangedEvent(booking)));
+            return null;
+        });
+        awaitSent(BOOKINGS);
+        Thread.sleep(500);
+
+        List<UUID> sentIds = nodes.stream()
+                .flatMap(node -> sentBookings(node).stream())
+                .map(Booking::getId)
+                .toList();
+        assertThat(sentIds).hasSize(BOOKINGS).doesNotHaveDuplicates();
+        assertThat(jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM reminder_dispatch WHERE reminder_type = ?",
+                        Integer.class,
+                        ReminderType.HOUR_1.name()))
+                .isEqualTo(BOOKINGS);
+    }
+
+    private Map<UUID, Booking> seedApprovedBookings() {
+        // due a minute ago, so the one-hour reminder fires as soon as it is queued
+        OffsetDateTime startAt = OffsetDateTime.now(ZoneOffset.UTC)
+                .plusHours(1)
+                .minusMinutes(1)
+                .truncatedTo(ChronoUnit.SECONDS);
+        List<Booking> seeded = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            UUID developerId = UUID.randomUUID();
+            jdbcTemplate.update(
+                    "INSERT INTO app_user (id, role, display_name, email) VALUES (?, 'DEV', ?, ?)",
+                    developerId, "Dev " + i, "dev" + i + "@example.com");
+            Booking booking = new Booking();
+            booking.setId(UUID.randomUUID());
+            booking.setDeveloperId(developerId);
+            booking.setCreatedByRole(Role.HR);
+            booking.setEventTypeName("Screening");
+            booking.setStartAt(startAt);
+            booking.setDurationMinutes(30);
+            booking.setStatus(BookingStatus.APPROVED);
+            booking.setCompany("Acme");
+            booking.setHrName("HR");
+            booking.setHrEmail("hr@example.com");
+            jdbcTemplate.update("""
+                            INSERT INTO booking (id, developer_id, created_by_role, event_type_name, start_at,
+                              duration_minutes, status, company, hr_name, hr_email)
+                            VALUES (?, ?, 'HR', 'Screening', ?, 30, 'APPROVED', 'Acme', 'HR', 'hr@example.com')
+                            """,
+                    booking.getId(), developerId, startAt);
+            seeded.add(booking);
+        }
+        return seeded.stream().collect(Collectors.toMap(Booking::getId, Function.identity()));
+    }
+
+    private void refreshAll() {
+        // the first round registers every node; later rounds hand shards over until each holds its fair share
+        for (int round = 0; round < 3; round++) {
+            nodes.forEach(node -> node.leases().refresh());
+        }
+    }
+
+    private void runConcurrently(Function<Node, Void> action) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size());
+        CountDownLatch start = new CountDownLatch(1);
+        for (Node node : nodes) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    action.apply(node);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void awaitSent(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (nodes.stream().mapToInt(node -> sentBookings(node).size()).sum() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private List<Booking> sentBookings(Node node) {
+        return mockingDetails(node.notificationPort()).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("sendReminder"))
+                .map(Invocation::getArguments)
+                .map(arguments -> (Booking) arguments[1])
+                .toList();
+    }
+
+    private record Node(ReminderShardLeases leases, ReminderScheduler scheduler, NotificationPort notificationPort) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.calendar.infrastructure.telegram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TelegramClientTest {
+    private static final String OK = "{\"ok\":true,\"result\":{}}";
+
+    private HttpServer server;
+    private final Queue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+    private final List<Long> arrivals = new CopyOnWriteArrayList<>();
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean blockResponses;
+    private TelegramClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/bottest-token/sendMessage", exchange -> {
+            arrivals.add(System.nanoTime());
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            if (blockResponses) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            StubResponse response = responses.poll();
+            if (response == null) {
+                response = new StubResponse(200, OK);
+            }
+            byte[] payload = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), payload.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(payload);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() throws InterruptedException {
+        release.countDown();
+        if (client != null) {
+            client.shutdown();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void sendMessagePostsJsonPayload() throws Exception {
+        client = newClient(properties());
+
+        client.sendMessage("42", "Hello \"world\"").get(5, TimeUnit.SECONDS);
+
+        assertThat(bodies).hasSize(1);
+        assertThat(new ObjectMapper().readTree(bodies.get(0)).path("text").asText()).isEqualTo("Hello \"world\"");
+        assertThat(new ObjectMapper().readTree(bodies.get(0)).path("chat_id").asText()).isEqualTo("42");
+    }
+
+    @Test
+    void sendMessageRetriesAfterTooManyRequestsHonoringRetryAfter() throws Exception {
+        client = newClient(properties());
+        responses.add(new StubResponse(429,
+                "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 1\","
+                        + "\"parameters\":{\"retry_after\":1}}"));
+
+        client.sendMessage("42", "Hello").get(5, TimeUnit.SECONDS);
+
+        assertThat(arrivals).hasSize(2);
+        assertThat(arrivals.get(1) - arrivals.get(0)).isGreaterThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void sendMessageOnceLeavesTooManyRequestsToTheCaller() {
+        client = newClient(properties());
+        responses.add(new StubResponse(429,
+                "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 30\","
+                        + "\"parameters\":{\"retry_after\":30}}"));
+
+        CompletableFuture<Void> result = client.sendMessageOnce("42", "Hello");
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("HTTP 429");
+        assertThat(arrivals).hasSize(1);
+    }
+
+    @Test
+    void sendMessageFailsWithoutRetryOnClientError() {
+        client = newClient(properties());
+        responses.add(new StubResponse(400, "{\"ok\":false,\"error_code\":400,\"description\":\"Bad Request\"}"));
+
+        CompletableFuture<Void> result = client.sendMessage("42", "Hello");
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("HTTP 400");
+        assertThat(arrivals).hasSize(1);
+    }
+
+    @Test
+    void sendMessageSpacesMessagesToTheSameChat() throws Exception {
+        TelegramProperties properties = properties();
+        properties.setPerChatPerSecond(4);
+        client = newClient(properties);
+
+        CompletableFuture.allOf(
+                        client.sendMessage("42", "one"),
+                        client.sendMessage("42", "two"),
+                        client.sendMessage("42", "three"))
+                .get(5, TimeUnit.SECONDS);
+
+        List<Long> sorted = arrivals.stream().sorted().toList();
+        assertThat(sorted.get(2) - sorted.get(0)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(450));
+    }
+
+    @Test
+    void sendMessageRejectsWhenQueueIsFull() throws Exception {
+        TelegramProperties properties = properties();
+        properties.setQueueCapacity(1);
+        client = newClient(properties);
+        blockResponses = true;
+
+        CompletableFuture<Void> first = client.sendMessage("42", "one");
+        CompletableFuture<Void> second = client.sendMessage("43", "two");
+
+        assertThat(second).isCompletedExceptionally();
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        client.sendMessage("43", "three").get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void sendMessageSkipsWhenBotTokenMissing() throws Exception {
+        TelegramProperties properties = properties();
+        properties.setBotToken("");
+        client = newClient(properties);
+
+        client.sendMessage("42", "Hello").get(1, TimeUnit.SECONDS);
+
+        assertThat(arrivals).isEmpty();
+    }
+
+    private TelegramProperties properties() {
+        TelegramProperties properties = new TelegramProperties();
+        properties.setBotToken("test-token");
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setConnectTimeout(Duration.ofSeconds(1));
+        properties.setReadTimeout(Duration.ofSeconds(5));
+        properties.setPerChatPerSecond(100);
+        return properties;
+    }
+
+    private TelegramClient newClient(TelegramProperties properties) {
+        return new TelegramClient(properties, new ObjectMapper());
+    }
+
+    private record StubResponse(int status, String body) {
+    }
+}
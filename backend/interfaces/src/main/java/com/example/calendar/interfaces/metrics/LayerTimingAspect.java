@@ -0,0 +1,62 @@
+package com.example.calendar.interfaces.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Times every controller endpoint, application service method and repository adapter call as
+ * {@code calendar.layer}, tagged with the layer, class, method and outcome, so latency percentiles can be
+ * compared per layer.
+ */
+@Aspect
+@Component
+public class LayerTimingAspect {
+    static final String METRIC = "calendar.layer";
+
+    private final MeterRegistry meterRegistry;
+
+    public LayerTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.example.calendar.interfaces.web.controller..*)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("controller", joinPoint);
+    }
+
+    @Around("execution(public * com.example.calendar.application..*Service+.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("service", joinPoint);
+    }
+
+    @Around("execution(public * com.example.calendar.domain.repository.*Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("repository", joinPoint);
+    }
+
+    private Object time(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = "failure";
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .tag("layer", layer)
+                    .tag("class", ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
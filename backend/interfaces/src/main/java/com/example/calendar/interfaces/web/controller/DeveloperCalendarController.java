@@ -2,19 +2,32 @@ package com.example.calendar.interfaces.web.controller;
 
 import com.example.calendar.application.availability.AvailabilityService;
 import com.example.calendar.application.booking.BookingService;
+import com.example.calendar.application.dto.AvailabilityRuleRequest;
+import com.example.calendar.application.dto.AvailabilityRuleResponse;
 import com.example.calendar.application.dto.AvailabilitySlotDto;
+import com.example.calendar.application.dto.BookingActionRequest;
 import com.example.calendar.application.dto.BookingResponse;
 import com.example.calendar.application.dto.BulkAvailabilityRequest;
+import com.example.calendar.application.dto.BulkDeclineRequest;
 import com.example.calendar.application.dto.CreateEventTypeRequest;
 import com.example.calendar.application.dto.EventTypeResponse;
 import com.example.calendar.application.dto.SingleAvailabilityRequest;
 import com.example.calendar.application.eventtype.EventTypeService;
 import com.example.calendar.application.user.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -27,6 +40,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/dev")
@@ -36,16 +50,23 @@ public class DeveloperCalendarController {
     private final BookingService bookingService;
     private final EventTypeService eventTypeService;
     private final UserService userService;
+    private final ObjectWriter ndjsonWriter;
 
     public DeveloperCalendarController(
             AvailabilityService availabilityService,
             BookingService bookingService,
             EventTypeService eventTypeService,
-            UserService userService) {
+            UserService userService,
+            ObjectMapper objectMapper) {
         this.availabilityService = availabilityService;
         this.bookingService = bookingService;
         this.eventTypeService = eventTypeService;
         this.userService = userService;
+        // rows are separated by hand, and the servlet buffer decides when to flush
+        this.ndjsonWriter = objectMapper.writer()
+                .withRootValueSeparator((String) null)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     @GetMapping("/{developerId}/event-types")
@@ -75,12 +96,25 @@ public class DeveloperCalendarController {
 
     @GetMapping("/{developerId}/availability")
     public List<AvailabilitySlotDto> listAvailability(
+            @PathVariable UUID developerId,
+            @RequestHeader("X-Dev-Id") String devHeader,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(value = "pageToken", required = false) String pageToken,
+            @RequestParam(value = "pageSize", required = false) Integer pageSize,
+            HttpServletResponse response) {
+        requireDeveloperHeader(developerId, devHeader);
+        return PageHeaders.unwrap(availabilityService.list(developerId, from, to, pageToken, pageSize), response);
+    }
+
+    @GetMapping(path = "/{developerId}/availability/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportAvailability(
             @PathVariable UUID developerId,
             @RequestHeader("X-Dev-Id") String devHeader,
             @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
             @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
         requireDeveloperHeader(developerId, devHeader);
-        return availabilityService.list(developerId, from, to);
+        return ndjson(sink -> availabilityService.export(developerId, from, to, sink::accept));
     }
 
     @DeleteMapping("/{developerId}/availability")
@@ -102,14 +136,52 @@ public class DeveloperCalendarController {
         return availabilityService.bulkAdd(developerId, request);
     }
 
+    @GetMapping("/{developerId}/availability/rules")
+    public List<AvailabilityRuleResponse> availabilityRules(
+            @PathVariable UUID developerId, @RequestHeader("X-Dev-Id") String devHeader) {
+        requireDeveloperHeader(developerId, devHeader);
+        return availabilityService.listRules(developerId);
+    }
+
+    @PostMapping("/{developerId}/availability/rules")
+    public AvailabilityRuleResponse addAvailabilityRule(
+            @PathVariable UUID developerId,
+            @RequestHeader("X-Dev-Id") String devHeader,
+            @Validated @RequestBody AvailabilityRuleRequest request) {
+        requireDeveloperHeader(developerId, devHeader);
+        return availabilityService.addRule(developerId, request);
+    }
+
+    @DeleteMapping("/{developerId}/availability/rules/{ruleId}")
+    public ResponseEntity<Void> deleteAvailabilityRule(
+            @PathVariable UUID developerId, @PathVariable UUID ruleId, @RequestHeader("X-Dev-Id") String devHeader) {
+        requireDeveloperHeader(developerId, devHeader);
+        availabilityService.removeRule(developerId, ruleId);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/{developerId}/bookings")
     public List<BookingResponse> developerBookings(
+            @PathVariable UUID developerId,
+            @RequestHeader("X-Dev-Id") String devHeader,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(value = "pageToken", required = false) String pageToken,
+            @RequestParam(value = "pageSize", required = false) Integer pageSize,
+            HttpServletResponse response) {
+        requireDeveloperHeader(developerId, devHeader);
+        return PageHeaders.unwrap(
+                bookingService.getDeveloperBookings(developerId, from, to, pageToken, pageSize), response);
+    }
+
+    @GetMapping(path = "/{developerId}/bookings/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportBookings(
             @PathVariable UUID developerId,
             @RequestHeader("X-Dev-Id") String devHeader,
             @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
             @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
         requireDeveloperHeader(developerId, devHeader);
-        return bookingService.getDeveloperBookings(developerId, from, to);
+        return ndjson(sink -> bookingService.exportDeveloperBookings(developerId, from, to, sink::accept));
     }
 
     @PostMapping("/{developerId}/bookings/{bookingId}/approve")
@@ -139,6 +211,45 @@ public class DeveloperCalendarController {
         return bookingService.decline(developerId, bookingId);
     }
 
+    @PostMapping("/{developerId}/bookings/decline")
+    public List<BookingResponse> declineAll(
+            @PathVariable UUID developerId,
+            @RequestHeader("X-Dev-Id") String devHeader,
+            @RequestBody BulkDeclineRequest request) {
+        requireDeveloperHeader(developerId, devHeader);
+        return bookingService.declineAll(developerId, request);
+    }
+
+    @PostMapping("/{developerId}/bookings/actions")
+    public List<BookingResponse> applyAll(
+            @PathVariable UUID developerId,
+            @RequestHeader("X-Dev-Id") String devHeader,
+            @RequestBody List<BookingActionRequest> actions) {
+        requireDeveloperHeader(developerId, devHeader);
+        return bookingService.applyAll(developerId, actions);
+    }
+
+    /**
+     * Writes every row the export hands over as one JSON line straight to the response, so memory stays
+     * flat however long the range is.
+     */
+    private StreamingResponseBody ndjson(Consumer<Consumer<Object>> export) {
+        return out -> {
+            try (JsonGenerator generator = ndjsonWriter.createGenerator(out)) {
+                export.accept(row -> {
+                    try {
+                        ndjsonWriter.writeValue(generator, row);
+                        generator.writeRaw('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        };
+    }
+
     private void requireDeveloperHeader(UUID developerId, String header) {
         if (header == null) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Missing X-Dev-Id header");
@@ -0,0 +1,24 @@
+package com.example.calendar.interfaces.web.controller;
+
+import com.example.calendar.application.dto.FreeSlotSearchRequest;
+import com.example.calendar.application.dto.FreeSlotSearchResponse;
+import com.example.calendar.application.search.FreeSlotSearchService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+public class FreeSlotSearchController {
+    private final FreeSlotSearchService freeSlotSearchService;
+
+    public FreeSlotSearchController(FreeSlotSearchService freeSlotSearchService) {
+        this.freeSlotSearchService = freeSlotSearchService;
+    }
+
+    @PostMapping("/free-slots")
+    public FreeSlotSearchResponse freeSlots(@RequestBody FreeSlotSearchRequest request) {
+        return freeSlotSearchService.search(request);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.calendar.interfaces.web.controller;
+
+import com.example.calendar.application.dto.Page;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+
+/** List endpoints keep their array bodies; the continuation token travels in a header. */
+final class PageHeaders {
+    static final String NEXT_PAGE_TOKEN = "X-Next-Page-Token";
+
+    private PageHeaders() {
+    }
+
+    static <T> List<T> unwrap(Page<T> page, HttpServletResponse response) {
+        if (page.nextPageToken() != null && response != null) {
+            response.setHeader(NEXT_PAGE_TOKEN, page.nextPageToken());
+        }
+        return page.items();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.calendar.interfaces.web.controller;
 
 import com.example.calendar.application.availability.AvailabilityService;
 import com.example.calendar.application.booking.BookingService;
+import com.example.calendar.application.calendar.CalendarVersionService;
 import com.example.calendar.application.dto.CreatePublicBookingRequest;
 import com.example.calendar.application.dto.EventTypeResponse;
 import com.example.calendar.application.dto.PublicAvailabilityResponse;
@@ -10,10 +11,14 @@ import com.example.calendar.application.eventtype.EventTypeService;
 import com.example.calendar.application.user.UserService;
 import com.example.calendar.domain.model.Role;
 import com.example.calendar.domain.model.User;
+import com.example.calendar.interfaces.web.stream.CalendarStreamHub;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Locale;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,6 +28,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/public")
@@ -32,25 +39,44 @@ public class PublicCalendarController {
     private final AvailabilityService availabilityService;
     private final BookingService bookingService;
     private final EventTypeService eventTypeService;
+    private final CalendarVersionService calendarVersionService;
+    private final CalendarStreamHub calendarStreamHub;
 
     public PublicCalendarController(
             UserService userService,
             AvailabilityService availabilityService,
             BookingService bookingService,
-            EventTypeService eventTypeService) {
+            EventTypeService eventTypeService,
+            CalendarVersionService calendarVersionService,
+            CalendarStreamHub calendarStreamHub) {
         this.userService = userService;
         this.availabilityService = availabilityService;
         this.bookingService = bookingService;
         this.eventTypeService = eventTypeService;
+        this.calendarVersionService = calendarVersionService;
+        this.calendarStreamHub = calendarStreamHub;
     }
 
     @GetMapping("/{token}/availability")
-    public PublicAvailabilityResponse availability(
+    public Object availability(
             @PathVariable String token,
             @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
-            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(value = "format", defaultValue = "slots") String format,
+            @RequestParam(value = "pageToken", required = false) String pageToken,
+            @RequestParam(value = "pageSize", required = false) Integer pageSize,
+            ServletWebRequest request) {
         User developer = userService.getDeveloperByToken(token);
-        return new PublicAvailabilityResponse(availabilityService.list(developer.getId(), from, to));
+        if (notModified(developer, request)) {
+            return null;
+        }
+        return switch (format.trim().toLowerCase(Locale.ROOT)) {
+            case "slots" -> new PublicAvailabilityResponse(PageHeaders.unwrap(
+                    availabilityService.list(developer.getId(), from, to, pageToken, pageSize), request.getResponse()));
+            case "ranges" -> availabilityService.listRanges(developer.getId(), from, to);
+            case "bitmask" -> availabilityService.listBitmask(developer.getId(), from, to);
+            default -> throw new IllegalArgumentException("Unknown availability format: " + format);
+        };
     }
 
     @GetMapping("/{token}/bookings")
@@ -58,10 +84,18 @@ public class PublicCalendarController {
             @PathVariable String token,
             @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
             @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
-            @RequestParam(value = "asRole", required = false) String asRole) {
+            @RequestParam(value = "asRole", required = false) String asRole,
+            @RequestParam(value = "pageToken", required = false) String pageToken,
+            @RequestParam(value = "pageSize", required = false) Integer pageSize,
+            ServletWebRequest request) {
         User developer = userService.getDeveloperByToken(token);
         Role viewer = parseViewerRole(asRole);
-        return bookingService.getPublicBookings(developer.getId(), from, to, viewer);
+        if (notModified(developer, request)) {
+            return null;
+        }
+        return PageHeaders.unwrap(
+                bookingService.getPublicBookings(developer.getId(), from, to, viewer, pageToken, pageSize),
+                request.getResponse());
     }
 
     @PostMapping("/{token}/bookings")
@@ -71,12 +105,31 @@ public class PublicCalendarController {
         return ResponseEntity.ok(bookingService.createPublicBooking(developer, request));
     }
 
+    @GetMapping(path = "/{token}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable String token) {
+        User developer = userService.getDeveloperByToken(token);
+        return calendarStreamHub.subscribe(developer.getId());
+    }
+
     @GetMapping("/{token}/event-types")
     public List<EventTypeResponse> publicEventTypes(@PathVariable String token) {
         User developer = userService.getDeveloperByToken(token);
         return eventTypeService.list(developer.getId());
     }
 
+    /**
+     * Sets the calendar version as a strong ETag and reports whether the client's copy is current. The
+     * version is read before the data, so a response never carries a version newer than its content.
+     * {@code no-cache} lets browsers keep the body and revalidate it instead of refetching.
+     */
+    private boolean notModified(User developer, ServletWebRequest request) {
+        long version = calendarVersionService.currentVersion(developer.getId());
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+        return request.checkNotModified("\"" + version + "\"");
+    }
+
     private Role parseViewerRole(String raw) {
         if (raw == null) {
             return null;
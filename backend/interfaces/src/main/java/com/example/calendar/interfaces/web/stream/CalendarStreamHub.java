@@ -0,0 +1,197 @@
+package com.example.calendar.interfaces.web.stream;
+
+import com.example.calendar.application.dto.PublicBookingResponse;
+import com.example.calendar.domain.model.Booking;
+import com.example.calendar.infrastructure.event.AvailabilityChangedEvent;
+import com.example.calendar.infrastructure.event.BookingChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans committed calendar changes out to the public pages subscribed to a developer. Idle subscribers only
+ * hold an async servlet response, no thread; every change is serialized once and written to each
+ * subscriber from its own queue, drained on a virtual thread so one slow client never delays the others.
+ * Changes made on another backend instance are not seen here, so clients refetch the full state whenever
+ * they (re)connect.
+ */
+@Component
+public class CalendarStreamHub {
+    private static final Logger log = LoggerFactory.getLogger(CalendarStreamHub.class);
+    private static final int MAX_QUEUED_EVENTS = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CalendarStreamHub(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${calendar.stream.timeout:PT30M}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        meterRegistry.gauge("calendar.stream.subscribers", subscriberCount);
+    }
+
+    public SseEmitter subscribe(UUID developerId) {
+        return register(developerId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter register(UUID developerId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(developerId, emitter);
+        subscribers.compute(developerId, (ignored, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        subscriberCount.incrementAndGet();
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(ignored -> remove(subscriber));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        if (!event.added().isEmpty()) {
+            publish(event.developerId(), "slots-added", new SlotsDelta(event.added()));
+        }
+        if (!event.removed().isEmpty()) {
+            publish(event.developerId(), "slots-removed", new SlotsDelta(event.removed()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        Booking booking = event.booking();
+        // the stream is anonymous, so bookings go out the way the public list shows them to unknown viewers
+        PublicBookingResponse delta = new PublicBookingResponse(
+                booking.getId(),
+                booking.getStartAt(),
+                booking.getDurationMinutes(),
+                booking.getStatus(),
+                null,
+                null,
+                null,
+                null,
+                null,
+                booking.getCreatedByRole().name(),
+                true);
+        publish(booking.getDeveloperId(), "booking-status", delta);
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.stream.heartbeat:PT25S}")
+    public void heartbeat() {
+        // keeps proxies from closing idle connections and reveals clients that went away
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.enqueue(ping)));
+    }
+
+    private void publish(UUID developerId, String name, Object payload) {
+        Set<Subscriber> targets = subscribers.get(developerId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            log.warn("Failed to serialize {} event for developer {}: {}", name, developerId, ex.getMessage());
+            return;
+        }
+        // built once: the frames are immutable and shared by every subscriber
+        Set<ResponseBodyEmitter.DataWithMediaType> event =
+                SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON).build();
+        targets.forEach(subscriber -> subscriber.enqueue(event));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.developerId, (ignored, set) -> {
+            if (set.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    private record SlotsDelta(List<OffsetDateTime> slots) {
+    }
+
+    private final class Subscriber {
+        private final UUID developerId;
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(UUID developerId, SseEmitter emitter) {
+            this.developerId = developerId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (queued.incrementAndGet() > MAX_QUEUED_EVENTS) {
+                // too far behind to catch up; the client reconnects and refetches
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            queue.add(event);
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while ((event = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException ex) {
+                        remove(this);
+                        emitter.completeWithError(ex);
+                        queue.clear();
+                        return;
+                    }
+                }
+                draining.set(false);
+                // an event queued after the last poll but before the flag was cleared is picked up here
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
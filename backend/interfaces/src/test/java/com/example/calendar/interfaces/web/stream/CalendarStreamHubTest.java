@@ -0,0 +1,213 @@
+package com.example.calendar.interfaces.web.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.calendar.infrastructure.event.AvailabilityChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class CalendarStreamHubTest {
+    private static final long TIMEOUT_MILLIS = 2000;
+    private static final OffsetDateTime SLOT = OffsetDateTime.of(2025, 1, 2, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CalendarStreamHub hub = new CalendarStreamHub(objectMapper(), meterRegistry, Duration.ofMinutes(30));
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void deliversChangesAfterCommitToTheDevelopersSubscribersOnly() throws InterruptedException {
+        UUID developerId = UUID.randomUUID();
+        RecordingEmitter subscriber = new RecordingEmitter();
+        RecordingEmitter otherDeveloper = new RecordingEmitter();
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(CalendarStreamHub.class, () -> hub);
+            context.register(TransactionConfig.class);
+            context.refresh();
+            hub.register(developerId, subscriber);
+            hub.register(UUID.randomUUID(), otherDeveloper);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(
+                    context.getBean(PlatformTransactionManager.class));
+
+            transactionTemplate.executeWithoutResult(status -> {
+                context.publishEvent(new AvailabilityChangedEvent(developerId, List.of(SLOT), List.of()));
+                assertThat(subscriber.sent).isEmpty();
+            });
+
+            String event = subscriber.sent.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            assertThat(event).contains("event:slots-added").contains("2025-01-02T10:00:00Z");
+            assertThat(otherDeveloper.sent.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        }
+    }
+
+    @Test
+    void changesRolledBackAreNeverSent() throws InterruptedException {
+        UUID developerId = UUID.randomUUID();
+        RecordingEmitter subscriber = new RecordingEmitter();
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(CalendarStreamHub.class, () -> hub);
+            context.register(TransactionConfig.class);
+            context.refresh();
+            hub.register(developerId, subscriber);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(
+                    context.getBean(PlatformTransactionManager.class));
+
+            transactionTemplate.executeWithoutResult(status -> {
+                context.publishEvent(new AvailabilityChangedEvent(developerId, List.of(), List.of(SLOT)));
+                status.setRollbackOnly();
+            });
+
+            assertThat(subscriber.sent.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        }
+    }
+
+    @Test
+    void aSubscriberTooFarBehindIsCompletedAndDropped() {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter(release, null);
+        hub.register(UUID.randomUUID(), stalled);
+        assertThat(subscribers()).isEqualTo(1);
+
+        // the first ping blocks the sender, the rest pile up in the subscriber's queue
+        for (int i = 0; i < 258; i++) {
+            hub.heartbeat();
+        }
+
+        assertThat(stalled.completed).isTrue();
+        assertThat(subscribers()).isZero();
+        release.countDown();
+    }
+
+    @Test
+    void aFailedHeartbeatRemovesTheSubscriber() throws InterruptedException {
+        RecordingEmitter gone = new RecordingEmitter(null, new IOException("Broken pipe"));
+        hub.register(UUID.randomUUID(), gone);
+
+        hub.heartbeat();
+
+        assertThat(gone.failed.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(gone.error).hasMessage("Broken pipe");
+        assertThat(subscribers()).isZero();
+        hub.heartbeat();
+        assertThat(gone.sent.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(gone.attempts).hasValue(1);
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("calendar.stream.subscribers").gauge().value();
+    }
+
+    private static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TransactionConfig {
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new NoopTransactionManager();
+        }
+    }
+
+    /** Runs the synchronization callbacks of a transaction without any resource behind it. */
+    private static final class NoopTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    /** Stands in for the servlet response: records frames instead of writing them. */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final CountDownLatch failed = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private final IOException failure;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        private RecordingEmitter() {
+            this(null, null);
+        }
+
+        private RecordingEmitter(CountDownLatch release, IOException failure) {
+            this.release = release;
+            this.failure = failure;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            attempts.incrementAndGet();
+            if (release != null) {
+                try {
+                    release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            sent.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            error = ex;
+            failed.countDown();
+        }
+    }
+}